@@ -0,0 +1,30 @@
+package benchmark;
+
+import factory.ShippingStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a busca da instância compartilhada com a criação de uma nova estratégia a cada chamada.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FactoryBenchmark {
+
+    @Param({"ECONOMY_SAVER", "HYPER_SPEED", "STORE_PICKUP"})
+    public ShippingType shippingType;
+
+    @Benchmark
+    public ShippingStrategy getStrategy() {
+        return ShippingStrategyFactory.getStrategy(shippingType);
+    }
+
+    @Benchmark
+    public ShippingStrategy createStrategy() {
+        return ShippingStrategyFactory.createStrategy(shippingType);
+    }
+}
@@ -0,0 +1,52 @@
+package benchmark;
+
+import formula.FormulaStrategy;
+import models.Order;
+import models.Parcel;
+import org.openjdk.jmh.annotations.*;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a regra do HyperSpeed escrita em Java com a mesma regra compilada a partir de uma fórmula.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FormulaBenchmark {
+    private static final int ORDER_COUNT = 1024;
+
+    private ShippingStrategy hardcoded;
+    private ShippingStrategy formula;
+    private Parcel[] parcels;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hardcoded = new HyperSpeedStrategy();
+        formula = new FormulaStrategy("max(volume / 139, weight) * 12");
+        parcels = new Parcel[ORDER_COUNT];
+        Order[] orders = OrderDistribution.MIXED.generate(ORDER_COUNT, 42);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            parcels[i] = orders[i].getParcel();
+        }
+    }
+
+    @Benchmark
+    public long hardcoded() {
+        return hardcoded.calculateShippingCostMinor(nextParcel());
+    }
+
+    @Benchmark
+    public long formula() {
+        return formula.calculateShippingCostMinor(nextParcel());
+    }
+
+    private Parcel nextParcel() {
+        Parcel parcel = parcels[next];
+        next = (next + 1) & (ORDER_COUNT - 1);
+        return parcel;
+    }
+}
@@ -0,0 +1,78 @@
+package benchmark;
+
+import models.Order;
+import models.Parcel;
+import org.openjdk.jmh.annotations.*;
+import rates.RateTable;
+import strategy.HyperSpeedBatchKernel;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o HyperSpeed pedido a pedido com o kernel em lote escalar e vetorial, sobre as mesmas medidas.<br><br>
+ * Os resultados são por lote: divida pelo {@code size} para obter o custo por pedido.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HyperSpeedKernelBenchmark {
+    private static final double BASE_RATE = RateTable.defaults().get(ShippingType.HYPER_SPEED).getBracket(0).ratePerUnit();
+    private static final double DIVISOR = RateTable.defaults().get(ShippingType.HYPER_SPEED).getDivisor();
+
+    @Param({"1024", "65536"})
+    public int size;
+
+    @Param({"MIXED", "BULKY"})
+    public OrderDistribution distribution;
+
+    private final HyperSpeedStrategy strategy = new HyperSpeedStrategy();
+    private Parcel[] parcels;
+    private double[] weights;
+    private double[] heights;
+    private double[] widths;
+    private double[] lengths;
+    private long[] costs;
+
+    @Setup
+    public void setUp() {
+        Order[] orders = distribution.generate(size, 42);
+        parcels = new Parcel[size];
+        weights = new double[size];
+        heights = new double[size];
+        widths = new double[size];
+        lengths = new double[size];
+        costs = new long[size];
+        for (int i = 0; i < size; i++) {
+            parcels[i] = orders[i].getParcel();
+            weights[i] = parcels[i].weight();
+            heights[i] = parcels[i].height();
+            widths[i] = parcels[i].width();
+            lengths[i] = parcels[i].length();
+        }
+        if (!HyperSpeedBatchKernel.isVectorAvailable()) {
+            throw new IllegalStateException("Execute com --add-modules jdk.incubator.vector");
+        }
+    }
+
+    @Benchmark
+    public long[] perOrder() {
+        for (int i = 0; i < size; i++) {
+            costs[i] = strategy.calculateShippingCostMinor(parcels[i]);
+        }
+        return costs;
+    }
+
+    @Benchmark
+    public long[] scalarBatch() {
+        HyperSpeedBatchKernel.calculateScalar(BASE_RATE, DIVISOR, weights, heights, widths, lengths, costs);
+        return costs;
+    }
+
+    @Benchmark
+    public long[] vectorBatch() {
+        HyperSpeedBatchKernel.calculateVector(BASE_RATE, DIVISOR, weights, heights, widths, lengths, costs);
+        return costs;
+    }
+}
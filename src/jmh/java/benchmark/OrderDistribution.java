@@ -0,0 +1,56 @@
+package benchmark;
+
+import models.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Distribuições de tamanho de pedido usadas como parâmetro dos benchmarks.<br><br>
+ * Os pedidos são gerados com semente fixa para que execuções diferentes meçam a mesma carga.
+ */
+public enum OrderDistribution {
+    /**
+     * Pacotes pequenos e leves, onde o peso real prevalece e o Economy fica no custo base.
+     */
+    SMALL(0.1, 10, 1, 10),
+    /**
+     * Mistura do catálogo, cruzando os limites de peso e de peso volumétrico.
+     */
+    MIXED(0.1, 60, 1, 40),
+    /**
+     * Pacotes volumosos, onde o peso volumétrico prevalece.
+     */
+    BULKY(1, 30, 20, 60);
+
+    private final double minWeight;
+    private final double maxWeight;
+    private final double minDimension;
+    private final double maxDimension;
+
+    OrderDistribution(double minWeight, double maxWeight, double minDimension, double maxDimension) {
+        this.minWeight = minWeight;
+        this.maxWeight = maxWeight;
+        this.minDimension = minDimension;
+        this.maxDimension = maxDimension;
+    }
+
+    public Order[] generate(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime dateTime = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Order[] orders = new Order[count];
+
+        for (int i = 0; i < count; i++) {
+            orders[i] = new Order(
+                    random.nextDouble(minWeight, maxWeight),
+                    random.nextDouble(minDimension, maxDimension),
+                    random.nextDouble(minDimension, maxDimension),
+                    random.nextDouble(minDimension, maxDimension),
+                    BigDecimal.valueOf(random.nextInt(10, 5_000)),
+                    dateTime
+            );
+        }
+        return orders;
+    }
+}
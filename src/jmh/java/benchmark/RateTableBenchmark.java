@@ -0,0 +1,57 @@
+package benchmark;
+
+import factory.ShippingStrategyFactory;
+import models.Order;
+import models.Parcel;
+import org.openjdk.jmh.annotations.*;
+import rates.RateTable;
+import rates.RateTableStrategy;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara as regras fixas no código com as mesmas regras carregadas da tabela de tarifas padrão.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RateTableBenchmark {
+    private static final int ORDER_COUNT = 1024;
+
+    @Param({"ECONOMY_SAVER", "HYPER_SPEED"})
+    public ShippingType shippingType;
+
+    private ShippingStrategy hardcoded;
+    private ShippingStrategy tableDriven;
+    private Parcel[] parcels;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        hardcoded = ShippingStrategyFactory.getStrategy(shippingType);
+        tableDriven = new RateTableStrategy(RateTable.defaults().get(shippingType));
+        parcels = new Parcel[ORDER_COUNT];
+        Order[] orders = OrderDistribution.MIXED.generate(ORDER_COUNT, 42);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            parcels[i] = orders[i].getParcel();
+        }
+    }
+
+    @Benchmark
+    public long hardcoded() {
+        return hardcoded.calculateShippingCostMinor(nextParcel());
+    }
+
+    @Benchmark
+    public long tableDriven() {
+        return tableDriven.calculateShippingCostMinor(nextParcel());
+    }
+
+    private Parcel nextParcel() {
+        Parcel parcel = parcels[next];
+        next = (next + 1) & (ORDER_COUNT - 1);
+        return parcel;
+    }
+}
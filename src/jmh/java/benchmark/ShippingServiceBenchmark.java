@@ -0,0 +1,73 @@
+package benchmark;
+
+import factory.ShippingStrategyFactory;
+import models.Order;
+import org.openjdk.jmh.annotations.*;
+import services.ShippingQuotes;
+import services.ShippingService;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o fluxo completo do {@link ShippingService}: cotação unitária despachada por tipo, em uma
+ * e em várias threads compartilhando a mesma instância, e cotação em lote.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShippingServiceBenchmark {
+    private static final int ORDER_COUNT = 1024;
+
+    @Param({"ECONOMY_SAVER", "HYPER_SPEED"})
+    public ShippingType shippingType;
+
+    @Param({"SMALL", "MIXED", "BULKY"})
+    public OrderDistribution distribution;
+
+    private ShippingService service;
+    private Order[] orders;
+
+    @Setup
+    public void setUp() {
+        service = new ShippingService(ShippingStrategyFactory.getRegistry());
+        orders = distribution.generate(ORDER_COUNT, 42);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        Order next(Order[] orders) {
+            Order order = orders[next];
+            next = (next + 1) & (ORDER_COUNT - 1);
+            return order;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public BigDecimal singleThreaded(Cursor cursor) {
+        return service.calculateShippingCost(shippingType, cursor.next(orders));
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public BigDecimal multiThreaded(Cursor cursor) {
+        return service.calculateShippingCost(shippingType, cursor.next(orders));
+    }
+
+    @Benchmark
+    @Threads(1)
+    @OperationsPerInvocation(ORDER_COUNT)
+    public BigDecimal[] batch() {
+        return service.calculateShippingCosts(shippingType, orders);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public ShippingQuotes quoteAllOptions(Cursor cursor) {
+        return service.quoteAllOptions(cursor.next(orders));
+    }
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import factory.ShippingStrategyFactory;
+import models.Order;
+import notification.AsyncNotifier;
+import notification.BackpressurePolicy;
+import org.openjdk.jmh.annotations.*;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+import strategy.StorePickupStrategy;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo de cada implementação de {@link ShippingStrategy}, pela API com {@link BigDecimal}
+ * e pelo caminho primitivo em centavos.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StrategyBenchmark {
+    private static final int ORDER_COUNT = 1024;
+
+    @Param({"ECONOMY_SAVER", "HYPER_SPEED", "STORE_PICKUP"})
+    public ShippingType shippingType;
+
+    @Param({"SMALL", "MIXED", "BULKY"})
+    public OrderDistribution distribution;
+
+    private ShippingStrategy strategy;
+    private AsyncNotifier notifier;
+    private Order[] orders;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        if (shippingType == ShippingType.STORE_PICKUP) {
+            // Destino descartável: mede apenas o custo de enfileirar a notificação
+            notifier = new AsyncNotifier(batch -> { }, AsyncNotifier.DEFAULT_CAPACITY,
+                    AsyncNotifier.DEFAULT_MAX_BATCH_SIZE, BackpressurePolicy.DROP_NEWEST);
+            strategy = new StorePickupStrategy(notifier);
+        } else {
+            strategy = ShippingStrategyFactory.getStrategy(shippingType);
+        }
+        orders = distribution.generate(ORDER_COUNT, 42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (notifier != null) {
+            notifier.close();
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateShippingCost() {
+        return strategy.calculateShippingCost(nextOrder());
+    }
+
+    @Benchmark
+    public long calculateShippingCostMinor() {
+        return strategy.calculateShippingCostMinor(nextOrder().getParcel());
+    }
+
+    private Order nextOrder() {
+        Order order = orders[next];
+        next = (next + 1) & (ORDER_COUNT - 1);
+        return order;
+    }
+}
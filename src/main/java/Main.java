@@ -7,6 +7,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 public class Main {
+    // Uma única instância atende todas as requisições; a estratégia é escolhida pelo tipo
+    private static final ShippingService SHIPPING_SERVICE = new ShippingService(ShippingStrategyFactory.getRegistry());
+
     public static void main(String[] args) {
         // Simulando os dados vindos do payload do frontend
         Double weight = 12.0;
@@ -17,11 +20,6 @@ public class Main {
         LocalDateTime dateTime = LocalDateTime.now();
         ShippingType shippingMethod = ShippingType.ECONOMY_SAVER;
 
-        // Simulando a chamada do serviço de frete com a estratégia escolhida
-        ShippingService shippingService = new ShippingService(
-                ShippingStrategyFactory.getStrategy(shippingMethod)
-        );
-
         Order order = new Order(
                 weight,
                 height,
@@ -32,6 +30,6 @@ public class Main {
         );
 
         // Simulando o retorno do frete para o frontend
-        System.out.println(shippingService.calculateShippingCost(order));
+        System.out.println(SHIPPING_SERVICE.calculateShippingCost(shippingMethod, order));
     }
 }
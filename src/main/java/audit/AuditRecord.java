@@ -0,0 +1,32 @@
+package audit;
+
+import strategy.ShippingType;
+
+import java.time.Instant;
+
+/**
+ * Uma cotação lida do {@link QuoteJournal}.
+ *
+ * @param sequence              A posição da cotação no diário, única e crescente.
+ * @param epochMillis           O instante da cotação.
+ * @param shippingType          O tipo de frete que cotou o pedido, ou {@code null} se o byte gravado não for de um tipo conhecido.
+ * @param priceMinorUnits       O preço do pedido em centavos, ou {@link #NO_VALUE} se não informado.
+ * @param originPostalCode      A chave numérica do CEP de origem, ou {@code -1} (veja {@code ZoneResolver.postalCodeKey}).
+ * @param destinationPostalCode A chave numérica do CEP de destino, ou {@code -1}.
+ * @param costMinorUnits        O custo de frete devolvido, em centavos.
+ */
+public record AuditRecord(long sequence, long epochMillis, ShippingType shippingType,
+                          double weight, double height, double width, double length,
+                          long priceMinorUnits, long originPostalCode, long destinationPostalCode,
+                          long costMinorUnits) {
+
+    public static final long NO_VALUE = QuoteJournalFormat.NULL_LONG;
+
+    public Instant timestamp() {
+        return Instant.ofEpochMilli(epochMillis);
+    }
+
+    public boolean hasPrice() {
+        return priceMinorUnits != NO_VALUE;
+    }
+}
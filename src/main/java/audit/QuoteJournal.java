@@ -0,0 +1,508 @@
+package audit;
+
+import models.Order;
+import models.OrderBatch;
+import models.Parcel;
+import strategy.Money;
+import strategy.ShippingType;
+import zones.ZoneResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32C;
+
+import static audit.QuoteJournalFormat.*;
+
+/**
+ * Diário de auditoria somente-anexação das cotações devolvidas, em segmentos mapeados em memória
+ * (veja {@link QuoteJournalFormat}).<br><br>
+ * Cada cotação reserva a próxima sequência com um único incremento atômico, que determina o segmento e a
+ * posição do registro; várias threads escrevem ao mesmo tempo em posições distintas, sem trava. O registro
+ * é montado em um buffer da própria thread, copiado para o mapeamento e publicado pelo marcador final. Um
+ * segmento novo é criado quando a primeira sequência dele é reservada, e a thread de gravação já o cria
+ * antecipadamente quando o segmento atual passa da metade.<br><br>
+ * A cada {@code flushInterval} a thread de gravação avança sobre os registros completos e grava todos no
+ * disco de uma vez ({@link MappedByteBuffer#force(int, int)}); a cotação não espera pelo disco. Quem
+ * precisa da garantia usa {@link #awaitDurable(long, Duration)}. Segmentos inteiramente gravados são
+ * liberados.<br><br>
+ * Todo registro identifica o {@link ShippingType} que cotou o pedido. Todos os campos são calculados e
+ * validados antes da reserva. Se a escrita falhar depois dela (por exemplo,
+ * ao abrir um segmento), a posição recebe o marcador de abandono para não travar a gravação dos registros
+ * seguintes; se nem isso for possível, ela fica registrada em memória até a gravação passar por ela.<br><br>
+ * Ao reabrir um diretório existente, a sequência continua após o último registro completo.
+ */
+public class QuoteJournal implements AutoCloseable {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final long flushIntervalNanos;
+    private final Thread flusher;
+
+    private final AtomicLong nextSequence;
+    private final ConcurrentHashMap<Long, Segment> segments = new ConcurrentHashMap<>();
+    // Posições abandonadas cujo segmento não pôde ser aberto para receber o marcador
+    private final Set<Long> lostSequences = ConcurrentHashMap.newKeySet();
+    // Último segmento usado por uma escrita; evita a consulta ao mapa na maior parte das cotações
+    private volatile Segment current;
+
+    private final Object commitLock = new Object();
+    // Próxima sequência ainda não gravada no disco; tudo antes dela é durável
+    private volatile long durableSequence;
+    private volatile boolean closed;
+
+    public QuoteJournal(Path directory) throws IOException {
+        this(QuoteJournalConfig.builder().directory(directory).build());
+    }
+
+    public QuoteJournal(QuoteJournalConfig config) throws IOException {
+        if (config.getDirectory() == null) {
+            throw new IllegalArgumentException("Informe o diretório do diário de auditoria");
+        }
+        if (config.getRecordsPerSegment() < 1 || config.getRecordsPerSegment() > MAX_RECORDS_PER_SEGMENT) {
+            throw new IllegalArgumentException("Quantidade de registros por segmento inválida: " + config.getRecordsPerSegment());
+        }
+        if (config.getFlushInterval().isNegative() || config.getFlushInterval().isZero()) {
+            throw new IllegalArgumentException("O intervalo de gravação deve ser positivo: " + config.getFlushInterval());
+        }
+        this.directory = Files.createDirectories(config.getDirectory());
+        this.recordsPerSegment = config.getRecordsPerSegment();
+        this.flushIntervalNanos = config.getFlushInterval().toNanos();
+
+        long recovered = recoverNextSequence();
+        this.nextSequence = new AtomicLong(recovered);
+        this.durableSequence = recovered;
+        this.current = segment(recovered / recordsPerSegment);
+
+        this.flusher = new Thread(this::flushLoop, config.getThreadName());
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * Registra a cotação de um pedido.
+     *
+     * @param shippingType O tipo de frete cotado, que identifica a estratégia no registro.
+     * @return A sequência do registro.
+     */
+    public long append(ShippingType shippingType, Order order, long costMinorUnits) {
+        requireType(shippingType);
+        Parcel parcel = order.getParcel();
+        long priceMinorUnits = priceMinorUnits(order);
+        long origin = ZoneResolver.postalCodeKey(order.getOriginPostalCode());
+        long destination = ZoneResolver.postalCodeKey(order.getDestinationPostalCode());
+
+        long sequence = reserve(1);
+        long next = sequence;
+        try {
+            write(next, System.currentTimeMillis(), shippingType, parcel.weight(), parcel.height(), parcel.width(),
+                    parcel.length(), priceMinorUnits, origin, destination, costMinorUnits);
+            next++;
+        } finally {
+            abandon(next, sequence + 1);
+        }
+        return sequence;
+    }
+
+    /**
+     * Registra a cotação de um pacote, sem preço nem CEPs.
+     *
+     * @return A sequência do registro.
+     */
+    public long append(ShippingType shippingType, Parcel parcel, long costMinorUnits) {
+        requireType(shippingType);
+        long sequence = reserve(1);
+        long next = sequence;
+        try {
+            write(next, System.currentTimeMillis(), shippingType, parcel.weight(), parcel.height(), parcel.width(),
+                    parcel.length(), NULL_LONG, -1, -1, costMinorUnits);
+            next++;
+        } finally {
+            abandon(next, sequence + 1);
+        }
+        return sequence;
+    }
+
+    /**
+     * Registra as cotações de um lote com uma única reserva de sequências consecutivas.
+     *
+     * @return A sequência do primeiro registro.
+     */
+    public long append(ShippingType shippingType, Order[] orders, BigDecimal[] costs) {
+        requireType(shippingType);
+        if (orders.length != costs.length) {
+            throw new IllegalArgumentException("Quantidade de custos (" + costs.length
+                    + ") diferente da quantidade de pedidos (" + orders.length + ")");
+        }
+        long[] prices = new long[orders.length];
+        long[] origins = new long[orders.length];
+        long[] destinations = new long[orders.length];
+        long[] costsMinorUnits = new long[orders.length];
+        for (int i = 0; i < orders.length; i++) {
+            prices[i] = priceMinorUnits(orders[i]);
+            origins[i] = ZoneResolver.postalCodeKey(orders[i].getOriginPostalCode());
+            destinations[i] = ZoneResolver.postalCodeKey(orders[i].getDestinationPostalCode());
+            costsMinorUnits[i] = Money.toMinor(costs[i]);
+        }
+
+        long first = reserve(orders.length);
+        long next = first;
+        try {
+            long epochMillis = System.currentTimeMillis();
+            for (int i = 0; i < orders.length; i++, next++) {
+                Parcel parcel = orders[i].getParcel();
+                write(next, epochMillis, shippingType, parcel.weight(), parcel.height(), parcel.width(),
+                        parcel.length(), prices[i], origins[i], destinations[i], costsMinorUnits[i]);
+            }
+        } finally {
+            abandon(next, first + orders.length);
+        }
+        return first;
+    }
+
+    /**
+     * Registra as cotações já gravadas em um lote fora do heap.
+     *
+     * @return A sequência do primeiro registro.
+     */
+    public long append(ShippingType shippingType, OrderBatch batch) {
+        requireType(shippingType);
+        long first = reserve(batch.size());
+        long next = first;
+        try {
+            long epochMillis = System.currentTimeMillis();
+            for (int i = 0; i < batch.size(); i++, next++) {
+                write(next, epochMillis, shippingType, batch.weight(i), batch.height(i), batch.width(i),
+                        batch.length(i), NULL_LONG, -1, -1, batch.costMinor(i));
+            }
+        } finally {
+            abandon(next, first + batch.size());
+        }
+        return first;
+    }
+
+    /**
+     * Quantidade de sequências já reservadas, que é também a próxima sequência.
+     */
+    public long getNextSequence() {
+        return nextSequence.get();
+    }
+
+    /**
+     * Próxima sequência ainda não gravada no disco: todos os registros anteriores são duráveis.
+     */
+    public long getDurableSequence() {
+        return durableSequence;
+    }
+
+    /**
+     * Aguarda até que o registro da sequência esteja gravado no disco.
+     *
+     * @return {@code true} se o registro ficou durável dentro do prazo.
+     */
+    public boolean awaitDurable(long sequence, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (commitLock) {
+            long remaining;
+            while (durableSequence <= sequence) {
+                if (closed || (remaining = deadline - System.nanoTime()) <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(commitLock, remaining);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Grava imediatamente no disco os registros completos, sem esperar o próximo intervalo.
+     *
+     * @return A nova sequência durável.
+     */
+    public long flush() {
+        return commit();
+    }
+
+    /**
+     * Para a thread de gravação e grava os registros completos. Cotações registradas concorrentemente com
+     * o fechamento podem não ser gravadas.
+     */
+    @Override
+    public void close() {
+        synchronized (segments) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        commit();
+        synchronized (segments) {
+            segments.values().forEach(Segment::close);
+            segments.clear();
+        }
+        synchronized (commitLock) {
+            commitLock.notifyAll();
+        }
+    }
+
+    private long reserve(int count) {
+        if (closed) {
+            throw new IllegalStateException("Diário de auditoria já fechado");
+        }
+        return nextSequence.getAndAdd(count);
+    }
+
+    private static void requireType(ShippingType shippingType) {
+        if (shippingType == null) {
+            throw new IllegalArgumentException("Informe o tipo de frete da cotação");
+        }
+    }
+
+    private static long priceMinorUnits(Order order) {
+        return order.getPrice() == null ? NULL_LONG : Money.toMinor(order.getPrice());
+    }
+
+    private void write(long sequence, long epochMillis, ShippingType shippingType,
+                       double weight, double height, double width, double length,
+                       long priceMinorUnits, long originPostalCode, long destinationPostalCode, long costMinorUnits) {
+        Scratch scratch = SCRATCH.get();
+        ByteBuffer record = scratch.record;
+        record.putLong(SEQUENCE, sequence)
+                .putLong(EPOCH_MILLIS, epochMillis)
+                .putDouble(WEIGHT, weight)
+                .putDouble(HEIGHT, height)
+                .putDouble(WIDTH, width)
+                .putDouble(LENGTH, length)
+                .putLong(PRICE, priceMinorUnits)
+                .putLong(COST, costMinorUnits)
+                .putLong(ORIGIN, originPostalCode)
+                .putLong(DESTINATION, destinationPostalCode)
+                .put(TYPE, (byte) (shippingType.ordinal() + 1));
+        scratch.crc.reset();
+        scratch.crc.update(record.array(), 0, CHECKED_SIZE);
+        record.putInt(CHECKSUM, (int) scratch.crc.getValue());
+
+        long index = sequence / recordsPerSegment;
+        Segment segment = current;
+        if (segment.index != index) {
+            segment = segment(index);
+            current = segment;
+        }
+        int offset = recordOffset(sequence);
+        segment.buffer.put(offset, record.array(), 0, MARKER);
+        INT_VIEW.setRelease(segment.buffer, offset + MARKER, COMMITTED);
+    }
+
+    /**
+     * Marca as posições reservadas de {@code from} (inclusive) a {@code to} (exclusive) que não chegaram a ser
+     * escritas. Quando o segmento não pode ser aberto, a posição fica em {@link #lostSequences}.
+     */
+    private void abandon(long from, long to) {
+        for (long sequence = from; sequence < to; sequence++) {
+            try {
+                Segment segment = segment(sequence / recordsPerSegment);
+                INT_VIEW.setRelease(segment.buffer, recordOffset(sequence) + MARKER, ABANDONED);
+            } catch (RuntimeException e) {
+                lostSequences.add(sequence);
+            }
+        }
+    }
+
+    private int recordOffset(long sequence) {
+        return HEADER_SIZE + (int) (sequence % recordsPerSegment) * RECORD_SIZE;
+    }
+
+    private Segment segment(long index) {
+        Segment segment = segments.get(index);
+        if (segment != null) {
+            return segment;
+        }
+        synchronized (segments) {
+            segment = segments.get(index);
+            if (segment == null) {
+                if (closed) {
+                    throw new IllegalStateException("Diário de auditoria já fechado");
+                }
+                segment = Segment.open(directory, index, recordsPerSegment);
+                segments.put(index, segment);
+            }
+            return segment;
+        }
+    }
+
+    private void flushLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            try {
+                commit();
+                preallocateNextSegment();
+            } catch (RuntimeException e) {
+                // A próxima rodada tenta de novo; os registros continuam no mapeamento
+            }
+        }
+    }
+
+    /**
+     * Avança a sequência durável sobre os registros completos e as posições abandonadas e grava no disco o
+     * intervalo de cada segmento.
+     */
+    private long commit() {
+        synchronized (commitLock) {
+            long from = durableSequence;
+            long reserved = nextSequence.get();
+            long to = from;
+            Segment segment = null;
+            while (to < reserved) {
+                long index = to / recordsPerSegment;
+                if (segment == null || segment.index != index) {
+                    segment = segments.get(index);
+                }
+                if (segment == null) {
+                    if (!lostSequences.remove(to)) {
+                        break;
+                    }
+                } else {
+                    int marker = (int) INT_VIEW.getAcquire(segment.buffer, recordOffset(to) + MARKER);
+                    if (marker != COMMITTED && marker != ABANDONED && !lostSequences.remove(to)) {
+                        break;
+                    }
+                }
+                to++;
+            }
+            if (to == from) {
+                return from;
+            }
+
+            for (long index = from / recordsPerSegment; index <= (to - 1) / recordsPerSegment; index++) {
+                long start = Math.max(from, index * recordsPerSegment);
+                long end = Math.min(to, (index + 1) * recordsPerSegment);
+                Segment written = segments.get(index);
+                if (written != null) {
+                    written.buffer.force(recordOffset(start), (int) (end - start) * RECORD_SIZE);
+                }
+                if (end == (index + 1) * recordsPerSegment) {
+                    retire(index);
+                }
+            }
+            durableSequence = to;
+            commitLock.notifyAll();
+            return to;
+        }
+    }
+
+    private void retire(long index) {
+        synchronized (segments) {
+            Segment segment = segments.remove(index);
+            if (segment != null) {
+                segment.close();
+            }
+        }
+    }
+
+    private void preallocateNextSegment() {
+        long reserved = nextSequence.get();
+        if (reserved % recordsPerSegment > recordsPerSegment / 2) {
+            segment(reserved / recordsPerSegment + 1);
+        }
+    }
+
+    /**
+     * A próxima sequência é a seguinte ao último registro completo. O segmento mais recente pode ter sido
+     * criado antecipadamente e estar vazio, então a busca continua pelos anteriores.
+     */
+    private long recoverNextSequence() throws IOException {
+        List<Path> paths = QuoteJournalReader.listSegments(directory);
+        for (int i = paths.size() - 1; i >= 0; i--) {
+            Path path = paths.get(i);
+            long firstSequence = QuoteJournalReader.readHeader(path).getLong(HEADER_FIRST_SEQUENCE);
+            if (firstSequence % recordsPerSegment != 0) {
+                throw new IllegalStateException("Segmento " + path + " não corresponde a " + recordsPerSegment
+                        + " registros por segmento");
+            }
+            long lastSequence = QuoteJournalReader.lastValidSequence(path);
+            if (lastSequence >= 0) {
+                return lastSequence + 1;
+            }
+        }
+        return 0;
+    }
+
+    private static final class Scratch {
+        private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE).order(BYTE_ORDER);
+        private final CRC32C crc = new CRC32C();
+    }
+
+    private static final class Segment {
+        private final long index;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long index, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Mapeia o segmento, criando o arquivo com o cabeçalho se ele ainda não existir.
+         */
+        private static Segment open(Path directory, long index, int recordsPerSegment) {
+            long firstSequence = index * recordsPerSegment;
+            Path path = segmentPath(directory, firstSequence);
+            try {
+                boolean exists = Files.exists(path);
+                if (exists) {
+                    ByteBuffer header = QuoteJournalReader.readHeader(path);
+                    if (header.getInt(HEADER_RECORDS_PER_SEGMENT) != recordsPerSegment
+                            || header.getLong(HEADER_FIRST_SEQUENCE) != firstSequence) {
+                        throw new IllegalStateException("Segmento " + path + " não corresponde à configuração do diário");
+                    }
+                }
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize(recordsPerSegment));
+                buffer.order(BYTE_ORDER);
+                if (!exists) {
+                    buffer.putInt(HEADER_MAGIC, MAGIC)
+                            .putInt(HEADER_VERSION, VERSION)
+                            .putInt(HEADER_RECORD_SIZE, RECORD_SIZE)
+                            .putInt(HEADER_RECORDS_PER_SEGMENT, recordsPerSegment)
+                            .putLong(HEADER_FIRST_SEQUENCE, firstSequence);
+                    buffer.force(0, HEADER_SIZE);
+                }
+                return new Segment(index, channel, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao abrir o segmento " + path, e);
+            }
+        }
+
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                // O mapeamento continua válido até ser coletado; não há o que desfazer
+            }
+        }
+    }
+}
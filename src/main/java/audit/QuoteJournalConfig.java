@@ -0,0 +1,37 @@
+package audit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração de um {@link QuoteJournal}.<br><br>
+ * O intervalo de gravação define quanto tempo uma cotação pode ficar só na memória: um intervalo menor
+ * perde menos cotações em uma queda de energia, ao custo de mais chamadas ao disco.
+ */
+@Builder
+@Getter
+public class QuoteJournalConfig {
+
+    /**
+     * Diretório dos segmentos; é criado se não existir.
+     */
+    private final Path directory;
+
+    /**
+     * Quantidade de registros por segmento; o padrão gera arquivos de 24 MiB.
+     */
+    @Builder.Default
+    private final int recordsPerSegment = 1 << 18;
+
+    /**
+     * Intervalo entre as gravações em grupo dos registros completos no disco.
+     */
+    @Builder.Default
+    private final Duration flushInterval = Duration.ofMillis(10);
+
+    @Builder.Default
+    private final String threadName = "quote-journal-flusher";
+}
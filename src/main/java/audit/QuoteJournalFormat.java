@@ -0,0 +1,89 @@
+package audit;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Constantes do diário de auditoria de cotações ({@code .journal}).<br><br>
+ * O diário é uma sequência de segmentos de tamanho fixo; o segmento {@code k} guarda as cotações de
+ * sequência {@code k * recordsPerSegment} até {@code (k + 1) * recordsPerSegment - 1}, e o nome do arquivo
+ * traz a primeira sequência. Cada segmento tem um cabeçalho de {@value #HEADER_SIZE} bytes seguido de
+ * registros de {@value #RECORD_SIZE} bytes, de modo que a posição de uma sequência é calculada diretamente.
+ * <pre>
+ * cabeçalho: magic (int), versão (int), tamanho do registro (int), recordsPerSegment (int), firstSequence (long)
+ * registro:  sequence, epochMillis (long), weight, height, width, length (double), priceMinorUnits,
+ *            costMinorUnits, originPostalCode, destinationPostalCode (long), tipo (byte), reservado (7 bytes),
+ *            CRC32C dos 88 bytes anteriores (int), marcador de registro completo (int)
+ * </pre>
+ * Todos os valores são little-endian. O marcador é escrito por último, com semântica de release: um
+ * registro sem marcador ainda está sendo escrito (ou foi interrompido) e é ignorado. Uma posição cuja
+ * escrita falhou depois de reservada recebe o marcador de abandono, para que a gravação avance sobre ela;
+ * o leitor também a ignora.
+ */
+final class QuoteJournalFormat {
+    static final int MAGIC = 0x4150_4853; // "SHPA" em little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 96;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final long NULL_LONG = Long.MIN_VALUE;
+
+    static final int HEADER_MAGIC = 0;
+    static final int HEADER_VERSION = 4;
+    static final int HEADER_RECORD_SIZE = 8;
+    static final int HEADER_RECORDS_PER_SEGMENT = 12;
+    static final int HEADER_FIRST_SEQUENCE = 16;
+
+    static final int SEQUENCE = 0;
+    static final int EPOCH_MILLIS = 8;
+    static final int WEIGHT = 16;
+    static final int HEIGHT = 24;
+    static final int WIDTH = 32;
+    static final int LENGTH = 40;
+    static final int PRICE = 48;
+    static final int COST = 56;
+    static final int ORIGIN = 64;
+    static final int DESTINATION = 72;
+    static final int TYPE = 80;
+    static final int CHECKSUM = 88;
+    static final int MARKER = 92;
+
+    /**
+     * Bytes cobertos pelo CRC, que é também o que precede o marcador.
+     */
+    static final int CHECKED_SIZE = CHECKSUM;
+    static final int COMMITTED = 0x4B4F_5451; // "QTOK" em little-endian
+    static final int ABANDONED = 0x4F4E_5451; // "QTNO" em little-endian
+
+    /**
+     * Acesso ao marcador com release/acquire sobre o buffer mapeado; as posições são múltiplas de 4.
+     */
+    static final VarHandle INT_VIEW = MethodHandles.byteBufferViewVarHandle(int[].class, BYTE_ORDER);
+
+    /**
+     * Maior segmento cujo tamanho em bytes ainda cabe em um único mapeamento de memória.
+     */
+    static final int MAX_RECORDS_PER_SEGMENT = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+    static final String FILE_PREFIX = "quotes-";
+    static final String FILE_SUFFIX = ".journal";
+
+    static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(String.format(Locale.ROOT, "%s%020d%s", FILE_PREFIX, firstSequence, FILE_SUFFIX));
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(FILE_PREFIX) && name.endsWith(FILE_SUFFIX);
+    }
+
+    static long segmentSize(int recordsPerSegment) {
+        return HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE;
+    }
+
+    private QuoteJournalFormat() {
+    }
+}
@@ -0,0 +1,220 @@
+package audit;
+
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32C;
+
+import static audit.QuoteJournalFormat.*;
+
+/**
+ * Lê as cotações de um diretório do {@link QuoteJournal}, em ordem de sequência, para reprocessamento.<br><br>
+ * Os segmentos são mapeados somente para leitura, um de cada vez. Posições sem o marcador de registro
+ * completo (cotações que não terminaram de ser escritas, posições abandonadas depois de uma falha, ou o fim
+ * do último segmento) são puladas.
+ * Registros com marcador mas com CRC ou sequência inválidos, típicos de uma gravação interrompida por
+ * queda de energia, também são pulados e contados em {@link #getCorruptedCount()}. O diário pode ser lido
+ * enquanto é escrito; registros publicados depois da leitura do segmento podem não aparecer.
+ */
+public class QuoteJournalReader implements Iterable<AuditRecord> {
+
+    private static final ShippingType[] TYPES = ShippingType.values();
+
+    private final Path directory;
+    private long corrupted;
+
+    public QuoteJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Percorre os segmentos existentes no momento da chamada.
+     */
+    @Override
+    public Iterator<AuditRecord> iterator() {
+        corrupted = 0;
+        return new RecordIterator(listSegments(directory));
+    }
+
+    public Stream<AuditRecord> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(),
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Quantidade de registros corrompidos encontrados pela última iteração.
+     */
+    public long getCorruptedCount() {
+        return corrupted;
+    }
+
+    static List<Path> listSegments(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(QuoteJournalFormat::isSegment).sorted().toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar o diário " + directory, e);
+        }
+    }
+
+    /**
+     * Lê e valida o cabeçalho do segmento.
+     */
+    static ByteBuffer readHeader(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        try (FileChannel channel = FileChannel.open(path)) {
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Lê até completar o cabeçalho ou chegar ao fim do arquivo
+            }
+        }
+        if (header.hasRemaining() || header.getInt(HEADER_MAGIC) != MAGIC) {
+            throw new IllegalStateException("Arquivo não é um segmento do diário de auditoria: " + path);
+        }
+        if (header.getInt(HEADER_VERSION) != VERSION || header.getInt(HEADER_RECORD_SIZE) != RECORD_SIZE) {
+            throw new IllegalStateException("Versão do diário não suportada: " + header.getInt(HEADER_VERSION));
+        }
+        int recordsPerSegment = header.getInt(HEADER_RECORDS_PER_SEGMENT);
+        if (recordsPerSegment < 1 || recordsPerSegment > MAX_RECORDS_PER_SEGMENT) {
+            throw new IllegalStateException("Cabeçalho inválido no segmento " + path);
+        }
+        return header;
+    }
+
+    /**
+     * Maior sequência válida do segmento, ou {@code -1} se não houver nenhuma.
+     */
+    static long lastValidSequence(Path path) throws IOException {
+        Segment segment = Segment.map(path);
+        CRC32C crc = new CRC32C();
+        for (int slot = segment.slots - 1; slot >= 0; slot--) {
+            if (segment.isValid(slot, crc)) {
+                return segment.firstSequence + slot;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Segment {
+        private final long firstSequence;
+        private final int slots;
+        private final MappedByteBuffer buffer;
+
+        private Segment(long firstSequence, int slots, MappedByteBuffer buffer) {
+            this.firstSequence = firstSequence;
+            this.slots = slots;
+            this.buffer = buffer;
+        }
+
+        private static Segment map(Path path) throws IOException {
+            ByteBuffer header = readHeader(path);
+            int recordsPerSegment = header.getInt(HEADER_RECORDS_PER_SEGMENT);
+            try (FileChannel channel = FileChannel.open(path)) {
+                long size = Math.min(channel.size(), segmentSize(recordsPerSegment));
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                buffer.order(BYTE_ORDER);
+                int complete = (int) ((size - HEADER_SIZE) / RECORD_SIZE);
+                return new Segment(header.getLong(HEADER_FIRST_SEQUENCE), complete, buffer);
+            }
+        }
+
+        private boolean isCommitted(int slot) {
+            return buffer.getInt(offset(slot) + MARKER) == COMMITTED;
+        }
+
+        private boolean isValid(int slot, CRC32C crc) {
+            if (!isCommitted(slot)) {
+                return false;
+            }
+            int offset = offset(slot);
+            crc.reset();
+            crc.update(buffer.slice(offset, CHECKED_SIZE));
+            return (int) crc.getValue() == buffer.getInt(offset + CHECKSUM)
+                    && buffer.getLong(offset + SEQUENCE) == firstSequence + slot;
+        }
+
+        private AuditRecord read(int slot) {
+            int offset = offset(slot);
+            int type = buffer.get(offset + TYPE);
+            return new AuditRecord(
+                    buffer.getLong(offset + SEQUENCE),
+                    buffer.getLong(offset + EPOCH_MILLIS),
+                    type == 0 || type > TYPES.length ? null : TYPES[type - 1],
+                    buffer.getDouble(offset + WEIGHT),
+                    buffer.getDouble(offset + HEIGHT),
+                    buffer.getDouble(offset + WIDTH),
+                    buffer.getDouble(offset + LENGTH),
+                    buffer.getLong(offset + PRICE),
+                    buffer.getLong(offset + ORIGIN),
+                    buffer.getLong(offset + DESTINATION),
+                    buffer.getLong(offset + COST));
+        }
+
+        private static int offset(int slot) {
+            return HEADER_SIZE + slot * RECORD_SIZE;
+        }
+    }
+
+    private final class RecordIterator implements Iterator<AuditRecord> {
+        private final List<Path> paths;
+        private final CRC32C crc = new CRC32C();
+        private int pathIndex;
+        private Segment segment;
+        private int slot;
+        private AuditRecord next;
+
+        private RecordIterator(List<Path> paths) {
+            this.paths = paths;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (segment == null || slot == segment.slots) {
+                    if (pathIndex == paths.size()) {
+                        return false;
+                    }
+                    segment = map(paths.get(pathIndex++));
+                    slot = 0;
+                    continue;
+                }
+                int current = slot++;
+                if (segment.isValid(current, crc)) {
+                    next = segment.read(current);
+                } else if (segment.isCommitted(current)) {
+                    corrupted++;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public AuditRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            AuditRecord record = next;
+            next = null;
+            return record;
+        }
+
+        private Segment map(Path path) {
+            try {
+                return Segment.map(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o segmento " + path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package bulk;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conversões numéricas diretamente sobre bytes ASCII, sem criar {@link String}s no caso comum.
+ */
+final class AsciiNumbers {
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // Maior mantissa que um double representa exatamente
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private AsciiNumbers() {
+    }
+
+    /**
+     * Converte {@code bytes[start, end)} em {@code double}.<br><br>
+     * Decimais simples (sinal, dígitos e ponto) com até 15 dígitos são convertidos com uma única
+     * divisão exata, com o mesmo resultado de {@link Double#parseDouble}; os demais casos (expoente,
+     * muitos dígitos) usam o próprio {@link Double#parseDouble}. Só literais decimais finitos são aceitos:
+     * {@code NaN}, {@code Infinity}, hexadecimais, sufixos {@code d}/{@code f} e valores fora da faixa do
+     * {@code double} são recusados.
+     *
+     * @throws NumberFormatException se o texto não for um número decimal finito.
+     */
+    static double parseDouble(byte[] bytes, int start, int end) {
+        while (start < end && bytes[start] == ' ') start++;
+        while (end > start && bytes[end - 1] == ' ') end--;
+        if (start == end) {
+            throw new NumberFormatException("Número vazio");
+        }
+
+        int i = start;
+        boolean negative = bytes[i] == '-';
+        if (negative || bytes[i] == '+') {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                return slowParse(bytes, start, end);
+            }
+        }
+
+        if (digits == 0) {
+            throw new NumberFormatException("Número inválido: " + new String(bytes, start, end - start, StandardCharsets.US_ASCII));
+        }
+        if (digits > 15 || mantissa >= MAX_EXACT_MANTISSA) {
+            return slowParse(bytes, start, end);
+        }
+
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Escreve {@code minorUnits} como decimal com duas casas (ex.: 775 vira "7.75") a partir de {@code offset}.
+     *
+     * @return A posição seguinte ao último byte escrito.
+     */
+    static int writeMinorUnits(byte[] target, int offset, long minorUnits) {
+        if (minorUnits < 0) {
+            target[offset++] = '-';
+            minorUnits = -minorUnits;
+        }
+        offset = writeLong(target, offset, minorUnits / 100);
+        target[offset++] = '.';
+        long cents = minorUnits % 100;
+        target[offset++] = (byte) ('0' + cents / 10);
+        target[offset++] = (byte) ('0' + cents % 10);
+        return offset;
+    }
+
+    /**
+     * Escreve um inteiro não negativo a partir de {@code offset}.
+     *
+     * @return A posição seguinte ao último byte escrito.
+     */
+    static int writeLong(byte[] target, int offset, long value) {
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            target[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+
+    private static double slowParse(byte[] bytes, int start, int end) {
+        String text = new String(bytes, start, end - start, StandardCharsets.US_ASCII);
+        if (!isDecimalLiteral(bytes, start, end)) {
+            throw new NumberFormatException("Número inválido: " + text);
+        }
+        double value = Double.parseDouble(text);
+        if (!Double.isFinite(value)) {
+            throw new NumberFormatException("Número fora da faixa: " + text);
+        }
+        return value;
+    }
+
+    /**
+     * Sinal opcional, dígitos com ponto opcional e expoente opcional ({@code e} ou {@code E}, com sinal).
+     */
+    private static boolean isDecimalLiteral(byte[] bytes, int start, int end) {
+        int i = start;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            i++;
+        }
+        int digits = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            if (bytes[i] >= '0' && bytes[i] <= '9') {
+                digits++;
+            } else if (bytes[i] == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < end && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            for (; i < end && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+}
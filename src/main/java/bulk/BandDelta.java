@@ -0,0 +1,38 @@
+package bulk;
+
+import strategy.Money;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+
+/**
+ * Diferença de receita entre duas configurações de frete em uma faixa de peso de um {@link ShippingType}.
+ *
+ * @param shippingType        O tipo de frete.
+ * @param minWeight           O início da faixa (inclusivo).
+ * @param maxWeight           O fim da faixa (exclusivo), ou {@link Double#POSITIVE_INFINITY} na última faixa.
+ * @param orders              Pedidos cotados pelas duas configurações.
+ * @param errors              Pedidos que falharam em pelo menos uma das configurações; não entram nos totais.
+ * @param currentMinorUnits   A soma dos fretes da configuração atual, em centavos.
+ * @param candidateMinorUnits A soma dos fretes da configuração candidata, em centavos.
+ * @param increased           Pedidos cujo frete aumentou.
+ * @param decreased           Pedidos cujo frete diminuiu.
+ */
+public record BandDelta(ShippingType shippingType, double minWeight, double maxWeight, long orders, long errors,
+                        long currentMinorUnits, long candidateMinorUnits, long increased, long decreased) {
+
+    public long deltaMinorUnits() {
+        return candidateMinorUnits - currentMinorUnits;
+    }
+
+    public BigDecimal delta() {
+        return Money.toBigDecimal(deltaMinorUnits());
+    }
+
+    /**
+     * Variação relativa à receita atual, em porcentagem; zero se a receita atual for zero.
+     */
+    public double deltaPercent() {
+        return currentMinorUnits == 0 ? 0 : 100.0 * deltaMinorUnits() / currentMinorUnits;
+    }
+}
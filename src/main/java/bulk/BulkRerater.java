@@ -0,0 +1,304 @@
+package bulk;
+
+import factory.ShippingStrategyFactory;
+import models.MutableParcel;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Re-cota arquivos de pedidos de qualquer tamanho em fluxo, com memória limitada.<br><br>
+ * O arquivo é lido por um {@link FileChannel} em um buffer reaproveitado, e cada linha é convertida
+ * direto dos bytes, sem {@link String}s intermediárias. Os pedidos são agrupados em blocos de
+ * {@code chunkSize} registros em arrays primitivos, cotados pelo caminho em centavos da
+ * {@link ShippingStrategy} e gravados no arquivo de saída à medida que cada bloco termina.<br><br>
+ * A saída é um CSV {@code record,cost}, em que {@code record} é a posição do pedido no arquivo de
+ * entrada (a partir de 1, sem contar o cabeçalho e linhas em branco) e {@code cost} é o frete com duas
+ * casas decimais, ou {@code ERROR} quando a linha não pôde ser lida. Linhas maiores que
+ * {@code maxLineLength} bytes (como as de um arquivo corrompido sem quebras) são descartadas até a próxima
+ * quebra e também viram {@code ERROR}, para que a memória não dependa do arquivo.<br><br>
+ * Arquivos no formato colunar ({@link OrderFileFormat#COLUMNAR}) são lidos por mapeamento de memória
+ * e cotados direto sobre o arquivo mapeado, sem etapa de conversão.
+ */
+public class BulkRerater {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_MAX_LINE_LENGTH = 64 * 1024;
+
+    private static final byte[] OUTPUT_HEADER = "record,cost\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ERROR = "ERROR".getBytes(StandardCharsets.US_ASCII);
+    // Maior linha de saída possível: dois longs, sinal, ponto, vírgula e quebra de linha
+    private static final int MAX_OUTPUT_LINE = 2 * 20 + 4;
+
+    private final int chunkSize;
+    private final int bufferSize;
+    private final int maxLineLength;
+
+    public BulkRerater() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_BUFFER_SIZE);
+    }
+
+    public BulkRerater(int chunkSize, int bufferSize) {
+        this(chunkSize, bufferSize, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * @param chunkSize     A quantidade de pedidos cotados por bloco.
+     * @param bufferSize    O tamanho inicial dos buffers de leitura e escrita, em bytes.
+     * @param maxLineLength O tamanho máximo de uma linha de entrada, em bytes.
+     */
+    public BulkRerater(int chunkSize, int bufferSize, int maxLineLength) {
+        if (chunkSize < 1 || bufferSize < MAX_OUTPUT_LINE || maxLineLength < 1) {
+            throw new IllegalArgumentException("Tamanho de bloco, de buffer ou de linha inválido: "
+                    + chunkSize + ", " + bufferSize + ", " + maxLineLength);
+        }
+        this.chunkSize = chunkSize;
+        this.bufferSize = bufferSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Argumentos: o arquivo de pedidos, o arquivo de saída e o tipo de frete. A retirada na loja é recusada:
+     * não tem custo a re-cotar e a estratégia avisaria o cliente de cada pedido exportado.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Uso: BulkRerater <entrada.csv|.ndjson|.shpc> <saida.csv> <ShippingType>");
+            System.exit(2);
+        }
+        ShippingType type = ShippingType.valueOf(args[2]);
+        if (type == ShippingType.STORE_PICKUP) {
+            System.err.println("A retirada na loja não pode ser re-cotada em massa: ela notificaria cada pedido");
+            System.exit(2);
+        }
+        ShippingStrategy strategy = ShippingStrategyFactory.getStrategy(type);
+        RerateSummary summary = new BulkRerater().rerate(Path.of(args[0]), Path.of(args[1]), strategy);
+        System.out.println("Pedidos: " + summary.records() + ", erros: " + summary.errors() + ", total: " + summary.total());
+    }
+
+    /**
+     * Re-cota {@code input}, deduzindo o formato pela extensão (veja {@link OrderFileFormat#fromPath}).
+     */
+    public RerateSummary rerate(Path input, Path output, ShippingStrategy strategy) throws IOException {
+        return rerate(input, OrderFileFormat.fromPath(input), output, strategy);
+    }
+
+    /**
+     * Re-cota todos os pedidos de {@code input} com a estratégia informada, gravando o resultado em {@code output}.
+     *
+     * @param input    O arquivo de pedidos.
+     * @param format   O formato do arquivo de pedidos.
+     * @param output   O arquivo de saída; é sobrescrito se existir.
+     * @param strategy A estratégia usada para cotar todos os pedidos.
+     * @return Os totais da re-cotação.
+     */
+    public RerateSummary rerate(Path input, OrderFileFormat format, Path output, ShippingStrategy strategy) throws IOException {
+        if (format == OrderFileFormat.COLUMNAR) {
+            return rerateColumnar(input, output, strategy);
+        }
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = openOutput(output)) {
+            return new Run(new LineReader(in, bufferSize, maxLineLength), format, new Output(out, bufferSize), strategy).execute();
+        }
+    }
+
+    /**
+     * No formato colunar não há conversão de texto: a estratégia recebe a própria visão sobre o
+     * arquivo mapeado como {@link models.Parcel}.
+     */
+    private RerateSummary rerateColumnar(Path input, Path output, ShippingStrategy strategy) throws IOException {
+        try (ColumnarOrderReader reader = ColumnarOrderReader.open(input);
+             FileChannel out = openOutput(output)) {
+            Output writer = new Output(out, bufferSize);
+            writer.write(OUTPUT_HEADER);
+            ColumnarOrderView view = reader.newView();
+            long errors = 0;
+            long totalMinorUnits = 0;
+
+            while (view.next()) {
+                long record = view.row() + 1;
+                try {
+                    long cost = strategy.calculateShippingCostMinor(view);
+                    totalMinorUnits += cost;
+                    writer.writeCost(record, cost);
+                } catch (ArithmeticException | IllegalArgumentException e) {
+                    errors++;
+                    writer.writeError(record);
+                }
+            }
+
+            writer.flush();
+            return new RerateSummary(reader.getRowCount(), errors, totalMinorUnits);
+        }
+    }
+
+    private static FileChannel openOutput(Path output) throws IOException {
+        return FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Estado de uma única execução: os blocos de medidas e os contadores.
+     */
+    private final class Run {
+        private final LineReader lines;
+        private final OrderFileFormat format;
+        private final OrderLineParser parser;
+        private final Output output;
+        private final ShippingStrategy strategy;
+
+        private final double[] weights = new double[chunkSize];
+        private final double[] heights = new double[chunkSize];
+        private final double[] widths = new double[chunkSize];
+        private final double[] lengths = new double[chunkSize];
+        private final boolean[] valid = new boolean[chunkSize];
+        private final MutableParcel parcel = new MutableParcel();
+
+        private long records;
+        private long errors;
+        private long totalMinorUnits;
+
+        private Run(LineReader lines, OrderFileFormat format, Output output, ShippingStrategy strategy) {
+            this.lines = lines;
+            this.format = format;
+            this.parser = format == OrderFileFormat.CSV ? new CsvOrderParser() : new NdjsonOrderParser();
+            this.output = output;
+            this.strategy = strategy;
+        }
+
+        private RerateSummary execute() throws IOException {
+            output.write(OUTPUT_HEADER);
+            boolean firstLine = true;
+            int size = 0;
+
+            while (lines.next()) {
+                byte[] bytes = lines.buffer();
+                int start = lines.lineStart();
+                int end = lines.lineEnd();
+                if (!lines.isTooLong() && isBlank(bytes, start, end)) {
+                    continue;
+                }
+                if (firstLine) {
+                    firstLine = false;
+                    if (!lines.isTooLong() && format == OrderFileFormat.CSV
+                            && ((CsvOrderParser) parser).acceptHeader(bytes, start, end)) {
+                        continue;
+                    }
+                }
+
+                valid[size] = !lines.isTooLong() && parseInto(bytes, start, end, size);
+                if (++size == chunkSize) {
+                    priceChunk(size);
+                    size = 0;
+                }
+            }
+
+            priceChunk(size);
+            output.flush();
+            return new RerateSummary(records, errors, totalMinorUnits);
+        }
+
+        private boolean parseInto(byte[] bytes, int start, int end, int slot) {
+            try {
+                if (!parser.parse(bytes, start, end, parcel)) {
+                    return false;
+                }
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            weights[slot] = parcel.weight();
+            heights[slot] = parcel.height();
+            widths[slot] = parcel.width();
+            lengths[slot] = parcel.length();
+            return true;
+        }
+
+        private void priceChunk(int size) throws IOException {
+            for (int i = 0; i < size; i++) {
+                long record = ++records;
+                if (!valid[i]) {
+                    errors++;
+                    output.writeError(record);
+                    continue;
+                }
+
+                try {
+                    long cost = strategy.calculateShippingCostMinor(parcel.set(weights[i], heights[i], widths[i], lengths[i]));
+                    totalMinorUnits += cost;
+                    output.writeCost(record, cost);
+                } catch (ArithmeticException | IllegalArgumentException e) {
+                    errors++;
+                    output.writeError(record);
+                }
+            }
+        }
+
+        private static boolean isBlank(byte[] bytes, int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (bytes[i] != ' ' && bytes[i] != '\t') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Saída bufferizada sobre um {@link FileChannel}, escrita em blocos do tamanho do buffer.
+     */
+    private static final class Output {
+        private final FileChannel channel;
+        private final byte[] buffer;
+        private final ByteBuffer view;
+        private int position;
+
+        private Output(FileChannel channel, int bufferSize) {
+            this.channel = channel;
+            this.buffer = new byte[bufferSize];
+            this.view = ByteBuffer.wrap(buffer);
+        }
+
+        private void writeCost(long record, long minorUnits) throws IOException {
+            ensureRoom();
+            position = AsciiNumbers.writeLong(buffer, position, record);
+            buffer[position++] = ',';
+            position = AsciiNumbers.writeMinorUnits(buffer, position, minorUnits);
+            buffer[position++] = '\n';
+        }
+
+        private void writeError(long record) throws IOException {
+            ensureRoom();
+            position = AsciiNumbers.writeLong(buffer, position, record);
+            buffer[position++] = ',';
+            System.arraycopy(ERROR, 0, buffer, position, ERROR.length);
+            position += ERROR.length;
+            buffer[position++] = '\n';
+        }
+
+        private void write(byte[] bytes) throws IOException {
+            ensureRoom();
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureRoom() throws IOException {
+            if (buffer.length - position < MAX_OUTPUT_LINE) {
+                flush();
+            }
+        }
+
+        private void flush() throws IOException {
+            view.clear().limit(position);
+            while (view.hasRemaining()) {
+                channel.write(view);
+            }
+            position = 0;
+        }
+    }
+}
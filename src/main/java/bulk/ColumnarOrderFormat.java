@@ -0,0 +1,42 @@
+package bulk;
+
+import java.nio.ByteOrder;
+
+/**
+ * Constantes do formato colunar de pedidos ({@code .shpc}).<br><br>
+ * O arquivo começa com um cabeçalho de {@value #HEADER_SIZE} bytes, seguido de grupos de até
+ * {@code rowGroupSize} linhas. Dentro de um grupo de {@code n} linhas, cada coluna ocupa {@code n * 8}
+ * bytes contíguos, na ordem de {@link #COLUMN_COUNT} colunas abaixo; todos os grupos têm
+ * {@code rowGroupSize} linhas, exceto o último. Assim a posição de qualquer valor é calculada
+ * diretamente, sem índice.
+ * <pre>
+ * cabeçalho: magic (int), versão (int), rowGroupSize (int), colunas (int), rowCount (long), reservado (long)
+ * colunas:   weight, height, width, length (double), priceMinorUnits, epochSecond (long)
+ * </pre>
+ * Todos os valores são little-endian. Preço e data ausentes são gravados como {@link #NULL_LONG}.
+ */
+final class ColumnarOrderFormat {
+    static final int MAGIC = 0x4350_4853; // "SHPC" em little-endian
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+    static final int COLUMN_COUNT = 6;
+    static final int VALUE_SIZE = Long.BYTES;
+    static final int ROW_SIZE = COLUMN_COUNT * VALUE_SIZE;
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int WEIGHT = 0;
+    static final int HEIGHT = 1;
+    static final int WIDTH = 2;
+    static final int LENGTH = 3;
+    static final int PRICE = 4;
+    static final int EPOCH_SECOND = 5;
+
+    /**
+     * Maior grupo cujo tamanho em bytes ainda cabe em um único mapeamento de memória.
+     */
+    static final int MAX_ROW_GROUP_SIZE = Integer.MAX_VALUE / ROW_SIZE;
+
+    private ColumnarOrderFormat() {
+    }
+}
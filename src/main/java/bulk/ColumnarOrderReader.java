@@ -0,0 +1,108 @@
+package bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static bulk.ColumnarOrderFormat.*;
+
+/**
+ * Lê arquivos no formato colunar (veja {@link ColumnarOrderFormat}) por mapeamento de memória.<br><br>
+ * O arquivo é mapeado em regiões com uma quantidade inteira de grupos, de modo que arquivos maiores
+ * que 2 GB também são suportados. As linhas são acessadas por {@link ColumnarOrderView}s, que leem os
+ * valores direto das páginas mapeadas, sem copiar nem criar objetos por linha.<br><br>
+ * O leitor é imutável após aberto e pode ser compartilhado entre threads, desde que cada thread use
+ * a sua própria visão.
+ */
+public class ColumnarOrderReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final long rowCount;
+    private final int rowGroupSize;
+    private final long groupBytes;
+    private final int groupsPerRegion;
+    private final ByteBuffer[] regions;
+
+    private ColumnarOrderReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE) {
+            throw new IllegalArgumentException("Arquivo colunar de pedidos inválido: cabeçalho incompleto");
+        }
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE).order(BYTE_ORDER);
+        if (header.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Arquivo não está no formato colunar de pedidos");
+        }
+        if (header.getInt(4) != VERSION || header.getInt(12) != COLUMN_COUNT) {
+            throw new IllegalArgumentException("Versão do formato colunar não suportada: " + header.getInt(4));
+        }
+        this.rowGroupSize = header.getInt(8);
+        this.rowCount = header.getLong(16);
+        if (rowGroupSize < 1 || rowGroupSize > MAX_ROW_GROUP_SIZE || rowCount < 0
+                || fileSize != HEADER_SIZE + rowCount * ROW_SIZE) {
+            throw new IllegalArgumentException("Arquivo colunar de pedidos corrompido ou incompleto");
+        }
+
+        this.groupBytes = (long) rowGroupSize * ROW_SIZE;
+        this.groupsPerRegion = (int) Math.max(1, Integer.MAX_VALUE / groupBytes);
+        long groupCount = (rowCount + rowGroupSize - 1) / rowGroupSize;
+        long regionBytes = groupsPerRegion * groupBytes;
+
+        this.regions = new ByteBuffer[(int) ((groupCount + groupsPerRegion - 1) / groupsPerRegion)];
+        for (int r = 0; r < regions.length; r++) {
+            long offset = HEADER_SIZE + r * regionBytes;
+            MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(regionBytes, fileSize - offset));
+            regions[r] = region.order(BYTE_ORDER);
+        }
+    }
+
+    public static ColumnarOrderReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new ColumnarOrderReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Cria um cursor sobre as linhas do arquivo, posicionado antes da primeira linha.
+     */
+    public ColumnarOrderView newView() {
+        return new ColumnarOrderView(this);
+    }
+
+    /**
+     * Fecha o arquivo. As regiões mapeadas continuam válidas até serem coletadas, como em qualquer
+     * {@link MappedByteBuffer}.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Posiciona {@code view} na linha {@code row}, calculando a região e os deslocamentos da linha.
+     */
+    void position(ColumnarOrderView view, long row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Linha fora do arquivo: " + row);
+        }
+        long group = row / rowGroupSize;
+        int rowInGroup = (int) (row - group * rowGroupSize);
+        int rowsInGroup = (int) Math.min(rowGroupSize, rowCount - group * rowGroupSize);
+        int groupOffset = (int) ((group % groupsPerRegion) * groupBytes);
+
+        view.moveTo(row, regions[(int) (group / groupsPerRegion)],
+                groupOffset + rowInGroup * VALUE_SIZE, rowsInGroup * VALUE_SIZE);
+    }
+}
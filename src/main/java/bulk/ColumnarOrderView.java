@@ -0,0 +1,112 @@
+package bulk;
+
+import models.Order;
+import models.Parcel;
+import strategy.Money;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static bulk.ColumnarOrderFormat.*;
+
+/**
+ * Cursor reaproveitável sobre as linhas de um {@link ColumnarOrderReader}.<br><br>
+ * Como implementa {@link Parcel}, pode ser passado direto ao caminho em centavos das estratégias:
+ * cada medida é lida da página mapeada no momento do acesso, sem criar um {@link Order} por linha.
+ * Não é segura para uso entre threads e não deve ser guardada pelas estratégias.
+ */
+public final class ColumnarOrderView implements Parcel {
+    private final ColumnarOrderReader reader;
+    private ByteBuffer region;
+    private int offset;
+    private int columnStride;
+    private long row = -1;
+
+    ColumnarOrderView(ColumnarOrderReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Posiciona o cursor na linha informada (a partir de zero).
+     *
+     * @return Esta mesma visão, para encadeamento.
+     */
+    public ColumnarOrderView moveTo(long row) {
+        reader.position(this, row);
+        return this;
+    }
+
+    /**
+     * Avança para a próxima linha.
+     *
+     * @return {@code false} quando não há mais linhas.
+     */
+    public boolean next() {
+        if (row + 1 >= reader.getRowCount()) {
+            return false;
+        }
+        moveTo(row + 1);
+        return true;
+    }
+
+    public long row() {
+        return row;
+    }
+
+    @Override
+    public double weight() {
+        return region.getDouble(offset + WEIGHT * columnStride);
+    }
+
+    @Override
+    public double height() {
+        return region.getDouble(offset + HEIGHT * columnStride);
+    }
+
+    @Override
+    public double width() {
+        return region.getDouble(offset + WIDTH * columnStride);
+    }
+
+    @Override
+    public double length() {
+        return region.getDouble(offset + LENGTH * columnStride);
+    }
+
+    public boolean hasPrice() {
+        return priceMinorUnits() != NULL_LONG;
+    }
+
+    /**
+     * O preço do pedido em centavos, ou {@link Long#MIN_VALUE} se ausente.
+     */
+    public long priceMinorUnits() {
+        return region.getLong(offset + PRICE * columnStride);
+    }
+
+    /**
+     * A data do pedido em segundos desde a época (UTC), ou {@link Long#MIN_VALUE} se ausente.
+     */
+    public long epochSecond() {
+        return region.getLong(offset + EPOCH_SECOND * columnStride);
+    }
+
+    /**
+     * Materializa a linha atual como um {@link Order}, para quem precisar do modelo completo.
+     */
+    public Order toOrder() {
+        long price = priceMinorUnits();
+        long epochSecond = epochSecond();
+        return new Order(weight(), height(), width(), length(),
+                price == NULL_LONG ? null : Money.toBigDecimal(price),
+                epochSecond == NULL_LONG ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+    }
+
+    void moveTo(long row, ByteBuffer region, int offset, int columnStride) {
+        this.row = row;
+        this.region = region;
+        this.offset = offset;
+        this.columnStride = columnStride;
+    }
+}
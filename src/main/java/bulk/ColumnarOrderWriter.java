@@ -0,0 +1,131 @@
+package bulk;
+
+import models.Order;
+import strategy.Money;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+
+import static bulk.ColumnarOrderFormat.*;
+
+/**
+ * Grava pedidos no formato colunar (veja {@link ColumnarOrderFormat}), um grupo de linhas por vez.<br><br>
+ * As linhas são acumuladas em arrays primitivos até completar um grupo, que é gravado coluna a coluna.
+ * O cabeçalho, com a quantidade total de linhas, só é escrito no {@link #close()}; um arquivo cujo
+ * gravador não foi fechado é rejeitado pelo leitor.
+ */
+public class ColumnarOrderWriter implements AutoCloseable {
+
+    public static final int DEFAULT_ROW_GROUP_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int rowGroupSize;
+    private final double[] weights;
+    private final double[] heights;
+    private final double[] widths;
+    private final double[] lengths;
+    private final long[] prices;
+    private final long[] epochSeconds;
+    private final ByteBuffer groupBuffer;
+
+    private int size;
+    private long rowCount;
+    private boolean closed;
+
+    public ColumnarOrderWriter(Path path) throws IOException {
+        this(path, DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    /**
+     * @param path         O arquivo de destino; é sobrescrito se existir.
+     * @param rowGroupSize A quantidade de linhas por grupo.
+     */
+    public ColumnarOrderWriter(Path path, int rowGroupSize) throws IOException {
+        if (rowGroupSize < 1 || rowGroupSize > MAX_ROW_GROUP_SIZE) {
+            throw new IllegalArgumentException("Tamanho de grupo inválido: " + rowGroupSize);
+        }
+        this.rowGroupSize = rowGroupSize;
+        this.weights = new double[rowGroupSize];
+        this.heights = new double[rowGroupSize];
+        this.widths = new double[rowGroupSize];
+        this.lengths = new double[rowGroupSize];
+        this.prices = new long[rowGroupSize];
+        this.epochSeconds = new long[rowGroupSize];
+        this.groupBuffer = ByteBuffer.allocate(rowGroupSize * ROW_SIZE).order(BYTE_ORDER);
+        this.channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(HEADER_SIZE);
+    }
+
+    /**
+     * Grava um pedido; preço é convertido para centavos e a data para segundos desde a época, em UTC.
+     */
+    public void write(Order order) throws IOException {
+        write(order.getParcel().weight(), order.getParcel().height(), order.getParcel().width(),
+                order.getParcel().length(),
+                order.getPrice() == null ? NULL_LONG : Money.toMinor(order.getPrice()),
+                order.getDateTime() == null ? NULL_LONG : order.getDateTime().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    /**
+     * Grava uma linha a partir de valores primitivos; use {@link Long#MIN_VALUE} para preço ou data ausentes.
+     */
+    public void write(double weight, double height, double width, double length, long priceMinorUnits, long epochSecond)
+            throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Gravador já fechado");
+        }
+        weights[size] = weight;
+        heights[size] = height;
+        widths[size] = width;
+        lengths[size] = length;
+        prices[size] = priceMinorUnits;
+        epochSeconds[size] = epochSecond;
+        rowCount++;
+        if (++size == rowGroupSize) {
+            flushGroup();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try (channel) {
+            flushGroup();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+            header.putInt(MAGIC).putInt(VERSION).putInt(rowGroupSize).putInt(COLUMN_COUNT).putLong(rowCount).putLong(0);
+            header.flip();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+        }
+    }
+
+    private void flushGroup() throws IOException {
+        if (size == 0) {
+            return;
+        }
+        groupBuffer.clear();
+        groupBuffer.asDoubleBuffer().put(weights, 0, size).put(heights, 0, size).put(widths, 0, size).put(lengths, 0, size);
+        groupBuffer.position(4 * size * VALUE_SIZE);
+        groupBuffer.asLongBuffer().put(prices, 0, size).put(epochSeconds, 0, size);
+        groupBuffer.position(0).limit(size * ROW_SIZE);
+        while (groupBuffer.hasRemaining()) {
+            channel.write(groupBuffer);
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,84 @@
+package bulk;
+
+import models.MutableParcel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Leitor de linhas CSV separadas por vírgula, sem aspas.<br><br>
+ * Sem cabeçalho, as quatro primeiras colunas são {@code weight,height,width,length}. Com cabeçalho
+ * (veja {@link #acceptHeader}), as colunas são localizadas pelo nome e as demais são ignoradas.
+ */
+final class CsvOrderParser implements OrderLineParser {
+    private static final String[] COLUMNS = {"weight", "height", "width", "length"};
+
+    // Posição de cada coluna de COLUMNS na linha
+    private int[] columnIndexes = {0, 1, 2, 3};
+    private int lastColumn = 3;
+    private final double[] values = new double[COLUMNS.length];
+
+    /**
+     * Trata a linha como cabeçalho se ela começar por uma letra.
+     *
+     * @return {@code true} se a linha era um cabeçalho e não deve ser cotada.
+     * @throws IllegalArgumentException se o cabeçalho não tiver todas as colunas de medidas.
+     */
+    boolean acceptHeader(byte[] bytes, int start, int end) {
+        int first = start;
+        while (first < end && bytes[first] == ' ') first++;
+        if (first == end || !Character.isLetter(bytes[first])) {
+            return false;
+        }
+
+        String[] names = new String(bytes, start, end - start, StandardCharsets.UTF_8).split(",", -1);
+        int[] indexes = new int[COLUMNS.length];
+        Arrays.fill(indexes, -1);
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim();
+            for (int c = 0; c < COLUMNS.length; c++) {
+                if (COLUMNS[c].equalsIgnoreCase(name)) {
+                    indexes[c] = i;
+                }
+            }
+        }
+
+        int last = 0;
+        for (int c = 0; c < COLUMNS.length; c++) {
+            if (indexes[c] < 0) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho: " + COLUMNS[c]);
+            }
+            last = Math.max(last, indexes[c]);
+        }
+        this.columnIndexes = indexes;
+        this.lastColumn = last;
+        return true;
+    }
+
+    @Override
+    public boolean parse(byte[] bytes, int start, int end, MutableParcel target) {
+        int column = 0;
+        int fieldStart = start;
+        int found = 0;
+
+        for (int i = start; i <= end && column <= lastColumn; i++) {
+            if (i < end && bytes[i] != ',') {
+                continue;
+            }
+            for (int c = 0; c < columnIndexes.length; c++) {
+                if (columnIndexes[c] == column) {
+                    values[c] = AsciiNumbers.parseDouble(bytes, fieldStart, i);
+                    found++;
+                }
+            }
+            column++;
+            fieldStart = i + 1;
+        }
+
+        if (found < COLUMNS.length) {
+            return false;
+        }
+        target.set(values[0], values[1], values[2], values[3]);
+        return true;
+    }
+}
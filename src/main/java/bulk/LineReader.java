@@ -0,0 +1,118 @@
+package bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Lê linhas de um canal NIO sobre um buffer de bytes reaproveitado, sem criar {@link String}s.<br><br>
+ * Após {@link #next()}, a linha atual está em {@code buffer()[lineStart(), lineEnd())}, sem o
+ * terminador ({@code \n} ou {@code \r\n}). O buffer só cresce se uma linha não couber nele, e nunca além
+ * de {@code maxLineLength}: uma linha maior é descartada até a próxima quebra e devolvida vazia, com
+ * {@link #isTooLong()} verdadeiro, para que um arquivo corrompido sem quebras não seja lido inteiro na memória.
+ */
+final class LineReader {
+    private final ReadableByteChannel channel;
+    private final int maxLineLength;
+    private byte[] buffer;
+    private ByteBuffer view;
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+    private int lineStart;
+    private int lineEnd;
+    private boolean tooLong;
+
+    LineReader(ReadableByteChannel channel, int bufferSize, int maxLineLength) {
+        this.channel = channel;
+        this.maxLineLength = maxLineLength;
+        this.buffer = new byte[bufferSize];
+        this.view = ByteBuffer.wrap(buffer);
+    }
+
+    /**
+     * Avança para a próxima linha.
+     *
+     * @return {@code false} quando não há mais linhas.
+     */
+    boolean next() throws IOException {
+        boolean skipping = false;
+        while (true) {
+            for (int i = position; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    lineStart = skipping ? i : position;
+                    lineEnd = skipping || i == position || buffer[i - 1] != '\r' ? i : i - 1;
+                    position = i + 1;
+                    tooLong = skipping;
+                    return true;
+                }
+            }
+
+            if (skipping || limit - position > maxLineLength) {
+                // Linha longa demais: descarta o que já foi lido e segue até a próxima quebra
+                skipping = true;
+                position = limit;
+            }
+
+            if (endOfInput) {
+                if (skipping) {
+                    lineStart = limit;
+                    lineEnd = limit;
+                    tooLong = true;
+                    return true;
+                }
+                if (position == limit) {
+                    return false;
+                }
+                // Última linha sem terminador
+                lineStart = position;
+                lineEnd = limit > position && buffer[limit - 1] == '\r' ? limit - 1 : limit;
+                position = limit;
+                tooLong = false;
+                return true;
+            }
+
+            fill();
+        }
+    }
+
+    /**
+     * Se a linha atual passou de {@code maxLineLength} bytes e foi descartada.
+     */
+    boolean isTooLong() {
+        return tooLong;
+    }
+
+    byte[] buffer() {
+        return buffer;
+    }
+
+    int lineStart() {
+        return lineStart;
+    }
+
+    int lineEnd() {
+        return lineEnd;
+    }
+
+    private void fill() throws IOException {
+        // Move o início da linha incompleta para o começo do buffer, ou cresce se ela ocupar tudo
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        } else if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            view = ByteBuffer.wrap(buffer);
+        }
+
+        view.clear().position(limit);
+        int read = channel.read(view);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package bulk;
+
+import models.MutableParcel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Leitor de objetos JSON planos, um por linha, que procura apenas os campos de medidas.<br><br>
+ * Os demais campos são pulados sem serem convertidos. Não valida o JSON por completo: basta que os
+ * quatro campos numéricos estejam presentes.
+ */
+final class NdjsonOrderParser implements OrderLineParser {
+    private static final byte[][] FIELDS = {ascii("weight"), ascii("height"), ascii("width"), ascii("length")};
+
+    private final double[] values = new double[FIELDS.length];
+
+    @Override
+    public boolean parse(byte[] bytes, int start, int end, MutableParcel target) {
+        int i = skipSpaces(bytes, start, end);
+        if (i == end || bytes[i] != '{') {
+            return false;
+        }
+        i++;
+
+        int found = 0;
+        while (true) {
+            i = skipSpaces(bytes, i, end);
+            if (i == end) {
+                return false;
+            }
+            if (bytes[i] == '}') {
+                break;
+            }
+            if (bytes[i] == ',') {
+                i++;
+                continue;
+            }
+            if (bytes[i] != '"') {
+                return false;
+            }
+
+            int keyStart = i + 1;
+            int keyEnd = skipString(bytes, i, end) - 1;
+            i = skipSpaces(bytes, keyEnd + 1, end);
+            if (i == end || bytes[i] != ':') {
+                return false;
+            }
+            i = skipSpaces(bytes, i + 1, end);
+
+            int field = fieldOf(bytes, keyStart, keyEnd);
+            if (field < 0) {
+                i = skipValue(bytes, i, end);
+                continue;
+            }
+
+            int valueEnd = i;
+            while (valueEnd < end && bytes[valueEnd] != ',' && bytes[valueEnd] != '}') valueEnd++;
+            values[field] = AsciiNumbers.parseDouble(bytes, i, valueEnd);
+            found |= 1 << field;
+            i = valueEnd;
+        }
+
+        if (found != (1 << FIELDS.length) - 1) {
+            return false;
+        }
+        target.set(values[0], values[1], values[2], values[3]);
+        return true;
+    }
+
+    private static byte[] ascii(String name) {
+        return name.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static int fieldOf(byte[] bytes, int start, int end) {
+        for (int f = 0; f < FIELDS.length; f++) {
+            byte[] name = FIELDS[f];
+            if (name.length == end - start && Arrays.equals(name, 0, name.length, bytes, start, end)) {
+                return f;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipSpaces(byte[] bytes, int i, int end) {
+        while (i < end && (bytes[i] == ' ' || bytes[i] == '\t')) i++;
+        return i;
+    }
+
+    /**
+     * Pula uma string iniciada em {@code bytes[i] == '"'}, retornando a posição após a aspa final.
+     */
+    private static int skipString(byte[] bytes, int i, int end) {
+        for (i++; i < end; i++) {
+            if (bytes[i] == '\\') {
+                i++;
+            } else if (bytes[i] == '"') {
+                return i + 1;
+            }
+        }
+        throw new NumberFormatException("String JSON sem aspa final");
+    }
+
+    /**
+     * Pula um valor qualquer (inclusive objetos e listas aninhados), retornando a posição após ele.
+     */
+    private static int skipValue(byte[] bytes, int i, int end) {
+        int depth = 0;
+        while (i < end) {
+            byte b = bytes[i];
+            if (b == '"') {
+                i = skipString(bytes, i, end);
+                continue;
+            }
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            } else if (b == ',' && depth == 0) {
+                return i;
+            }
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,34 @@
+package bulk;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Formatos de arquivo de pedidos aceitos pela re-cotação em massa.
+ */
+public enum OrderFileFormat {
+    /**
+     * Uma linha por pedido com as colunas {@code weight,height,width,length}. Se a primeira linha for
+     * um cabeçalho, as colunas são localizadas pelo nome e as demais são ignoradas.
+     */
+    CSV,
+    /**
+     * Um objeto JSON por linha com os campos {@code weight}, {@code height}, {@code width} e {@code length}.
+     */
+    NDJSON,
+    /**
+     * Formato binário colunar gravado pelo {@link ColumnarOrderWriter}.
+     */
+    COLUMNAR;
+
+    /**
+     * Deduz o formato pela extensão do arquivo ({@code .ndjson}/{@code .jsonl}, {@code .shpc} ou CSV).
+     */
+    public static OrderFileFormat fromPath(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".shpc")) {
+            return COLUMNAR;
+        }
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? NDJSON : CSV;
+    }
+}
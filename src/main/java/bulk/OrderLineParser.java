@@ -0,0 +1,16 @@
+package bulk;
+
+import models.MutableParcel;
+
+/**
+ * Extrai as medidas de um pedido de uma linha do arquivo, direto dos bytes lidos.
+ */
+interface OrderLineParser {
+
+    /**
+     * Preenche {@code target} com as medidas da linha {@code bytes[start, end)}.
+     *
+     * @return {@code false} se a linha não contém um pedido válido.
+     */
+    boolean parse(byte[] bytes, int start, int end, MutableParcel target);
+}
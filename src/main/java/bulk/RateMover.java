@@ -0,0 +1,20 @@
+package bulk;
+
+import strategy.ShippingType;
+
+/**
+ * Um pedido cujo frete mudou entre a configuração atual e a candidata.
+ *
+ * @param record              A posição do pedido no arquivo (a partir de 1), como na saída do {@link BulkRerater}.
+ * @param shippingType        O tipo de frete cotado.
+ * @param weight              O peso do pedido.
+ * @param currentMinorUnits   O frete da configuração atual, em centavos.
+ * @param candidateMinorUnits O frete da configuração candidata, em centavos.
+ */
+public record RateMover(long record, ShippingType shippingType, double weight,
+                        long currentMinorUnits, long candidateMinorUnits) {
+
+    public long deltaMinorUnits() {
+        return candidateMinorUnits - currentMinorUnits;
+    }
+}
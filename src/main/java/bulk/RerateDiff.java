@@ -0,0 +1,335 @@
+package bulk;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.Order;
+import rates.RateTable;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Compara a receita de frete de um histórico de pedidos entre duas configurações de estratégias, a atual
+ * e a candidata, antes de uma mudança de tarifas.<br><br>
+ * O histórico é um arquivo colunar ({@link ColumnarOrderReader}), dividido ao meio no {@link ForkJoinPool}
+ * até blocos de {@code chunkSize} linhas. Cada bloco cota as suas linhas pelas duas configurações, em cada
+ * {@link ShippingType} escolhido, direto sobre o arquivo mapeado, e acumula as diferenças em contadores
+ * por tipo e faixa de peso, mais os {@code topMovers} pedidos com maior variação. Os acumuladores dos blocos
+ * são somados na volta da divisão, então a memória usada depende só da quantidade de blocos em andamento,
+ * não do tamanho do arquivo.<br><br>
+ * Quando as duas estratégias de um tipo cotam só pelas medidas ({@link ShippingStrategy#pricesByParcelOnly()}),
+ * a linha é cotada direto pela {@link ColumnarOrderView}; caso contrário a linha é materializada uma vez como
+ * {@link Order}, com preço e data, e cotada por {@link ShippingStrategy#estimateShippingCostMinor(Order)}, que
+ * não produz efeitos como a notificação da retirada na loja. O formato colunar não guarda CEPs, então
+ * estratégias com preço por zona são recusadas.<br><br>
+ * Um pedido que falha em qualquer uma das configurações é contado como erro na sua faixa e fica fora dos
+ * totais, para que as duas somas continuem comparáveis.
+ */
+public class RerateDiff {
+
+    public static final int DEFAULT_CHUNK_SIZE = 16 * 1024;
+    public static final int DEFAULT_TOP_MOVERS = 20;
+
+    /**
+     * Limites das faixas de peso padrão: {@code [0, 1)}, {@code [1, 5)}, ..., {@code [50, ∞)}.
+     */
+    public static final double[] DEFAULT_WEIGHT_BANDS = {1, 5, 10, 20, 30, 50};
+
+    // Os pedidos com variação igual são desempatados pela posição no arquivo, para um resultado determinístico
+    private static final Comparator<RateMover> BIGGEST_FIRST = Comparator
+            .comparingLong((RateMover mover) -> Math.abs(mover.deltaMinorUnits())).reversed()
+            .thenComparingLong(RateMover::record)
+            .thenComparing(RateMover::shippingType);
+
+    private final ForkJoinPool forkJoinPool;
+    private final double[] bandLimits;
+    private final int topMovers;
+    private final int chunkSize;
+
+    public RerateDiff() {
+        this(ForkJoinPool.commonPool(), DEFAULT_WEIGHT_BANDS, DEFAULT_TOP_MOVERS, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param forkJoinPool O pool onde os blocos são cotados.
+     * @param weightBands  Os limites entre as faixas de peso, em ordem crescente; a primeira faixa começa em zero.
+     * @param topMovers    A quantidade de pedidos com maior variação a informar.
+     * @param chunkSize    A quantidade máxima de linhas cotadas por uma tarefa.
+     */
+    public RerateDiff(ForkJoinPool forkJoinPool, double[] weightBands, int topMovers, int chunkSize) {
+        if (topMovers < 0 || chunkSize < 1) {
+            throw new IllegalArgumentException("Quantidade de variações ou tamanho de bloco inválido: " + topMovers + ", " + chunkSize);
+        }
+        for (int i = 0; i < weightBands.length; i++) {
+            if (!(weightBands[i] > (i == 0 ? 0 : weightBands[i - 1])) || Double.isInfinite(weightBands[i])) {
+                throw new IllegalArgumentException("Os limites das faixas de peso devem ser positivos e crescentes: "
+                        + Arrays.toString(weightBands));
+            }
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.bandLimits = weightBands.clone();
+        this.topMovers = topMovers;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Argumentos: o arquivo colunar de pedidos, o arquivo de tarifas candidatas (veja {@link RateTable}),
+     * opcionalmente o arquivo de tarifas atuais (padrão: as estratégias da fábrica) e os tipos separados
+     * por vírgula (padrão: {@code ECONOMY_SAVER,HYPER_SPEED}).
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 4) {
+            System.err.println("Uso: RerateDiff <pedidos.shpc> <tarifas-candidatas.conf> [tarifas-atuais.conf|-] [TIPO,...]");
+            System.exit(2);
+        }
+        ShippingStrategyRegistry candidate = ShippingStrategyFactory.createRegistry(RateTable.load(Path.of(args[1])));
+        ShippingStrategyRegistry current = args.length > 2 && !args[2].equals("-")
+                ? ShippingStrategyFactory.createRegistry(RateTable.load(Path.of(args[2])))
+                : ShippingStrategyFactory.getRegistry();
+        Set<ShippingType> types = EnumSet.of(ShippingType.ECONOMY_SAVER, ShippingType.HYPER_SPEED);
+        if (args.length > 3) {
+            types = EnumSet.noneOf(ShippingType.class);
+            for (String type : args[3].split(",")) {
+                types.add(ShippingType.valueOf(type.trim()));
+            }
+        }
+        System.out.print(new RerateDiff().compare(Path.of(args[0]), current, candidate, types).toText());
+    }
+
+    /**
+     * Compara as duas configurações sobre todos os pedidos do arquivo colunar.
+     *
+     * @param input     O arquivo de pedidos no formato colunar.
+     * @param current   As estratégias em produção.
+     * @param candidate As estratégias propostas.
+     * @param types     Os tipos de frete comparados; cada pedido é cotado em todos eles.
+     * @throws IllegalArgumentException se alguma estratégia comparada cotar por CEP.
+     */
+    public RerateDiffReport compare(Path input, ShippingStrategyRegistry current, ShippingStrategyRegistry candidate,
+                                    Set<ShippingType> types) throws IOException {
+        if (OrderFileFormat.fromPath(input) != OrderFileFormat.COLUMNAR) {
+            throw new IllegalArgumentException("A comparação exige o formato colunar (.shpc): " + input);
+        }
+        try (ColumnarOrderReader reader = ColumnarOrderReader.open(input)) {
+            return compare(reader, current, candidate, types);
+        }
+    }
+
+    public RerateDiffReport compare(ColumnarOrderReader reader, ShippingStrategyRegistry current,
+                                    ShippingStrategyRegistry candidate, Set<ShippingType> types) {
+        ShippingType[] compared = types.isEmpty() ? new ShippingType[0] : EnumSet.copyOf(types).toArray(new ShippingType[0]);
+        ShippingStrategy[] currentStrategies = new ShippingStrategy[compared.length];
+        ShippingStrategy[] candidateStrategies = new ShippingStrategy[compared.length];
+        for (int t = 0; t < compared.length; t++) {
+            currentStrategies[t] = current.get(compared[t]);
+            candidateStrategies[t] = candidate.get(compared[t]);
+            if (currentStrategies[t].pricesByPostalCode() || candidateStrategies[t].pricesByPostalCode()) {
+                throw new IllegalArgumentException("A estratégia de " + compared[t]
+                        + " cota por CEP, que o formato colunar não guarda");
+            }
+        }
+
+        Comparison comparison = new Comparison(reader, compared, currentStrategies, candidateStrategies);
+        Totals totals = forkJoinPool.invoke(comparison.new ChunkTask(0, reader.getRowCount()));
+        return totals.toReport(reader.getRowCount(), compared, bandLimits);
+    }
+
+    /**
+     * Faixa do peso: a quantidade de limites menores ou iguais a ele. Pesos inválidos caem na primeira faixa.
+     */
+    private int band(double weight) {
+        int band = 0;
+        while (band < bandLimits.length && weight >= bandLimits[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    /**
+     * Os dados compartilhados (somente leitura) por todas as tarefas de uma comparação.
+     */
+    private final class Comparison {
+        private final ColumnarOrderReader reader;
+        private final ShippingType[] types;
+        private final ShippingStrategy[] current;
+        private final ShippingStrategy[] candidate;
+        // Tipos em que as duas estratégias cotam só pelas medidas e dispensam o Order
+        private final boolean[] byParcel;
+
+        private Comparison(ColumnarOrderReader reader, ShippingType[] types,
+                           ShippingStrategy[] current, ShippingStrategy[] candidate) {
+            this.reader = reader;
+            this.types = types;
+            this.current = current;
+            this.candidate = candidate;
+            this.byParcel = new boolean[types.length];
+            for (int t = 0; t < types.length; t++) {
+                byParcel[t] = current[t].pricesByParcelOnly() && candidate[t].pricesByParcelOnly();
+            }
+        }
+
+        private final class ChunkTask extends RecursiveTask<Totals> {
+            private static final long serialVersionUID = 1L;
+
+            private final long from;
+            private final long to;
+
+            private ChunkTask(long from, long to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected Totals compute() {
+                if (to - from <= chunkSize) {
+                    return priceChunk();
+                }
+                long middle = (from + to) >>> 1;
+                ChunkTask right = new ChunkTask(middle, to);
+                right.fork();
+                Totals totals = new ChunkTask(from, middle).compute();
+                totals.merge(right.join());
+                return totals;
+            }
+
+            private Totals priceChunk() {
+                Totals totals = new Totals(types.length, bandLimits.length + 1, topMovers);
+                ColumnarOrderView view = reader.newView();
+                for (long row = from; row < to; row++) {
+                    view.moveTo(row);
+                    double weight = view.weight();
+                    int band = band(weight);
+                    Order order = null;
+                    for (int t = 0; t < types.length; t++) {
+                        long currentCost;
+                        long candidateCost;
+                        try {
+                            if (byParcel[t]) {
+                                currentCost = current[t].calculateShippingCostMinor(view);
+                                candidateCost = candidate[t].calculateShippingCostMinor(view);
+                            } else {
+                                if (order == null) {
+                                    order = view.toOrder();
+                                }
+                                currentCost = current[t].estimateShippingCostMinor(order);
+                                candidateCost = candidate[t].estimateShippingCostMinor(order);
+                            }
+                        } catch (RuntimeException e) {
+                            totals.recordError(t, band);
+                            continue;
+                        }
+                        totals.record(t, band, currentCost, candidateCost);
+                        totals.offerMover(row + 1, types[t], weight, currentCost, candidateCost);
+                    }
+                }
+                return totals;
+            }
+        }
+    }
+
+    /**
+     * Acumulador de um bloco: contadores por tipo e faixa, em arrays indexados por {@code tipo * faixas + faixa},
+     * e um heap mínimo com as maiores variações vistas.
+     */
+    private static final class Totals {
+        private final int bands;
+        private final int topMovers;
+        private final long[] orders;
+        private final long[] errors;
+        private final long[] currentMinorUnits;
+        private final long[] candidateMinorUnits;
+        private final long[] increased;
+        private final long[] decreased;
+        private final PriorityQueue<RateMover> movers;
+
+        private Totals(int types, int bands, int topMovers) {
+            int cells = types * bands;
+            this.bands = bands;
+            this.topMovers = topMovers;
+            this.orders = new long[cells];
+            this.errors = new long[cells];
+            this.currentMinorUnits = new long[cells];
+            this.candidateMinorUnits = new long[cells];
+            this.increased = new long[cells];
+            this.decreased = new long[cells];
+            this.movers = new PriorityQueue<>(Math.max(1, topMovers), BIGGEST_FIRST.reversed());
+        }
+
+        private void record(int type, int band, long currentCost, long candidateCost) {
+            int cell = type * bands + band;
+            orders[cell]++;
+            currentMinorUnits[cell] += currentCost;
+            candidateMinorUnits[cell] += candidateCost;
+            if (candidateCost > currentCost) {
+                increased[cell]++;
+            } else if (candidateCost < currentCost) {
+                decreased[cell]++;
+            }
+        }
+
+        private void recordError(int type, int band) {
+            errors[type * bands + band]++;
+        }
+
+        /**
+         * Só cria o {@link RateMover} se o pedido entrar no heap, que é o caso raro depois dos primeiros pedidos.
+         */
+        private void offerMover(long record, ShippingType type, double weight, long currentCost, long candidateCost) {
+            long delta = Math.abs(candidateCost - currentCost);
+            if (topMovers == 0 || delta == 0) {
+                return;
+            }
+            if (movers.size() == topMovers && delta <= Math.abs(movers.peek().deltaMinorUnits())) {
+                return;
+            }
+            offer(new RateMover(record, type, weight, currentCost, candidateCost));
+        }
+
+        private void offer(RateMover mover) {
+            movers.add(mover);
+            if (movers.size() > topMovers) {
+                movers.poll();
+            }
+        }
+
+        private void merge(Totals other) {
+            for (int cell = 0; cell < orders.length; cell++) {
+                orders[cell] += other.orders[cell];
+                errors[cell] += other.errors[cell];
+                currentMinorUnits[cell] += other.currentMinorUnits[cell];
+                candidateMinorUnits[cell] += other.candidateMinorUnits[cell];
+                increased[cell] += other.increased[cell];
+                decreased[cell] += other.decreased[cell];
+            }
+            other.movers.forEach(this::offer);
+        }
+
+        private RerateDiffReport toReport(long records, ShippingType[] types, double[] limits) {
+            List<BandDelta> deltas = new ArrayList<>(orders.length);
+            for (int t = 0; t < types.length; t++) {
+                for (int band = 0; band < bands; band++) {
+                    int cell = t * bands + band;
+                    deltas.add(new BandDelta(types[t],
+                            band == 0 ? 0 : limits[band - 1],
+                            band == limits.length ? Double.POSITIVE_INFINITY : limits[band],
+                            orders[cell], errors[cell], currentMinorUnits[cell], candidateMinorUnits[cell],
+                            increased[cell], decreased[cell]));
+                }
+            }
+            List<RateMover> biggest = new ArrayList<>(movers);
+            biggest.sort(BIGGEST_FIRST);
+            return new RerateDiffReport(records, deltas, biggest);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package bulk;
+
+import strategy.Money;
+import strategy.ShippingType;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Resultado de uma comparação do {@link RerateDiff}.
+ *
+ * @param records A quantidade de pedidos do arquivo.
+ * @param bands   As diferenças por tipo de frete e faixa de peso, na ordem dos tipos e das faixas.
+ * @param movers  Os pedidos com maior variação absoluta de frete, da maior para a menor.
+ */
+public record RerateDiffReport(long records, List<BandDelta> bands, List<RateMover> movers) {
+
+    public RerateDiffReport {
+        bands = List.copyOf(bands);
+        movers = List.copyOf(movers);
+    }
+
+    /**
+     * A variação total de receita de todos os tipos, em centavos.
+     */
+    public long deltaMinorUnits() {
+        return bands.stream().mapToLong(BandDelta::deltaMinorUnits).sum();
+    }
+
+    /**
+     * A variação total de receita do tipo, em centavos.
+     */
+    public long deltaMinorUnits(ShippingType shippingType) {
+        return bands.stream().filter(band -> band.shippingType() == shippingType).mapToLong(BandDelta::deltaMinorUnits).sum();
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "pedidos=%d delta=%s%n", records, Money.toBigDecimal(deltaMinorUnits())));
+        for (BandDelta band : bands) {
+            if (band.orders() == 0 && band.errors() == 0) {
+                continue;
+            }
+            text.append(String.format(Locale.ROOT,
+                    "%s [%s, %s) pedidos=%d erros=%d atual=%s candidata=%s delta=%s (%+.2f%%) aumentos=%d reduções=%d%n",
+                    band.shippingType(), formatWeight(band.minWeight()), formatWeight(band.maxWeight()),
+                    band.orders(), band.errors(), Money.toBigDecimal(band.currentMinorUnits()),
+                    Money.toBigDecimal(band.candidateMinorUnits()), band.delta(), band.deltaPercent(),
+                    band.increased(), band.decreased()));
+        }
+        if (!movers.isEmpty()) {
+            text.append("maiores variações:\n");
+        }
+        for (RateMover mover : movers) {
+            text.append(String.format(Locale.ROOT, "  pedido=%d %s peso=%s atual=%s candidata=%s delta=%s%n",
+                    mover.record(), mover.shippingType(), formatWeight(mover.weight()),
+                    Money.toBigDecimal(mover.currentMinorUnits()), Money.toBigDecimal(mover.candidateMinorUnits()),
+                    Money.toBigDecimal(mover.deltaMinorUnits())));
+        }
+        return text.toString();
+    }
+
+    private static String formatWeight(double weight) {
+        return Double.isInfinite(weight) ? "∞" : String.format(Locale.ROOT, "%.3f", weight).replaceAll("\\.?0+$", "");
+    }
+}
@@ -0,0 +1,19 @@
+package bulk;
+
+import strategy.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de uma re-cotação em massa.
+ *
+ * @param records         Quantidade de pedidos lidos (válidos ou não).
+ * @param errors          Quantidade de linhas que não puderam ser cotadas.
+ * @param totalMinorUnits A soma dos fretes cotados, em centavos.
+ */
+public record RerateSummary(long records, long errors, long totalMinorUnits) {
+
+    public BigDecimal total() {
+        return Money.toBigDecimal(totalMinorUnits);
+    }
+}
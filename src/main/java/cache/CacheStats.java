@@ -0,0 +1,22 @@
+package cache;
+
+/**
+ * Fotografia dos contadores de um {@link QuoteCache}.
+ *
+ * @param hits        Consultas atendidas pelo cache.
+ * @param misses      Consultas que precisaram calcular o frete.
+ * @param evictions   Entradas removidas por falta de espaço ou por expiração.
+ * @param rejections  Novas entradas recusadas pela política de admissão por frequência.
+ * @param size        Quantidade de entradas no momento da leitura.
+ */
+public record CacheStats(long hits, long misses, long evictions, long rejections, long size) {
+
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
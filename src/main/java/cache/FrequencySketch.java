@@ -0,0 +1,61 @@
+package cache;
+
+/**
+ * Estimador aproximado de frequência de acesso (count-min sketch) usado pela admissão TinyLFU.<br><br>
+ * Os contadores são saturados em 15 e divididos pela metade periodicamente, para que a popularidade
+ * antiga seja esquecida. Os incrementos não são sincronizados: perder algumas contagens sob
+ * concorrência não afeta a qualidade da estimativa e evita contenção no caminho de leitura.
+ */
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int[] counters;
+    private final int mask;
+    private final int resetThreshold;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize) - 1) << 1;
+        this.counters = new int[width * DEPTH];
+        this.mask = width - 1;
+        this.resetThreshold = 10 * Math.max(16, maximumSize);
+    }
+
+    void increment(int hash) {
+        boolean incremented = false;
+        for (int row = 0; row < DEPTH; row++) {
+            int index = indexOf(hash, row);
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+                incremented = true;
+            }
+        }
+
+        if (incremented && ++additions >= resetThreshold) {
+            reset();
+        }
+    }
+
+    int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    private void reset() {
+        additions = 0;
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>>= 1;
+        }
+    }
+
+    private int indexOf(int hash, int row) {
+        int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        h ^= h >>> 16;
+        return row * (mask + 1) + (h & mask);
+    }
+}
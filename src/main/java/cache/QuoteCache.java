@@ -0,0 +1,186 @@
+package cache;
+
+import models.Parcel;
+import strategy.ShippingType;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache limitado e concorrente de cotações, em centavos, indexado por {@link QuoteKey}.<br><br>
+ * As entradas são distribuídas em partições com lock próprio, cada uma mantendo a ordem de acesso
+ * (LRU). Quando uma partição está cheia, a nova entrada só é admitida se for acessada com mais
+ * frequência do que a vítima LRU (política TinyLFU), o que protege as medidas populares do catálogo
+ * contra varreduras de pacotes que aparecem uma única vez.
+ */
+public class QuoteCache {
+
+    /**
+     * Valor retornado por {@link #get(QuoteKey)} quando não há entrada válida para a chave.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final FrequencySketch sketch;
+    private final long timeToLiveNanos;
+    private final double weightQuantum;
+    private final double dimensionQuantum;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public QuoteCache(QuoteCacheConfig config) {
+        if (config.getMaximumSize() < 1) {
+            throw new IllegalArgumentException("O tamanho máximo do cache deve ser positivo: " + config.getMaximumSize());
+        }
+        if (config.getWeightQuantum() < 0 || config.getDimensionQuantum() < 0) {
+            throw new IllegalArgumentException("Os quanta de quantização não podem ser negativos");
+        }
+
+        int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(config.getConcurrencyLevel(), config.getMaximumSize())));
+        int segmentCapacity = (config.getMaximumSize() + segmentCount - 1) / segmentCount;
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+        this.segmentMask = segmentCount - 1;
+        this.sketch = new FrequencySketch(config.getMaximumSize());
+        this.timeToLiveNanos = config.getTimeToLive().toNanos();
+        this.weightQuantum = config.getWeightQuantum();
+        this.dimensionQuantum = config.getDimensionQuantum();
+        this.ticker = config.getTicker();
+    }
+
+    /**
+     * Monta a chave de cache do pacote, aplicando a quantização configurada.
+     */
+    public QuoteKey keyFor(ShippingType type, Parcel parcel) {
+        return keyFor(type, 0, parcel);
+    }
+
+    /**
+     * Monta a chave de cache do pacote para a versão de tarifas informada; entradas de versões
+     * anteriores deixam de ser encontradas e saem do cache pela ordem de acesso.
+     */
+    public QuoteKey keyFor(ShippingType type, long rateVersion, Parcel parcel) {
+        return new QuoteKey(
+                type,
+                rateVersion,
+                quantize(parcel.weight(), weightQuantum),
+                quantize(parcel.height(), dimensionQuantum),
+                quantize(parcel.width(), dimensionQuantum),
+                quantize(parcel.length(), dimensionQuantum)
+        );
+    }
+
+    /**
+     * Retorna o custo em cache para a chave, ou {@link #MISSING} quando não houver entrada válida.
+     */
+    public long get(QuoteKey key) {
+        int hash = spread(key.hashCode());
+        sketch.increment(hash);
+
+        Segment segment = segments[hash & segmentMask];
+        synchronized (segment) {
+            Entry entry = segment.entries.get(key);
+            if (entry != null && isExpired(entry, ticker.getAsLong())) {
+                segment.entries.remove(key);
+                evictions.increment();
+                entry = null;
+            }
+
+            if (entry == null) {
+                misses.increment();
+                return MISSING;
+            }
+
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    /**
+     * Grava o custo calculado para a chave, respeitando o limite de tamanho e a política de admissão.
+     */
+    public void put(QuoteKey key, long value) {
+        int hash = spread(key.hashCode());
+        long now = ticker.getAsLong();
+        Entry entry = new Entry(value, now + timeToLiveNanos);
+
+        Segment segment = segments[hash & segmentMask];
+        synchronized (segment) {
+            if (segment.entries.containsKey(key) || segment.entries.size() < segment.capacity) {
+                segment.entries.put(key, entry);
+                return;
+            }
+
+            Iterator<Map.Entry<QuoteKey, Entry>> eldest = segment.entries.entrySet().iterator();
+            Map.Entry<QuoteKey, Entry> victim = eldest.next();
+            boolean victimExpired = isExpired(victim.getValue(), now);
+
+            if (!victimExpired && sketch.frequency(hash) <= sketch.frequency(spread(victim.getKey().hashCode()))) {
+                rejections.increment();
+                return;
+            }
+
+            eldest.remove();
+            evictions.increment();
+            segment.entries.put(key, entry);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+            }
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum(), size());
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return timeToLiveNanos != 0 && now - entry.expiresAt >= 0;
+    }
+
+    private static long quantize(double value, double quantum) {
+        return quantum == 0 ? Double.doubleToLongBits(value) : Math.round(value / quantum);
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private record Entry(long value, long expiresAt) {
+    }
+
+    private static final class Segment {
+        private final int capacity;
+        private final LinkedHashMap<QuoteKey, Entry> entries;
+
+        private Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        }
+    }
+}
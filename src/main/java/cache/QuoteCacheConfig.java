@@ -0,0 +1,47 @@
+package cache;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Configuração de um {@link QuoteCache}.<br><br>
+ * Os quanta definem a granularidade da chave: com {@code dimensionQuantum = 0.5}, pacotes de
+ * 10.1 e 10.2 polegadas caem na mesma entrada. Um quantum igual a zero mantém o valor exato.
+ */
+@Builder
+@Getter
+public class QuoteCacheConfig {
+
+    /**
+     * Quantidade máxima de entradas mantidas no cache.
+     */
+    @Builder.Default
+    private final int maximumSize = 10_000;
+
+    /**
+     * Tempo de vida de uma entrada após ser gravada; {@link Duration#ZERO} desativa a expiração.
+     */
+    @Builder.Default
+    private final Duration timeToLive = Duration.ZERO;
+
+    @Builder.Default
+    private final double weightQuantum = 0.0;
+
+    @Builder.Default
+    private final double dimensionQuantum = 0.0;
+
+    /**
+     * Quantidade de partições com lock próprio; é arredondada para uma potência de dois.
+     */
+    @Builder.Default
+    private final int concurrencyLevel = 16;
+
+    /**
+     * Relógio em nanossegundos usado para a expiração.
+     */
+    @Builder.Default
+    private final LongSupplier ticker = System::nanoTime;
+}
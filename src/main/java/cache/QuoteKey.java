@@ -0,0 +1,10 @@
+package cache;
+
+import strategy.ShippingType;
+
+/**
+ * Chave de cache de uma cotação: o tipo de frete, a versão das tarifas (veja {@link rates.RateProvider#version()})
+ * e as medidas já quantizadas.
+ */
+public record QuoteKey(ShippingType type, long rateVersion, long weight, long height, long width, long length) {
+}
@@ -1,19 +1,47 @@
 package factory;
 
+import formula.FormulaStrategy;
+import metrics.ShippingMetrics;
+import rates.RateProvider;
+import rates.RateTable;
+import rates.RateTableStrategy;
 import strategy.*;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Fábrica para criar instâncias de estratégias de frete com base no tipo fornecido.
  */
 public class ShippingStrategyFactory {
 
+    private static final ShippingStrategyRegistry DEFAULT_REGISTRY = createDefaultRegistry();
+
     /**
-     * Retorna a estratégia de frete correspondente ao tipo fornecido.
+     * Retorna a instância compartilhada da estratégia de frete correspondente ao tipo fornecido.
      *
-     * @param strategyType O tipo de estratégia de frete ("economy", "fast", "store").
-     * @return A instância da estratégia de frete correspondente.
+     * @param strategyType O tipo de estratégia de frete.
+     * @return A instância compartilhada da estratégia de frete correspondente.
      */
     public static ShippingStrategy getStrategy(ShippingType strategyType) {
+        return DEFAULT_REGISTRY.get(strategyType);
+    }
+
+    /**
+     * Retorna o registro com as instâncias compartilhadas de todas as estratégias.
+     */
+    public static ShippingStrategyRegistry getRegistry() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Cria uma nova instância da estratégia de frete correspondente ao tipo fornecido.
+     * Use apenas quando for necessário uma instância própria, por exemplo para decorá-la.
+     *
+     * @param strategyType O tipo de estratégia de frete.
+     * @return Uma nova instância da estratégia de frete correspondente.
+     */
+    public static ShippingStrategy createStrategy(ShippingType strategyType) {
         return switch (strategyType) {
             case ECONOMY_SAVER -> new EconomySaverStrategy();
             case HYPER_SPEED -> new HyperSpeedStrategy();
@@ -21,4 +49,73 @@ public class ShippingStrategyFactory {
             default -> throw new IllegalArgumentException("Tipo de estratégia desconhecido: " + strategyType);
         };
     }
+
+    /**
+     * Cria um registro em que os tipos presentes na tabela de tarifas são cotados por ela; os demais
+     * tipos usam as instâncias compartilhadas padrão.
+     *
+     * @param rateTable As tarifas carregadas de arquivo.
+     * @return Um novo registro com as estratégias guiadas pela tabela.
+     */
+    public static ShippingStrategyRegistry createRegistry(RateTable rateTable) {
+        return createRegistry(new RateProvider(rateTable));
+    }
+
+    /**
+     * Cria um registro em que os tipos presentes na tabela em vigor no provedor são cotados por ela; os
+     * demais tipos usam as instâncias compartilhadas padrão. Tabelas publicadas depois no provedor (por
+     * exemplo, por um {@link rates.RateFileWatcher}) valem para as cotações seguintes.
+     *
+     * @param rateProvider A origem das tarifas em vigor.
+     * @return Um novo registro com as estratégias guiadas pelo provedor.
+     */
+    public static ShippingStrategyRegistry createRegistry(RateProvider rateProvider) {
+        RateTable rateTable = rateProvider.current();
+        EnumMap<ShippingType, ShippingStrategy> strategies = DEFAULT_REGISTRY.asMap();
+        for (ShippingType type : ShippingType.values()) {
+            if (rateTable.contains(type)) {
+                strategies.put(type, new RateTableStrategy(rateProvider, type));
+            }
+        }
+        return ShippingStrategyRegistry.of(strategies);
+    }
+
+    /**
+     * Cria um registro em que os tipos presentes no mapa são cotados pela fórmula correspondente (veja
+     * {@link formula.PricingFormula}); os demais tipos usam as instâncias compartilhadas padrão.
+     *
+     * @param formulas O texto da fórmula de cada tipo a ser substituído.
+     * @return Um novo registro com as estratégias definidas pelas fórmulas.
+     * @throws IllegalArgumentException Se alguma fórmula for inválida.
+     */
+    public static ShippingStrategyRegistry createFormulaRegistry(Map<ShippingType, String> formulas) {
+        EnumMap<ShippingType, ShippingStrategy> strategies = DEFAULT_REGISTRY.asMap();
+        formulas.forEach((type, formula) -> strategies.put(type, new FormulaStrategy(formula)));
+        return ShippingStrategyRegistry.of(strategies);
+    }
+
+    /**
+     * Cria um registro com as estratégias de {@code registry} decoradas por
+     * {@link InstrumentedShippingStrategy}, gravando em {@code metrics} as cotações de cada tipo.
+     * Um {@code ShippingService} criado com este registro fica instrumentado por inteiro.
+     *
+     * @param registry As estratégias a serem medidas.
+     * @param metrics  As métricas de destino.
+     * @return Um novo registro com as estratégias instrumentadas.
+     */
+    public static ShippingStrategyRegistry createInstrumentedRegistry(ShippingStrategyRegistry registry, ShippingMetrics metrics) {
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            strategies.put(type, new InstrumentedShippingStrategy(registry.get(type), metrics.get(type)));
+        }
+        return ShippingStrategyRegistry.of(strategies);
+    }
+
+    private static ShippingStrategyRegistry createDefaultRegistry() {
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            strategies.put(type, createStrategy(type));
+        }
+        return ShippingStrategyRegistry.of(strategies);
+    }
 }
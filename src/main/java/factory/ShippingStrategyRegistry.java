@@ -0,0 +1,63 @@
+package factory;
+
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Registro imutável com uma instância compartilhada de estratégia para cada {@link ShippingType}.<br><br>
+ * As estratégias são guardadas em um vetor indexado pelo {@code ordinal()} do tipo, então a busca
+ * é O(1) e não aloca objetos. Como as estratégias não têm estado, a mesma instância pode atender
+ * todas as threads.
+ */
+public final class ShippingStrategyRegistry {
+    private final ShippingStrategy[] strategies;
+
+    private ShippingStrategyRegistry(ShippingStrategy[] strategies) {
+        this.strategies = strategies;
+    }
+
+    /**
+     * Cria um registro a partir de um mapa que deve conter uma estratégia para cada tipo de frete.
+     *
+     * @param strategies As estratégias por tipo.
+     * @return O registro com as estratégias fornecidas.
+     */
+    public static ShippingStrategyRegistry of(Map<ShippingType, ? extends ShippingStrategy> strategies) {
+        ShippingType[] types = ShippingType.values();
+        ShippingStrategy[] byOrdinal = new ShippingStrategy[types.length];
+
+        for (ShippingType type : types) {
+            ShippingStrategy strategy = strategies.get(type);
+            if (strategy == null) {
+                throw new IllegalArgumentException("Nenhuma estratégia registrada para o tipo: " + type);
+            }
+            byOrdinal[type.ordinal()] = strategy;
+        }
+
+        return new ShippingStrategyRegistry(byOrdinal);
+    }
+
+    /**
+     * Retorna a estratégia compartilhada do tipo fornecido.
+     *
+     * @param type O tipo de frete.
+     * @return A estratégia registrada para o tipo.
+     */
+    public ShippingStrategy get(ShippingType type) {
+        return strategies[type.ordinal()];
+    }
+
+    /**
+     * Retorna uma cópia do registro como um {@link EnumMap}.
+     */
+    public EnumMap<ShippingType, ShippingStrategy> asMap() {
+        EnumMap<ShippingType, ShippingStrategy> map = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            map.put(type, strategies[type.ordinal()]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,348 @@
+package formula;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analisa o texto de uma fórmula e o compila em uma árvore de {@link MethodHandle}.<br><br>
+ * Gramática (descida recursiva, com a precedência usual):
+ * <pre>
+ * expressão := termo (('+' | '-') termo)*
+ * termo     := unário (('*' | '/') unário)*
+ * unário    := '-' unário | primário
+ * primário  := número | variável | função '(' expressão (',' expressão)* ')' | '(' expressão ')'
+ * </pre>
+ * Todo nó é um handle do tipo {@code (weight, height, width, length, volume) -> double}; o volume chega
+ * pronto (o {@link models.Parcel} já o guarda) em vez de ser recalculado pela fórmula, e subexpressões sem
+ * variáveis são calculadas durante a compilação. {@code max} e {@code min} usam a mesma comparação simples
+ * das estratégias em Java, sem o tratamento de {@code NaN} e {@code -0.0} de {@link Math#max(double, double)},
+ * que custa instruções a mais em toda cotação.
+ */
+final class FormulaCompiler {
+
+    static final MethodType TYPE = MethodType.methodType(double.class, double.class, double.class, double.class, double.class, double.class);
+
+    private static final int[] BOTH_ARGUMENTS = {0, 1, 2, 3, 4, 0, 1, 2, 3, 4};
+    private static final byte[] TEMPLATE = readTemplate();
+
+    private static final MethodHandle ADD = operator("add", 2);
+    private static final MethodHandle SUBTRACT = operator("subtract", 2);
+    private static final MethodHandle MULTIPLY = operator("multiply", 2);
+    private static final MethodHandle DIVIDE = operator("divide", 2);
+    private static final MethodHandle NEGATE = operator("negate", 1);
+
+    private static final Map<String, MethodHandle> FUNCTIONS = Map.of(
+            "max", operator("max", 2),
+            "min", operator("min", 2),
+            "abs", math("abs", 1),
+            "ceil", math("ceil", 1),
+            "floor", math("floor", 1),
+            "sqrt", math("sqrt", 1)
+    );
+
+    private final String source;
+    private int position;
+
+    private FormulaCompiler(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Compila a fórmula em uma classe oculta própria.
+     *
+     * @throws IllegalArgumentException Se o texto não for uma fórmula válida.
+     */
+    static FormulaFunction compile(String source) {
+        return define(compileHandle(source));
+    }
+
+    /**
+     * Compila a fórmula em uma árvore de handles do tipo {@link #TYPE}.
+     */
+    static MethodHandle compileHandle(String source) {
+        FormulaCompiler compiler = new FormulaCompiler(source);
+        Node node = compiler.expression();
+        compiler.skipWhitespace();
+        if (compiler.position < source.length()) {
+            throw compiler.error("Símbolo inesperado '" + source.charAt(compiler.position) + "'");
+        }
+        return node.handle();
+    }
+
+    private static FormulaFunction define(MethodHandle handle) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClassWithClassData(TEMPLATE, handle, true);
+            return (FormulaFunction) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class)).invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Falha ao gerar a classe da fórmula", e);
+        }
+    }
+
+    private Node expression() {
+        Node node = term();
+        while (true) {
+            if (accept('+')) {
+                node = Node.binary(ADD, node, term());
+            } else if (accept('-')) {
+                node = Node.binary(SUBTRACT, node, term());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private Node term() {
+        Node node = unary();
+        while (true) {
+            if (accept('*')) {
+                node = Node.binary(MULTIPLY, node, unary());
+            } else if (accept('/')) {
+                node = Node.binary(DIVIDE, node, unary());
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private Node unary() {
+        if (accept('-')) {
+            return Node.unary(NEGATE, unary());
+        }
+        return primary();
+    }
+
+    private Node primary() {
+        skipWhitespace();
+        if (position >= source.length()) {
+            throw error("Fim inesperado da fórmula");
+        }
+
+        char c = source.charAt(position);
+        if (accept('(')) {
+            Node node = expression();
+            expect(')');
+            return node;
+        }
+        if (Character.isDigit(c) || c == '.') {
+            return Node.constant(number());
+        }
+        if (Character.isLetter(c)) {
+            int start = position;
+            String name = identifier();
+            if (accept('(')) {
+                return call(name, start);
+            }
+            return variable(name, start);
+        }
+        throw error("Símbolo inesperado '" + c + "'");
+    }
+
+    private Node call(String name, int start) {
+        MethodHandle function = FUNCTIONS.get(name);
+        if (function == null) {
+            throw error(start, "Função desconhecida: " + name);
+        }
+
+        List<Node> arguments = new ArrayList<>();
+        arguments.add(expression());
+        while (accept(',')) {
+            arguments.add(expression());
+        }
+        expect(')');
+
+        int arity = function.type().parameterCount();
+        if (arity == 1) {
+            if (arguments.size() != 1) {
+                throw error(start, "A função " + name + " recebe um argumento");
+            }
+            return Node.unary(function, arguments.get(0));
+        }
+        if (arguments.size() < 2) {
+            throw error(start, "A função " + name + " recebe dois ou mais argumentos");
+        }
+        Node node = arguments.get(0);
+        for (int i = 1; i < arguments.size(); i++) {
+            node = Node.binary(function, node, arguments.get(i));
+        }
+        return node;
+    }
+
+    private Node variable(String name, int start) {
+        return switch (name) {
+            case "weight" -> Node.argument(0);
+            case "height" -> Node.argument(1);
+            case "width" -> Node.argument(2);
+            case "length" -> Node.argument(3);
+            case "volume" -> Node.argument(4);
+            default -> throw error(start, "Variável desconhecida: " + name);
+        };
+    }
+
+    private double number() {
+        int start = position;
+        while (position < source.length() && (Character.isDigit(source.charAt(position)) || source.charAt(position) == '.')) {
+            position++;
+        }
+        if (position < source.length() && (source.charAt(position) == 'e' || source.charAt(position) == 'E')) {
+            position++;
+            if (position < source.length() && (source.charAt(position) == '+' || source.charAt(position) == '-')) {
+                position++;
+            }
+            while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                position++;
+            }
+        }
+        try {
+            return Double.parseDouble(source.substring(start, position));
+        } catch (NumberFormatException e) {
+            throw error(start, "Número inválido: " + source.substring(start, position));
+        }
+    }
+
+    private String identifier() {
+        int start = position;
+        while (position < source.length() && Character.isLetterOrDigit(source.charAt(position))) {
+            position++;
+        }
+        return source.substring(start, position);
+    }
+
+    private boolean accept(char expected) {
+        skipWhitespace();
+        if (position < source.length() && source.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(char expected) {
+        if (!accept(expected)) {
+            throw error("Esperado '" + expected + "'");
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < source.length() && Character.isWhitespace(source.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return error(position, message);
+    }
+
+    private IllegalArgumentException error(int at, String message) {
+        return new IllegalArgumentException("Posição " + (at + 1) + ": " + message);
+    }
+
+    private static MethodHandle operator(String name, int arity) {
+        return find(Operators.class, name, arity);
+    }
+
+    private static MethodHandle math(String name, int arity) {
+        return find(Math.class, name, arity);
+    }
+
+    private static MethodHandle find(Class<?> owner, String name, int arity) {
+        MethodType type = arity == 1
+                ? MethodType.methodType(double.class, double.class)
+                : MethodType.methodType(double.class, double.class, double.class);
+        try {
+            return MethodHandles.lookup().findStatic(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static byte[] readTemplate() {
+        try (InputStream in = FormulaCompiler.class.getResourceAsStream("FormulaTemplate.class")) {
+            if (in == null) {
+                throw new IllegalStateException("Classe modelo das fórmulas não encontrada");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException("Falha ao ler a classe modelo das fórmulas", e);
+        }
+    }
+
+    /**
+     * Um nó compilado; guarda o valor quando a subexpressão é constante, para calculá-la uma única vez.
+     */
+    private record Node(MethodHandle handle, boolean isConstant, double value) {
+
+        static Node constant(double value) {
+            MethodHandle handle = MethodHandles.dropArguments(MethodHandles.constant(double.class, value), 0, TYPE.parameterList());
+            return new Node(handle, true, value);
+        }
+
+        static Node argument(int index) {
+            return new Node(MethodHandles.permuteArguments(MethodHandles.identity(double.class), TYPE, index), false, 0);
+        }
+
+        static Node unary(MethodHandle operator, Node operand) {
+            if (operand.isConstant) {
+                return constant(evaluate(MethodHandles.insertArguments(operator, 0, operand.value)));
+            }
+            return new Node(MethodHandles.filterReturnValue(operand.handle, operator), false, 0);
+        }
+
+        static Node binary(MethodHandle operator, Node left, Node right) {
+            if (left.isConstant && right.isConstant) {
+                return constant(evaluate(MethodHandles.insertArguments(operator, 0, left.value, right.value)));
+            }
+            // (l, r) -> (w, h, wd, len, vol, r) -> (w, h, wd, len, vol, w, h, wd, len, vol) -> (w, h, wd, len, vol)
+            MethodHandle withLeft = MethodHandles.collectArguments(operator, 0, left.handle);
+            MethodHandle both = MethodHandles.collectArguments(withLeft, TYPE.parameterCount(), right.handle);
+            return new Node(MethodHandles.permuteArguments(both, TYPE, BOTH_ARGUMENTS), false, 0);
+        }
+
+        private static double evaluate(MethodHandle bound) {
+            try {
+                return (double) bound.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * Operadores aritméticos como métodos, para serem usados como handles.
+     */
+    private static final class Operators {
+
+        private static double add(double left, double right) {
+            return left + right;
+        }
+
+        private static double subtract(double left, double right) {
+            return left - right;
+        }
+
+        private static double multiply(double left, double right) {
+            return left * right;
+        }
+
+        private static double divide(double left, double right) {
+            return left / right;
+        }
+
+        private static double negate(double value) {
+            return -value;
+        }
+
+        private static double max(double left, double right) {
+            return left > right ? left : right;
+        }
+
+        private static double min(double left, double right) {
+            return left < right ? left : right;
+        }
+    }
+}
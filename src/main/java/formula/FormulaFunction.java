@@ -0,0 +1,9 @@
+package formula;
+
+/**
+ * Uma fórmula compilada, avaliada sobre as medidas do pedido e o volume já calculado.
+ */
+interface FormulaFunction {
+
+    double evaluate(double weight, double height, double width, double length, double volume);
+}
@@ -0,0 +1,66 @@
+package formula;
+
+import models.Order;
+import models.OrderBatch;
+import models.Parcel;
+import strategy.Money;
+import strategy.ShippingStrategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Estratégia cujo preço vem de uma {@link PricingFormula} definida em texto, em vez de uma classe Java.
+ * O resultado da fórmula é arredondado para centavos com {@link RoundingMode#HALF_UP}; resultados negativos
+ * ou {@code NaN} são recusados com {@link IllegalArgumentException}, como nas demais estratégias.
+ */
+public class FormulaStrategy implements ShippingStrategy {
+    private final PricingFormula formula;
+
+    public FormulaStrategy(PricingFormula formula) {
+        this.formula = formula;
+    }
+
+    public FormulaStrategy(String formula) {
+        this(PricingFormula.compile(formula));
+    }
+
+    @Override
+    public BigDecimal calculateShippingCost(Order order) {
+        return Money.toBigDecimal(calculateShippingCostMinor(order.getParcel()));
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        return calculateShippingCostMinor(order.getParcel());
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        return toMinor(formula.evaluate(parcel));
+    }
+
+    @Override
+    public void calculateShippingCostsMinor(OrderBatch batch) {
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            double cost = formula.evaluate(batch.weight(i), batch.height(i), batch.width(i), batch.length(i));
+            batch.setCostMinor(i, toMinor(cost));
+        }
+    }
+
+    @Override
+    public boolean pricesByParcelOnly() {
+        return true;
+    }
+
+    private long toMinor(double cost) {
+        if (!(cost >= 0)) {
+            throw new IllegalArgumentException("A fórmula '" + formula + "' resultou em um custo inválido: " + cost);
+        }
+        return Money.toMinor(cost, RoundingMode.HALF_UP);
+    }
+
+    public PricingFormula getFormula() {
+        return formula;
+    }
+}
@@ -0,0 +1,35 @@
+package formula;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Modelo das classes ocultas geradas por {@link FormulaCompiler}; nunca é instanciado diretamente.<br><br>
+ * Os bytes desta classe são redefinidos como uma classe oculta por fórmula, cada uma com a árvore de
+ * {@link MethodHandle} da fórmula como dado de classe. Como o handle fica em um campo {@code static final},
+ * o JIT o trata como constante e compila a fórmula inteira inline no chamador de {@link #evaluate}.
+ */
+final class FormulaTemplate implements FormulaFunction {
+
+    private static final MethodHandle FORMULA;
+
+    static {
+        try {
+            FORMULA = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public double evaluate(double weight, double height, double width, double length, double volume) {
+        try {
+            return (double) FORMULA.invokeExact(weight, height, width, length, volume);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
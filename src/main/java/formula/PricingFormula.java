@@ -0,0 +1,52 @@
+package formula;
+
+import models.Parcel;
+
+/**
+ * Fórmula de preço definida em texto e compilada uma única vez para código que o JIT otimiza.<br><br>
+ * A fórmula calcula o custo em reais a partir das medidas do pedido, com as variáveis {@code weight},
+ * {@code height}, {@code width}, {@code length} e {@code volume} (altura × largura × comprimento), os
+ * operadores {@code + - * /}, parênteses e as funções {@code max}, {@code min} (dois ou mais argumentos),
+ * {@code abs}, {@code ceil}, {@code floor} e {@code sqrt}. A regra do HyperSpeed, por exemplo, é
+ * {@code max(volume / 139, weight) * 12}.<br><br>
+ * Cada fórmula vira uma árvore de {@link java.lang.invoke.MethodHandle} guardada como constante em uma
+ * classe oculta própria, então não há interpretação a cada cotação. Imutável e seguro para uso entre threads.
+ */
+public final class PricingFormula {
+    private final String source;
+    private final FormulaFunction function;
+
+    private PricingFormula(String source, FormulaFunction function) {
+        this.source = source;
+        this.function = function;
+    }
+
+    /**
+     * Analisa e compila a fórmula.
+     *
+     * @throws IllegalArgumentException Se o texto não for uma fórmula válida; a mensagem indica a posição do erro.
+     */
+    public static PricingFormula compile(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("A fórmula não pode ser vazia");
+        }
+        return new PricingFormula(source, FormulaCompiler.compile(source));
+    }
+
+    public double evaluate(double weight, double height, double width, double length) {
+        return function.evaluate(weight, height, width, length, height * width * length);
+    }
+
+    public double evaluate(Parcel parcel) {
+        return function.evaluate(parcel.weight(), parcel.height(), parcel.width(), parcel.length(), parcel.volume());
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,38 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+/**
+ * Evento do JDK Flight Recorder para a cotação de um lote de pedidos com a mesma estratégia.
+ * Segue o mesmo padrão de uso de {@link QuoteEvent}.
+ */
+@Name(QuoteBatchEvent.NAME)
+@Label("Shipping Quote Batch")
+@Category({"Shipping", "Quote"})
+@Description("Cálculo do frete de um lote de pedidos")
+@StackTrace(false)
+public final class QuoteBatchEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "shipping.QuoteBatch";
+
+    @Label("Shipping Type")
+    String shippingType;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Size")
+    int size;
+
+    public void set(ShippingType type, ShippingStrategy strategy, int size) {
+        this.shippingType = type == null ? null : type.name();
+        this.strategy = strategy.getClass().getSimpleName();
+        this.size = size;
+    }
+}
@@ -0,0 +1,38 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import strategy.ShippingType;
+
+/**
+ * Evento do JDK Flight Recorder para uma consulta ao cache de cotações. Em uma falta, a duração inclui
+ * o cálculo pela estratégia decorada. Segue o mesmo padrão de uso de {@link QuoteEvent}.
+ */
+@Name(QuoteCacheEvent.NAME)
+@Label("Shipping Quote Cache Lookup")
+@Category({"Shipping", "Cache"})
+@Description("Consulta ao cache de cotações")
+@StackTrace(false)
+public final class QuoteCacheEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "shipping.QuoteCache";
+
+    @Label("Shipping Type")
+    String shippingType;
+
+    @Label("Weight Bucket")
+    @Description("Limite superior da faixa de peso, em potências de dois")
+    int weightBucket;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    public void set(ShippingType type, double weight, boolean cacheHit) {
+        this.shippingType = type.name();
+        this.weightBucket = QuoteEvent.weightBucket(weight);
+        this.cacheHit = cacheHit;
+    }
+}
@@ -0,0 +1,63 @@
+package jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+/**
+ * Evento do JDK Flight Recorder para uma cotação de frete.<br><br>
+ * O uso segue o padrão do JFR para custo quase nulo com o evento desligado: criar, chamar
+ * {@link #begin()} antes do cálculo e só preencher os campos quando {@link #shouldCommit()} for
+ * verdadeiro. Desligado, o {@code begin()} não faz nada e a alocação é eliminada pelo JIT.
+ */
+@Name(QuoteEvent.NAME)
+@Label("Shipping Quote")
+@Category({"Shipping", "Quote"})
+@Description("Cálculo do frete de um pedido")
+@StackTrace(false)
+public final class QuoteEvent extends jdk.jfr.Event {
+
+    public static final String NAME = "shipping.Quote";
+
+    @Label("Shipping Type")
+    String shippingType;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Weight Bucket")
+    @Description("Limite superior da faixa de peso, em potências de dois")
+    int weightBucket;
+
+    @Label("Cost (minor units)")
+    long costMinor;
+
+    /**
+     * Preenche os campos do evento; o tipo é {@code null} quando a estratégia padrão do serviço é usada.
+     */
+    public void set(ShippingType type, ShippingStrategy strategy, double weight, long costMinor) {
+        this.shippingType = type == null ? null : type.name();
+        this.strategy = strategy.getClass().getSimpleName();
+        this.weightBucket = weightBucket(weight);
+        this.costMinor = costMinor;
+    }
+
+    /**
+     * Retorna a menor potência de dois maior ou igual ao peso (1, 2, 4, 8...), ou zero para pesos
+     * inválidos, para agrupar as cotações sem expor o peso exato.
+     */
+    public static int weightBucket(double weight) {
+        if (!(weight > 0)) {
+            return 0;
+        }
+        if (weight >= 1 << 30) {
+            return 1 << 30;
+        }
+        int ceiling = (int) Math.ceil(weight);
+        return ceiling <= 1 ? 1 : Integer.highestOneBit(ceiling - 1) << 1;
+    }
+}
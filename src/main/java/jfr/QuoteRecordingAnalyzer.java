@@ -0,0 +1,70 @@
+package jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resume um arquivo {@code .jfr} em latência e vazão de cotação por estratégia.<br><br>
+ * Lê os eventos {@link QuoteEvent}, {@link QuoteBatchEvent} e {@link QuoteCacheEvent}; os demais são
+ * ignorados. As cotações são agrupadas pelo tipo de frete ou, quando feitas pela estratégia padrão do
+ * serviço, pelo nome da classe da estratégia. Uso:
+ * <pre>
+ * java -XX:StartFlightRecording:filename=quotes.jfr ...
+ * java jfr.QuoteRecordingAnalyzer quotes.jfr
+ * </pre>
+ */
+public final class QuoteRecordingAnalyzer {
+
+    private QuoteRecordingAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: QuoteRecordingAnalyzer <gravacao.jfr>");
+            System.exit(2);
+        }
+        System.out.print(toText(analyze(Path.of(args[0]))));
+    }
+
+    /**
+     * Lê a gravação e retorna os resumos ordenados pelo nome da estratégia.
+     */
+    public static Map<String, QuoteSummary> analyze(Path recording) throws IOException {
+        Map<String, QuoteSummary> summaries = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                switch (event.getEventType().getName()) {
+                    case QuoteEvent.NAME -> summaryFor(summaries, event)
+                            .addQuote(event.getStartTime(), event.getDuration());
+                    case QuoteBatchEvent.NAME -> summaryFor(summaries, event)
+                            .addBatch(event.getStartTime(), event.getDuration(), event.getInt("size"));
+                    case QuoteCacheEvent.NAME -> summaryFor(summaries, event)
+                            .addCacheLookup(event.getBoolean("cacheHit"));
+                    default -> {
+                    }
+                }
+            }
+        }
+        return summaries;
+    }
+
+    public static String toText(Map<String, QuoteSummary> summaries) {
+        StringBuilder text = new StringBuilder();
+        summaries.values().forEach(summary -> text.append(summary.toText()).append('\n'));
+        return text.toString();
+    }
+
+    private static QuoteSummary summaryFor(Map<String, QuoteSummary> summaries, RecordedEvent event) {
+        String name = event.getString("shippingType");
+        if (name == null) {
+            name = event.getString("strategy");
+        }
+        return summaries.computeIfAbsent(name, QuoteSummary::new);
+    }
+}
@@ -0,0 +1,102 @@
+package jfr;
+
+import metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Resumo dos eventos de cotação de uma estratégia em uma gravação do JFR.<br><br>
+ * A vazão considera as cotações individuais e os pedidos cotados em lote, dividida pelo intervalo entre
+ * o primeiro e o último evento da estratégia.
+ */
+public final class QuoteSummary {
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private long batchedOrders;
+    private long cacheLookups;
+    private long cacheHits;
+    private Instant firstStart;
+    private Instant lastEnd;
+
+    QuoteSummary(String name) {
+        this.name = name;
+    }
+
+    void addQuote(Instant start, Duration duration) {
+        latency.record(duration.toNanos());
+        extend(start, duration);
+    }
+
+    void addBatch(Instant start, Duration duration, int size) {
+        batchedOrders += size;
+        extend(start, duration);
+    }
+
+    void addCacheLookup(boolean hit) {
+        cacheLookups++;
+        if (hit) {
+            cacheHits++;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Latência das cotações individuais, em nanossegundos.
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getQuoteCount() {
+        return latency.getCount();
+    }
+
+    public long getBatchedOrderCount() {
+        return batchedOrders;
+    }
+
+    public long getCacheLookupCount() {
+        return cacheLookups;
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits;
+    }
+
+    public double getCacheHitRatio() {
+        return cacheLookups == 0 ? 0.0 : (double) cacheHits / cacheLookups;
+    }
+
+    /**
+     * Cotações (individuais e em lote) por segundo no intervalo coberto pelos eventos.
+     */
+    public double getThroughputPerSecond() {
+        if (firstStart == null) {
+            return 0.0;
+        }
+        long nanos = Duration.between(firstStart, lastEnd).toNanos();
+        long quotes = getQuoteCount() + batchedOrders;
+        return nanos <= 0 ? 0.0 : quotes * 1e9 / nanos;
+    }
+
+    public String toText() {
+        return latency.toText(name) + String.format(Locale.ROOT,
+                " batched=%d throughput=%.1f/s cacheHitRatio=%.3f",
+                batchedOrders, getThroughputPerSecond(), getCacheHitRatio());
+    }
+
+    private void extend(Instant start, Duration duration) {
+        Instant end = start.plus(duration);
+        if (firstStart == null || start.isBefore(firstStart)) {
+            firstStart = start;
+        }
+        if (lastEnd == null || end.isAfter(lastEnd)) {
+            lastEnd = end;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package loadtest;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import metrics.LatencyHistogram;
+import models.Order;
+import notification.AsyncNotifier;
+import services.ShippingService;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+import strategy.StorePickupStrategy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em malha aberta para o {@link ShippingService}.<br><br>
+ * Os instantes de chegada são agendados pela taxa configurada, sem depender das respostas. Cada thread
+ * pega o próximo instante livre, espera por ele e cota um pedido do conjunto pré-gerado; a latência é
+ * medida a partir do instante agendado, e não do início efetivo. Assim, quando o serviço para por um
+ * momento, as cotações que deveriam ter começado nesse intervalo registram a espera (correção da
+ * "omissão coordenada"), em vez de simplesmente não serem enviadas. O tempo de serviço puro também é
+ * registrado, para comparação.<br><br>
+ * A rodada termina no fim da janela configurada; chegadas agendadas que não couberam são informadas
+ * como {@code unsent}, sinal de que a taxa está acima da capacidade.
+ */
+public class LoadGenerator {
+
+    // Abaixo disso a espera pelo instante agendado é ativa, pois o park tem granularidade grosseira
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ShippingService shippingService;
+    private final LoadTestConfig config;
+
+    public LoadGenerator(ShippingService shippingService, LoadTestConfig config) {
+        if (!(config.getTargetRate() > 0) || config.getThreads() < 1 || config.getOrderPoolSize() < 1) {
+            throw new IllegalArgumentException("Taxa, threads e tamanho do conjunto de pedidos devem ser positivos");
+        }
+        if (config.getDuration().isNegative() || config.getDuration().isZero() || config.getWarmup().isNegative()) {
+            throw new IllegalArgumentException("Duração inválida: " + config.getDuration() + " / " + config.getWarmup());
+        }
+        this.shippingService = shippingService;
+        this.config = config;
+    }
+
+    /**
+     * Argumentos no formato {@code chave=valor}: {@code rate} (ou {@code rates=1000,5000,...} para
+     * aumentar a taxa até o p99 passar de {@code p99Ms}), {@code threads}, {@code durationSeconds},
+     * {@code warmupSeconds} e {@code poisson}.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestConfig.LoadTestConfigBuilder builder = LoadTestConfig.builder();
+        String rates = null;
+        double p99Millis = 10;
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Argumento inválido, use chave=valor: " + arg);
+            }
+            switch (pair[0]) {
+                case "rate" -> builder.targetRate(Double.parseDouble(pair[1]));
+                case "rates" -> rates = pair[1];
+                case "p99Ms" -> p99Millis = Double.parseDouble(pair[1]);
+                case "threads" -> builder.threads(Integer.parseInt(pair[1]));
+                case "durationSeconds" -> builder.duration(Duration.ofSeconds(Long.parseLong(pair[1])));
+                case "warmupSeconds" -> builder.warmup(Duration.ofSeconds(Long.parseLong(pair[1])));
+                case "poisson" -> builder.poissonArrivals(Boolean.parseBoolean(pair[1]));
+                default -> throw new IllegalArgumentException("Argumento desconhecido: " + pair[0]);
+            }
+        }
+
+        ShippingService service = new ShippingService(quietRegistry());
+        LoadTestConfig config = builder.build();
+        if (rates == null) {
+            System.out.print(new LoadGenerator(service, config).run().toText());
+            return;
+        }
+
+        long p99Limit = (long) (p99Millis * TimeUnit.MILLISECONDS.toNanos(1));
+        for (String rate : rates.split(",")) {
+            LoadTestReport report = new LoadGenerator(service, config.toBuilder().targetRate(Double.parseDouble(rate.trim())).build()).run();
+            System.out.print(report.toText());
+            if (!report.isWithin(p99Limit)) {
+                System.out.printf(Locale.ROOT, "p99 acima de %.1f ms a partir de %s cotações/s%n", p99Millis, rate.trim());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Executa a rodada completa (aquecimento e medição) e bloqueia até o fim.
+     */
+    public LoadTestReport run() throws InterruptedException {
+        int poolSize = Integer.highestOneBit(config.getOrderPoolSize());
+        Order[] orders = new Order[poolSize];
+        ShippingType[] types = new ShippingType[poolSize];
+        SplittableRandom random = new SplittableRandom(config.getSeed());
+        for (int i = 0; i < poolSize; i++) {
+            types[i] = config.getTrafficMix().next(random);
+            orders[i] = OrderProfile.forType(types[i]).next(random);
+        }
+
+        Run run = new Run(orders, types);
+        List<Thread> workers = new ArrayList<>(config.getThreads());
+        for (int i = 0; i < config.getThreads(); i++) {
+            workers.add(Thread.ofPlatform().name("load-generator-" + i).start(run::work));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return run.report();
+    }
+
+    /**
+     * Registro padrão com a retirada na loja notificando um destino vazio, para que a carga não
+     * escreva mensagens na saída padrão.
+     */
+    static ShippingStrategyRegistry quietRegistry() {
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.STORE_PICKUP, new StorePickupStrategy(new AsyncNotifier(messages -> {
+        })));
+        return ShippingStrategyRegistry.of(strategies);
+    }
+
+    private final class Run {
+        private final Order[] orders;
+        private final ShippingType[] types;
+        private final int poolMask;
+        private final double meanIntervalNanos;
+        private final long measureStart;
+        private final long end;
+
+        private final AtomicLong nextArrival;
+        private final AtomicInteger nextOrder = new AtomicInteger();
+        private final AtomicLong lastCompletion = new AtomicLong();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        // Chegadas já reservadas, dentro da janela, que não foram enviadas porque a janela acabou antes
+        private final LongAdder claimedUnsent = new LongAdder();
+        private final LatencyHistogram responseTime = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+
+        private Run(Order[] orders, ShippingType[] types) {
+            this.orders = orders;
+            this.types = types;
+            this.poolMask = orders.length - 1;
+            this.meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.getTargetRate();
+
+            long start = System.nanoTime();
+            this.measureStart = start + config.getWarmup().toNanos();
+            this.end = measureStart + config.getDuration().toNanos();
+            this.nextArrival = new AtomicLong(start);
+        }
+
+        private void work() {
+            while (true) {
+                long intended = claimArrival();
+                if (intended >= end) {
+                    return;
+                }
+                if (System.nanoTime() >= end) {
+                    if (intended >= measureStart) {
+                        claimedUnsent.increment();
+                    }
+                    return;
+                }
+                awaitUntil(intended);
+
+                int index = nextOrder.getAndIncrement() & poolMask;
+                long started = System.nanoTime();
+                boolean failed = false;
+                try {
+                    shippingService.calculateShippingCost(types[index], orders[index]);
+                } catch (RuntimeException e) {
+                    failed = true;
+                }
+                long finished = System.nanoTime();
+
+                if (intended >= measureStart) {
+                    responseTime.record(finished - intended);
+                    serviceTime.record(finished - started);
+                    completed.increment();
+                    if (failed) {
+                        errors.increment();
+                    }
+                    lastCompletion.accumulateAndGet(finished, Math::max);
+                }
+            }
+        }
+
+        /**
+         * Reserva o próximo instante de chegada; os intervalos são fixos ou exponenciais.
+         */
+        private long claimArrival() {
+            while (true) {
+                long current = nextArrival.get();
+                double interval = config.isPoissonArrivals()
+                        ? -Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos
+                        : meanIntervalNanos;
+                if (nextArrival.compareAndSet(current, current + Math.max(1, Math.round(interval)))) {
+                    return current;
+                }
+            }
+        }
+
+        private void awaitUntil(long deadline) {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                if (remaining > SPIN_THRESHOLD_NANOS) {
+                    LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+
+        private LoadTestReport report() {
+            long pending = end - Math.max(nextArrival.get(), measureStart);
+            long unsent = (pending > 0 ? Math.round(pending / meanIntervalNanos) : 0) + claimedUnsent.sum();
+            long elapsed = Math.max(1, Math.max(end, lastCompletion.get()) - measureStart);
+            double throughput = completed.sum() * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            return new LoadTestReport(config.getTargetRate(), config.getThreads(), completed.sum(), errors.sum(),
+                    unsent, throughput, responseTime, serviceTime);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuração de uma rodada do {@link LoadGenerator}.<br><br>
+ * A taxa de chegada é fixa e independente das respostas (carga em malha aberta): se o serviço atrasa, as
+ * cotações seguintes continuam agendadas e o atraso entra na latência medida.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class LoadTestConfig {
+
+    /**
+     * Cotações por segundo que devem ser iniciadas.
+     */
+    @Builder.Default
+    private final double targetRate = 1_000;
+
+    /**
+     * Quantidade de threads que executam as cotações; limita a concorrência, não a taxa.
+     */
+    @Builder.Default
+    private final int threads = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Tempo de aquecimento, descartado das medições.
+     */
+    @Builder.Default
+    private final Duration warmup = Duration.ofSeconds(5);
+
+    @Builder.Default
+    private final Duration duration = Duration.ofSeconds(30);
+
+    /**
+     * Chegadas com intervalos exponenciais (processo de Poisson) em vez de intervalos fixos.
+     */
+    @Builder.Default
+    private final boolean poissonArrivals = true;
+
+    @Builder.Default
+    private final TrafficMix trafficMix = TrafficMix.DEFAULT;
+
+    /**
+     * Quantidade de pedidos gerados antes da rodada e reaproveitados em ciclo; é arredondada para
+     * uma potência de dois.
+     */
+    @Builder.Default
+    private final int orderPoolSize = 1 << 16;
+
+    @Builder.Default
+    private final long seed = 42;
+}
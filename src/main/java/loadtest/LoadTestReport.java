@@ -0,0 +1,35 @@
+package loadtest;
+
+import metrics.LatencyHistogram;
+
+import java.util.Locale;
+
+/**
+ * Resultado de uma rodada do {@link LoadGenerator}.
+ *
+ * @param targetRate   A taxa de chegada configurada, em cotações por segundo.
+ * @param threads      A quantidade de threads usada.
+ * @param completed    Cotações concluídas na janela de medição.
+ * @param errors       Cotações que terminaram com exceção (incluídas em {@code completed}).
+ * @param unsent       Cotações agendadas na janela que não chegaram a ser iniciadas até o fim da rodada.
+ * @param throughput   Cotações concluídas por segundo na janela de medição.
+ * @param responseTime Latência desde o instante agendado da chegada, que inclui a espera por uma thread livre.
+ * @param serviceTime  Latência desde o início efetivo do cálculo, sem a espera.
+ */
+public record LoadTestReport(double targetRate, int threads, long completed, long errors, long unsent,
+                             double throughput, LatencyHistogram responseTime, LatencyHistogram serviceTime) {
+
+    /**
+     * Indica se o p99 do tempo de resposta ficou dentro do limite e todas as cotações agendadas foram feitas.
+     */
+    public boolean isWithin(long p99LimitNanos) {
+        return unsent == 0 && responseTime.getValueAtPercentile(99) <= p99LimitNanos;
+    }
+
+    public String toText() {
+        return String.format(Locale.ROOT, "rate=%.0f/s threads=%d throughput=%.0f/s completed=%d errors=%d unsent=%d%n",
+                targetRate, threads, throughput, completed, errors, unsent)
+                + "  " + responseTime.toText("response") + '\n'
+                + "  " + serviceTime.toText("service") + '\n';
+    }
+}
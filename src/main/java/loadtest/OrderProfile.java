@@ -0,0 +1,72 @@
+package loadtest;
+
+import models.Order;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.random.RandomGenerator;
+
+/**
+ * Perfil das medidas dos pedidos de cada {@link ShippingType}, usado para gerar carga sintética.<br><br>
+ * Peso e dimensões seguem distribuições log-normais (muitos pacotes pequenos e uma cauda de pacotes
+ * grandes), com mediana e dispersão próprias de cada tipo, limitadas a faixas plausíveis.
+ */
+public enum OrderProfile {
+    /**
+     * Econômico: pacotes médios e pesados, que cruzam o limite de peso da tarifa.
+     */
+    ECONOMY_SAVER(ShippingType.ECONOMY_SAVER, 8.0, 0.8, 20.0, 0.5),
+    /**
+     * Expresso: pacotes pequenos e leves, com alguns volumosos onde o peso volumétrico prevalece.
+     */
+    HYPER_SPEED(ShippingType.HYPER_SPEED, 1.5, 0.7, 12.0, 0.6),
+    /**
+     * Retirada na loja: compras do dia a dia, de tamanho intermediário.
+     */
+    STORE_PICKUP(ShippingType.STORE_PICKUP, 4.0, 0.6, 15.0, 0.4);
+
+    private static final double MIN_VALUE = 0.1;
+    private static final double MAX_WEIGHT = 150.0;
+    private static final double MAX_DIMENSION = 108.0;
+    private static final LocalDateTime DATE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final ShippingType shippingType;
+    private final double medianWeight;
+    private final double weightSpread;
+    private final double medianDimension;
+    private final double dimensionSpread;
+
+    OrderProfile(ShippingType shippingType, double medianWeight, double weightSpread,
+                 double medianDimension, double dimensionSpread) {
+        this.shippingType = shippingType;
+        this.medianWeight = medianWeight;
+        this.weightSpread = weightSpread;
+        this.medianDimension = medianDimension;
+        this.dimensionSpread = dimensionSpread;
+    }
+
+    public static OrderProfile forType(ShippingType type) {
+        return values()[type.ordinal()];
+    }
+
+    public ShippingType getShippingType() {
+        return shippingType;
+    }
+
+    public Order next(RandomGenerator random) {
+        return new Order(
+                logNormal(random, medianWeight, weightSpread, MAX_WEIGHT),
+                logNormal(random, medianDimension, dimensionSpread, MAX_DIMENSION),
+                logNormal(random, medianDimension, dimensionSpread, MAX_DIMENSION),
+                logNormal(random, medianDimension, dimensionSpread, MAX_DIMENSION),
+                BigDecimal.valueOf(random.nextInt(10, 5_000)),
+                DATE_TIME
+        );
+    }
+
+    private static double logNormal(RandomGenerator random, double median, double spread, double max) {
+        double value = median * Math.exp(spread * random.nextGaussian());
+        return Math.min(max, Math.max(MIN_VALUE, value));
+    }
+}
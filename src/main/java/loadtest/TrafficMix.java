@@ -0,0 +1,76 @@
+package loadtest;
+
+import strategy.ShippingType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * Proporção de cada {@link ShippingType} no tráfego gerado.
+ */
+public final class TrafficMix {
+
+    /**
+     * Mistura típica de checkout: maioria econômica, um terço expressa e poucas retiradas.
+     */
+    public static final TrafficMix DEFAULT = of(Map.of(
+            ShippingType.ECONOMY_SAVER, 0.55,
+            ShippingType.HYPER_SPEED, 0.35,
+            ShippingType.STORE_PICKUP, 0.10
+    ));
+
+    // Probabilidade acumulada por ordinal do tipo
+    private final double[] cumulative;
+
+    private TrafficMix(double[] cumulative) {
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * Cria a mistura a partir de pesos relativos; tipos ausentes não são gerados.
+     */
+    public static TrafficMix of(Map<ShippingType, Double> weights) {
+        ShippingType[] types = ShippingType.values();
+        double total = 0;
+        for (ShippingType type : types) {
+            double weight = weights.getOrDefault(type, 0.0);
+            if (!(weight >= 0)) {
+                throw new IllegalArgumentException("Peso inválido para " + type + ": " + weight);
+            }
+            total += weight;
+        }
+        if (!(total > 0)) {
+            throw new IllegalArgumentException("A mistura deve ter ao menos um tipo com peso positivo");
+        }
+
+        double[] cumulative = new double[types.length];
+        double sum = 0;
+        for (ShippingType type : types) {
+            sum += weights.getOrDefault(type, 0.0);
+            cumulative[type.ordinal()] = sum / total;
+        }
+        return new TrafficMix(cumulative);
+    }
+
+    public ShippingType next(RandomGenerator random) {
+        double value = random.nextDouble();
+        ShippingType[] types = ShippingType.values();
+        for (int i = 0; i < cumulative.length - 1; i++) {
+            if (value < cumulative[i]) {
+                return types[i];
+            }
+        }
+        return types[cumulative.length - 1];
+    }
+
+    public Map<ShippingType, Double> asMap() {
+        EnumMap<ShippingType, Double> weights = new EnumMap<>(ShippingType.class);
+        double previous = 0;
+        for (ShippingType type : ShippingType.values()) {
+            weights.put(type, cumulative[type.ordinal()] - previous);
+            previous = cumulative[type.ordinal()];
+        }
+        return weights;
+    }
+}
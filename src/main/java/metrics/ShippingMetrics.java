@@ -0,0 +1,96 @@
+package metrics;
+
+import strategy.ShippingType;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Métricas de cotação de todos os {@link ShippingType}, publicadas como MBeans da plataforma.<br><br>
+ * Cada tipo é registrado como {@code shipping:type=StrategyMetrics,name=<TIPO>}, visível no JConsole
+ * ou no VisualVM; {@link #toText()} gera o mesmo conteúdo em texto, uma linha por tipo.
+ */
+public class ShippingMetrics {
+
+    public static final String DOMAIN = "shipping";
+
+    private final StrategyMetrics[] metrics;
+
+    public ShippingMetrics() {
+        ShippingType[] types = ShippingType.values();
+        this.metrics = new StrategyMetrics[types.length];
+        for (ShippingType type : types) {
+            metrics[type.ordinal()] = new StrategyMetrics(type);
+        }
+    }
+
+    public StrategyMetrics get(ShippingType type) {
+        return metrics[type.ordinal()];
+    }
+
+    /**
+     * Registra os MBeans no servidor da plataforma.
+     */
+    public void registerMBeans() {
+        registerMBeans(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Registra um MBean por tipo de frete no servidor informado.
+     *
+     * @throws IllegalStateException Se algum nome já estiver registrado.
+     */
+    public void registerMBeans(MBeanServer server) {
+        for (ShippingType type : ShippingType.values()) {
+            try {
+                server.registerMBean(get(type), objectName(type));
+            } catch (JMException e) {
+                throw new IllegalStateException("Falha ao registrar as métricas de " + type, e);
+            }
+        }
+    }
+
+    /**
+     * Remove do servidor os MBeans registrados; nomes ausentes são ignorados.
+     */
+    public void unregisterMBeans(MBeanServer server) {
+        for (ShippingType type : ShippingType.values()) {
+            ObjectName name = objectName(type);
+            try {
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                throw new IllegalStateException("Falha ao remover as métricas de " + type, e);
+            }
+        }
+    }
+
+    public static ObjectName objectName(ShippingType type) {
+        try {
+            return new ObjectName(DOMAIN + ":type=StrategyMetrics,name=" + type.name());
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Retrato em texto das métricas, uma linha por tipo de frete.
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        for (StrategyMetrics strategyMetrics : metrics) {
+            text.append(strategyMetrics.toText()).append('\n');
+        }
+        return text.toString();
+    }
+
+    public void reset() {
+        for (StrategyMetrics strategyMetrics : metrics) {
+            strategyMetrics.reset();
+        }
+    }
+}
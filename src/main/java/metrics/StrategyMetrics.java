@@ -0,0 +1,117 @@
+package metrics;
+
+import strategy.ShippingType;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores e latências das cotações de um {@link ShippingType}.<br><br>
+ * Cada cotação conta uma chamada; as que terminam com exceção contam também um erro. A latência é
+ * gravada em ambos os casos. Os atributos são lidos via JMX por {@link StrategyMetricsMXBean}.
+ */
+public class StrategyMetrics implements StrategyMetricsMXBean {
+    private final ShippingType shippingType;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final StripedLatencyHistogram latency = new StripedLatencyHistogram();
+
+    public StrategyMetrics(ShippingType shippingType) {
+        this.shippingType = shippingType;
+    }
+
+    public void recordSuccess(long nanos) {
+        calls.increment();
+        latency.record(nanos);
+    }
+
+    public void recordFailure(long nanos) {
+        calls.increment();
+        errors.increment();
+        latency.record(nanos);
+    }
+
+    /**
+     * Registra um lote cotado de uma vez: cada pedido conta uma chamada com o tempo médio do lote.
+     */
+    public void recordBatch(int count, long nanos, boolean failed) {
+        if (count < 1) {
+            return;
+        }
+        calls.add(count);
+        if (failed) {
+            errors.add(count);
+        }
+        latency.record(nanos / count, count);
+    }
+
+    /**
+     * Retorna a soma das latências gravadas até agora.
+     */
+    public LatencyHistogram latencySnapshot() {
+        return latency.snapshot();
+    }
+
+    /**
+     * Resumo em texto com contagens e percentis em microssegundos.
+     */
+    public String toText() {
+        return latencySnapshot().toText(shippingType.name()) + " errors=" + errors.sum();
+    }
+
+    @Override
+    public String getShippingType() {
+        return shippingType.name();
+    }
+
+    @Override
+    public long getCallCount() {
+        return calls.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        return toMicros(latencySnapshot().getMeanNanos());
+    }
+
+    @Override
+    public double getP50LatencyMicros() {
+        return toMicros(latencySnapshot().getValueAtPercentile(50));
+    }
+
+    @Override
+    public double getP90LatencyMicros() {
+        return toMicros(latencySnapshot().getValueAtPercentile(90));
+    }
+
+    @Override
+    public double getP99LatencyMicros() {
+        return toMicros(latencySnapshot().getValueAtPercentile(99));
+    }
+
+    @Override
+    public double getP999LatencyMicros() {
+        return toMicros(latencySnapshot().getValueAtPercentile(99.9));
+    }
+
+    @Override
+    public double getMaxLatencyMicros() {
+        return toMicros(latencySnapshot().getMaxNanos());
+    }
+
+    @Override
+    public void reset() {
+        calls.reset();
+        errors.reset();
+        latency.reset();
+    }
+
+    private static double toMicros(double nanos) {
+        return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+    }
+}
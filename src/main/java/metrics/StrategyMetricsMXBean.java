@@ -0,0 +1,27 @@
+package metrics;
+
+/**
+ * Atributos JMX das cotações de um tipo de frete; as latências são em microssegundos.
+ */
+public interface StrategyMetricsMXBean {
+
+    String getShippingType();
+
+    long getCallCount();
+
+    long getErrorCount();
+
+    double getMeanLatencyMicros();
+
+    double getP50LatencyMicros();
+
+    double getP90LatencyMicros();
+
+    double getP99LatencyMicros();
+
+    double getP999LatencyMicros();
+
+    double getMaxLatencyMicros();
+
+    void reset();
+}
@@ -0,0 +1,70 @@
+package metrics;
+
+/**
+ * Histograma de latências dividido em faixas independentes, para gravação sem disputa entre threads.<br><br>
+ * Cada thread grava sempre na mesma faixa, escolhida pelo seu identificador; assim threads diferentes
+ * raramente incrementam os mesmos contadores e as linhas de cache não ficam pulando entre núcleos.
+ * A leitura soma todas as faixas em um {@link LatencyHistogram} novo, então é mais cara que a gravação
+ * e não é uma fotografia atômica enquanto houver gravações concorrentes.
+ */
+public class StripedLatencyHistogram {
+
+    public static final int DEFAULT_STRIPE_COUNT =
+            Math.min(16, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)));
+
+    private final LatencyHistogram[] stripes;
+    private final int stripeMask;
+
+    public StripedLatencyHistogram() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    /**
+     * @param stripeCount A quantidade de faixas, arredondada para baixo para uma potência de dois.
+     */
+    public StripedLatencyHistogram(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("A quantidade de faixas deve ser positiva: " + stripeCount);
+        }
+        this.stripes = new LatencyHistogram[Integer.highestOneBit(stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new LatencyHistogram();
+        }
+        this.stripeMask = stripes.length - 1;
+    }
+
+    public void record(long nanos) {
+        stripe().record(nanos);
+    }
+
+    public void record(long nanos, long count) {
+        stripe().record(nanos, count);
+    }
+
+    /**
+     * Retorna a soma de todas as faixas em um histograma independente deste.
+     */
+    public LatencyHistogram snapshot() {
+        LatencyHistogram snapshot = new LatencyHistogram();
+        for (LatencyHistogram stripe : stripes) {
+            snapshot.add(stripe);
+        }
+        return snapshot;
+    }
+
+    public void reset() {
+        for (LatencyHistogram stripe : stripes) {
+            stripe.reset();
+        }
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    private LatencyHistogram stripe() {
+        // Espalha os identificadores sequenciais das threads pelos bits altos (hash de Fibonacci)
+        long hash = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 32) & stripeMask];
+    }
+}
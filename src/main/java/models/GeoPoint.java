@@ -0,0 +1,13 @@
+package models;
+
+/**
+ * Coordenada geográfica em graus decimais (WGS 84).
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    public GeoPoint {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Coordenada inválida: " + latitude + ", " + longitude);
+        }
+    }
+}
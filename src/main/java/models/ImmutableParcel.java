@@ -0,0 +1,51 @@
+package models;
+
+/**
+ * Medidas imutáveis de um pedido em campos primitivos, com o volume calculado uma única vez.
+ */
+public final class ImmutableParcel implements Parcel {
+    private final double weight;
+    private final double height;
+    private final double width;
+    private final double length;
+    private final double volume;
+
+    public ImmutableParcel(double weight, double height, double width, double length) {
+        this.weight = weight;
+        this.height = height;
+        this.width = width;
+        this.length = length;
+        this.volume = height * width * length;
+    }
+
+    @Override
+    public double weight() {
+        return weight;
+    }
+
+    @Override
+    public double height() {
+        return height;
+    }
+
+    @Override
+    public double width() {
+        return width;
+    }
+
+    @Override
+    public double length() {
+        return length;
+    }
+
+    @Override
+    public double volume() {
+        return volume;
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableParcel[weight=" + weight + ", height=" + height
+                + ", width=" + width + ", length=" + length + "]";
+    }
+}
@@ -0,0 +1,48 @@
+package models;
+
+/**
+ * Medidas de pacote reaproveitáveis, usadas como cursor ao percorrer grandes volumes de pedidos.<br><br>
+ * Uma única instância é preenchida com cada registro e passada às estratégias, evitando criar um
+ * objeto por pedido. Não é segura para uso entre threads e não deve ser guardada pelas estratégias.
+ */
+public final class MutableParcel implements Parcel {
+    private double weight;
+    private double height;
+    private double width;
+    private double length;
+    private double volume;
+
+    public MutableParcel set(double weight, double height, double width, double length) {
+        this.weight = weight;
+        this.height = height;
+        this.width = width;
+        this.length = length;
+        this.volume = height * width * length;
+        return this;
+    }
+
+    @Override
+    public double weight() {
+        return weight;
+    }
+
+    @Override
+    public double height() {
+        return height;
+    }
+
+    @Override
+    public double width() {
+        return width;
+    }
+
+    @Override
+    public double length() {
+        return length;
+    }
+
+    @Override
+    public double volume() {
+        return volume;
+    }
+}
@@ -1,21 +1,50 @@
 package models;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
- * Representa um pedido com suas principais características.
+ * Representa um pedido com suas principais características.<br><br>
+ * As medidas são convertidas uma única vez para um {@link ImmutableParcel}, que é o que as
+ * estratégias usam no cálculo, evitando unboxing repetido a cada cotação.<br><br>
+ * Os CEPs de origem e destino são opcionais; quando informados, permitem cotar por zona de distância.
+ * A localização do cliente também é opcional e é usada para sugerir as lojas de retirada mais próximas.
  */
-@AllArgsConstructor
 @Getter
 public class Order {
-    private Double weight;
-    private Double height;
-    private Double width;
-    private Double length;
-    private BigDecimal price;
-    private LocalDateTime dateTime;
+    private final Double weight;
+    private final Double height;
+    private final Double width;
+    private final Double length;
+    private final BigDecimal price;
+    private final LocalDateTime dateTime;
+    private final String originPostalCode;
+    private final String destinationPostalCode;
+    private final GeoPoint customerLocation;
+    private final ImmutableParcel parcel;
+
+    public Order(Double weight, Double height, Double width, Double length, BigDecimal price, LocalDateTime dateTime) {
+        this(weight, height, width, length, price, dateTime, null, null);
+    }
+
+    public Order(Double weight, Double height, Double width, Double length, BigDecimal price, LocalDateTime dateTime,
+                 String originPostalCode, String destinationPostalCode) {
+        this(weight, height, width, length, price, dateTime, originPostalCode, destinationPostalCode, null);
+    }
+
+    public Order(Double weight, Double height, Double width, Double length, BigDecimal price, LocalDateTime dateTime,
+                 String originPostalCode, String destinationPostalCode, GeoPoint customerLocation) {
+        this.weight = weight;
+        this.height = height;
+        this.width = width;
+        this.length = length;
+        this.price = price;
+        this.dateTime = dateTime;
+        this.originPostalCode = originPostalCode;
+        this.destinationPostalCode = destinationPostalCode;
+        this.customerLocation = customerLocation;
+        this.parcel = new ImmutableParcel(weight, height, width, length);
+    }
 }
@@ -0,0 +1,126 @@
+package models;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Lote de pedidos fora do heap, em estrutura de arrays (uma coluna por atributo).<br><br>
+ * As medidas e os custos cotados ficam em um único bloco de memória nativa, dividido em colunas
+ * contíguas de {@code capacity} posições. Um lote com milhões de pedidos ocupa poucos objetos no heap,
+ * não é percorrido pelo coletor de lixo e pode ser reaproveitado com {@link #clear()}.<br><br>
+ * A memória é liberada quando o lote deixa de ser referenciado. Não é seguro para escrita concorrente.
+ */
+public final class OrderBatch {
+    private static final int WEIGHT = 0;
+    private static final int HEIGHT = 1;
+    private static final int WIDTH = 2;
+    private static final int LENGTH = 3;
+    private static final int COST = 4;
+    private static final int COLUMN_COUNT = 5;
+
+    /**
+     * Maior capacidade cujas colunas cabem em um único bloco endereçável por {@code int}.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / (COLUMN_COUNT * Long.BYTES);
+
+    private final ByteBuffer memory;
+    private final int capacity;
+    private final int columnBytes;
+    private int size;
+
+    public OrderBatch(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacidade de lote inválida: " + capacity);
+        }
+        this.capacity = capacity;
+        this.columnBytes = capacity * Long.BYTES;
+        this.memory = ByteBuffer.allocateDirect(COLUMN_COUNT * columnBytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Acrescenta um pedido ao lote.
+     *
+     * @return A posição do pedido no lote.
+     */
+    public int add(double weight, double height, double width, double length) {
+        if (size == capacity) {
+            throw new IllegalStateException("Lote cheio: " + capacity);
+        }
+        int index = size++;
+        memory.putDouble(offset(WEIGHT, index), weight);
+        memory.putDouble(offset(HEIGHT, index), height);
+        memory.putDouble(offset(WIDTH, index), width);
+        memory.putDouble(offset(LENGTH, index), length);
+        memory.putLong(offset(COST, index), 0);
+        return index;
+    }
+
+    public int add(Parcel parcel) {
+        return add(parcel.weight(), parcel.height(), parcel.width(), parcel.length());
+    }
+
+    public int add(Order order) {
+        return add(order.getParcel());
+    }
+
+    /**
+     * Esvazia o lote para reaproveitar a memória; o conteúdo anterior não é apagado.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public double weight(int index) {
+        return memory.getDouble(offset(WEIGHT, index));
+    }
+
+    public double height(int index) {
+        return memory.getDouble(offset(HEIGHT, index));
+    }
+
+    public double width(int index) {
+        return memory.getDouble(offset(WIDTH, index));
+    }
+
+    public double length(int index) {
+        return memory.getDouble(offset(LENGTH, index));
+    }
+
+    /**
+     * O custo cotado do pedido em centavos; zero até o lote ser cotado.
+     */
+    public long costMinor(int index) {
+        return memory.getLong(offset(COST, index));
+    }
+
+    public void setCostMinor(int index, long costMinor) {
+        memory.putLong(offset(COST, index), costMinor);
+    }
+
+    /**
+     * Soma dos custos cotados de todo o lote, em centavos.
+     */
+    public long totalCostMinor() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += costMinor(i);
+        }
+        return total;
+    }
+
+    private int offset(int column, int index) {
+        return column * columnBytes + (index << 3);
+    }
+}
@@ -0,0 +1,24 @@
+package models;
+
+/**
+ * Visão primitiva das medidas físicas de um pedido, usada no caminho de cálculo das estratégias.<br><br>
+ * Por ser uma interface, permite que as estratégias sejam alimentadas tanto por objetos imutáveis
+ * ({@link ImmutableParcel}) quanto por cursores reaproveitados sobre dados em lote.
+ */
+public interface Parcel {
+
+    double weight();
+
+    double height();
+
+    double width();
+
+    double length();
+
+    /**
+     * Volume do pacote (altura x largura x comprimento).
+     */
+    default double volume() {
+        return height() * width() * length();
+    }
+}
@@ -0,0 +1,220 @@
+package notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Envia notificações aos clientes de forma assíncrona, fora do caminho de cálculo do frete.<br><br>
+ * As mensagens entram em uma fila limitada e uma thread de fundo as retira em lotes de até
+ * {@code maxBatchSize}, entregando cada lote ao {@link NotificationSink}. Quando a fila enche, a
+ * {@link BackpressurePolicy} decide entre bloquear quem envia ou descartar mensagens. Ao fechar,
+ * as mensagens já aceitas são entregues antes de a thread terminar; mensagens enviadas
+ * concorrentemente com o {@link #close()} podem ser perdidas.
+ */
+public class AsyncNotifier implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    // Marca o fim da fila; comparado por identidade
+    private static final String POISON_PILL = new String("POISON_PILL");
+
+    private final NotificationSink sink;
+    private final LinkedBlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    // Limita a fila a "capacity" mensagens; o marcador de fim não consome permissão
+    private final Semaphore permits;
+    private final int maxBatchSize;
+    private final BackpressurePolicy backpressurePolicy;
+    private final Thread worker;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean closed;
+
+    public AsyncNotifier(NotificationSink sink) {
+        this(sink, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH_SIZE, BackpressurePolicy.DROP_NEWEST);
+    }
+
+    /**
+     * @param sink               O destino das notificações.
+     * @param capacity           A quantidade máxima de mensagens aguardando entrega.
+     * @param maxBatchSize       A quantidade máxima de mensagens entregues por chamada ao destino.
+     * @param backpressurePolicy O que fazer quando a fila está cheia.
+     */
+    public AsyncNotifier(NotificationSink sink, int capacity, int maxBatchSize, BackpressurePolicy backpressurePolicy) {
+        if (capacity < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Capacidade e tamanho de lote devem ser positivos");
+        }
+        this.sink = sink;
+        this.permits = new Semaphore(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.backpressurePolicy = backpressurePolicy;
+        this.worker = new Thread(this::drainLoop, "async-notifier");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Retorna o notificador compartilhado, que escreve na saída padrão e é esvaziado no encerramento da JVM.
+     */
+    public static AsyncNotifier shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Enfileira uma notificação para entrega assíncrona.
+     *
+     * @param message A mensagem a ser entregue.
+     * @return {@code true} se a mensagem foi aceita; {@code false} se foi descartada.
+     */
+    public boolean send(String message) {
+        // O fechamento é verificado de novo porque o envio pode ter ficado bloqueado aguardando espaço
+        if (closed || !acquirePermit() || closed) {
+            dropped.increment();
+            return false;
+        }
+
+        queue.add(message);
+        accepted.increment();
+        return true;
+    }
+
+    /**
+     * Para de aceitar mensagens e aguarda a entrega de todas as já aceitas.
+     */
+    @Override
+    public void close() {
+        closeAndAwait(0);
+    }
+
+    /**
+     * Para de aceitar mensagens e aguarda a entrega das já aceitas por até {@code timeoutMillis}
+     * (zero aguarda indefinidamente).
+     *
+     * @return {@code true} se todas as mensagens foram entregues dentro do prazo.
+     */
+    public boolean closeAndAwait(long timeoutMillis) {
+        synchronized (this) {
+            if (!closed) {
+                closed = true;
+                queue.add(POISON_PILL);
+            }
+        }
+
+        try {
+            worker.join(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !worker.isAlive();
+    }
+
+    public long getAcceptedCount() {
+        return accepted.sum();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Quantidade de mensagens cujo lote falhou ao ser entregue ao destino.
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    private boolean acquirePermit() {
+        switch (backpressurePolicy) {
+            case BLOCK -> {
+                try {
+                    permits.acquire();
+                    return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            case DROP_NEWEST -> {
+                return permits.tryAcquire();
+            }
+            case DROP_OLDEST -> {
+                while (!permits.tryAcquire()) {
+                    // Assume a permissão da mensagem mais antiga, que é descartada
+                    String oldest = queue.poll();
+                    if (oldest == POISON_PILL) {
+                        queue.add(POISON_PILL);
+                        return false;
+                    }
+                    if (oldest != null) {
+                        dropped.increment();
+                        return true;
+                    }
+                }
+                return true;
+            }
+            default -> throw new IllegalStateException("Política desconhecida: " + backpressurePolicy);
+        }
+    }
+
+    private void drainLoop() {
+        List<String> batch = new ArrayList<>(maxBatchSize);
+        boolean finished = false;
+
+        while (!finished) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // A thread só termina pelo marcador de fim, para não perder mensagens aceitas
+                continue;
+            }
+            queue.drainTo(batch, maxBatchSize - 1);
+
+            finished = batch.removeIf(message -> message == POISON_PILL);
+            permits.release(batch.size());
+            deliver(batch);
+            batch.clear();
+        }
+
+        // Mensagens aceitas por envios concorrentes ao fechamento
+        while (queue.drainTo(batch, maxBatchSize) > 0) {
+            deliver(batch);
+            batch.clear();
+        }
+
+        // Libera quem ainda estiver bloqueado pela política BLOCK; esses envios serão descartados
+        permits.release(Integer.MAX_VALUE / 2);
+    }
+
+    private void deliver(List<String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            sink.deliver(batch);
+            delivered.add(batch.size());
+        } catch (Exception e) {
+            failed.add(batch.size());
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final AsyncNotifier INSTANCE = createShared();
+
+        private static AsyncNotifier createShared() {
+            AsyncNotifier notifier = new AsyncNotifier(new ConsoleNotificationSink());
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> notifier.closeAndAwait(5_000), "async-notifier-shutdown"));
+            return notifier;
+        }
+    }
+}
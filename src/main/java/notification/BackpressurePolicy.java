@@ -0,0 +1,19 @@
+package notification;
+
+/**
+ * O que fazer quando a fila de notificações do {@link AsyncNotifier} está cheia.
+ */
+public enum BackpressurePolicy {
+    /**
+     * Bloqueia quem envia até haver espaço na fila.
+     */
+    BLOCK,
+    /**
+     * Descarta a notificação que está sendo enviada.
+     */
+    DROP_NEWEST,
+    /**
+     * Descarta a notificação mais antiga da fila para abrir espaço.
+     */
+    DROP_OLDEST
+}
@@ -0,0 +1,22 @@
+package notification;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Escreve as notificações na saída padrão, com uma única escrita por lote.
+ */
+public class ConsoleNotificationSink implements NotificationSink {
+
+    @Override
+    public void deliver(List<String> messages) {
+        StringBuilder batch = new StringBuilder();
+        for (String message : messages) {
+            batch.append(message).append(System.lineSeparator());
+        }
+
+        PrintStream out = System.out;
+        out.print(batch);
+        out.flush();
+    }
+}
@@ -0,0 +1,36 @@
+package notification;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Acrescenta as notificações, uma por linha, a um arquivo local.<br><br>
+ * O arquivo é mantido aberto e descarregado ao final de cada lote.
+ */
+public class FileNotificationSink implements NotificationSink, AutoCloseable {
+    private final BufferedWriter writer;
+
+    public FileNotificationSink(Path file) throws IOException {
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+    }
+
+    @Override
+    public void deliver(List<String> messages) throws IOException {
+        for (String message : messages) {
+            writer.write(message);
+            writer.newLine();
+        }
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,29 @@
+package notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Guarda as notificações em memória; útil como stub em testes e benchmarks.
+ */
+public class InMemoryNotificationSink implements NotificationSink {
+    private final List<String> messages = new ArrayList<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+
+    @Override
+    public synchronized void deliver(List<String> batch) {
+        messages.addAll(batch);
+        batchSizes.add(batch.size());
+    }
+
+    public synchronized List<String> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    /**
+     * Tamanho de cada lote recebido, na ordem de entrega.
+     */
+    public synchronized List<Integer> getBatchSizes() {
+        return List.copyOf(batchSizes);
+    }
+}
@@ -0,0 +1,18 @@
+package notification;
+
+import java.util.List;
+
+/**
+ * Destino final das notificações enviadas pelo {@link AsyncNotifier}.<br><br>
+ * É chamado sempre pela mesma thread de fundo, com um lote de mensagens na ordem de envio.
+ */
+@FunctionalInterface
+public interface NotificationSink {
+
+    /**
+     * Entrega um lote de mensagens.
+     *
+     * @param messages As mensagens do lote; a lista não deve ser guardada após o retorno.
+     */
+    void deliver(List<String> messages) throws Exception;
+}
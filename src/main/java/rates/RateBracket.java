@@ -0,0 +1,20 @@
+package rates;
+
+/**
+ * Faixa de peso de uma tabela de frete.
+ *
+ * @param lowerBound  O peso a partir do qual (exclusive) a faixa se aplica.
+ * @param baseCost    O custo fixo da faixa.
+ * @param ratePerUnit O custo por libra acima de {@code lowerBound}.
+ */
+public record RateBracket(double lowerBound, double baseCost, double ratePerUnit) {
+
+    public RateBracket {
+        if (!Double.isFinite(lowerBound) || lowerBound < 0) {
+            throw new IllegalArgumentException("Limite de faixa inválido: " + lowerBound);
+        }
+        if (!Double.isFinite(baseCost) || baseCost < 0 || !Double.isFinite(ratePerUnit) || ratePerUnit < 0) {
+            throw new IllegalArgumentException("Custos da faixa devem ser finitos e não negativos");
+        }
+    }
+}
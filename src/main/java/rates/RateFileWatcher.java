@@ -0,0 +1,115 @@
+package rates;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recarrega o arquivo de tarifas (no formato da {@link RateTable}) em segundo plano sempre que ele muda,
+ * publicando a nova tabela no {@link RateProvider}.<br><br>
+ * O arquivo é lido e validado por inteiro antes da troca; se estiver inválido (inclusive no meio de
+ * uma gravação) ou não cobrir os tipos da tabela em vigor, a tabela em vigor é mantida e o erro fica disponível em {@link #getLastError()}.
+ * Para evitar leituras de arquivos incompletos, prefira gravar em um arquivo temporário e movê-lo
+ * atomicamente para o lugar do original.
+ */
+public class RateFileWatcher implements AutoCloseable {
+    private final Path file;
+    private final RateProvider provider;
+    private final WatchService watchService;
+    private final Thread worker;
+
+    private final AtomicLong reloads = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private volatile Exception lastError;
+
+    /**
+     * Carrega o arquivo imediatamente e passa a observá-lo.
+     *
+     * @throws IllegalArgumentException se o arquivo inicial for inválido.
+     */
+    public RateFileWatcher(Path file, RateProvider provider) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.provider = provider;
+        provider.publish(RateTable.load(this.file));
+
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.worker = new Thread(this::watchLoop, "rate-file-watcher");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Relê o arquivo agora, sem esperar por um evento do sistema de arquivos.
+     *
+     * @return {@code true} se uma nova tabela foi publicada.
+     */
+    public boolean reload() {
+        try {
+            RateTable table = RateTable.load(file);
+            if (table.equals(provider.current())) {
+                return false;
+            }
+            provider.publish(table);
+            reloads.incrementAndGet();
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            failures.incrementAndGet();
+            lastError = e;
+            return false;
+        }
+    }
+
+    /**
+     * Quantidade de tabelas publicadas após a carga inicial.
+     */
+    public long getReloadCount() {
+        return reloads.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    public Exception getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void watchLoop() {
+        Path fileName = file.getFileName();
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    // OVERFLOW não traz o nome do arquivo: relê por garantia
+                    changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context());
+                }
+                if (changed) {
+                    reload();
+                }
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Encerrado pelo close()
+        }
+    }
+}
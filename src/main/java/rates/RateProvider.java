@@ -0,0 +1,69 @@
+package rates;
+
+import strategy.ShippingType;
+
+/**
+ * Publica a {@link RateTable} em vigor para as estratégias, no estilo RCU.<br><br>
+ * Quem cota lê a tabela atual com uma única leitura volátil e a usa do início ao fim da cotação,
+ * sem locks. Uma nova tabela é carregada e validada por completo antes de ser publicada com
+ * uma troca da referência, serializada entre quem publica; cotações em andamento terminam com a
+ * tabela que já tinham.
+ */
+public final class RateProvider {
+    private volatile RateTable current;
+    // Escrita depois de current: quem lê a versão nova já enxerga a tabela nova
+    private volatile long version;
+
+    public RateProvider(RateTable initial) {
+        if (initial == null) {
+            throw new IllegalArgumentException("A tabela inicial é obrigatória");
+        }
+        this.current = initial;
+    }
+
+    /**
+     * Retorna o provedor compartilhado pelas estratégias padrão, iniciado com {@link RateTable#defaults()}.
+     */
+    public static RateProvider shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    public RateTable current() {
+        return current;
+    }
+
+    /**
+     * Quantidade de tabelas publicadas depois da inicial. Quem guarda preços calculados (como o
+     * {@link cache.QuoteCache}) inclui a versão lida antes do cálculo na chave, para não reaproveitar
+     * um preço de uma tabela substituída.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Publica uma nova tabela. Ela deve ter tarifas para todos os tipos cobertos pela tabela em vigor,
+     * já que as estratégias desses tipos passam a cotar por ela.
+     *
+     * @return A tabela substituída.
+     * @throws IllegalArgumentException se faltar algum tipo da tabela em vigor.
+     */
+    public synchronized RateTable publish(RateTable table) {
+        if (table == null) {
+            throw new IllegalArgumentException("A tabela é obrigatória");
+        }
+        RateTable previous = current;
+        for (ShippingType type : ShippingType.values()) {
+            if (previous.contains(type) && !table.contains(type)) {
+                throw new IllegalArgumentException("Tarifas de " + type + " ausentes na tabela nova");
+            }
+        }
+        current = table;
+        version++;
+        return previous;
+    }
+
+    private static final class SharedHolder {
+        private static final RateProvider INSTANCE = new RateProvider(RateTable.defaults());
+    }
+}
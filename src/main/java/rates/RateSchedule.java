@@ -0,0 +1,142 @@
+package rates;
+
+import models.Parcel;
+import strategy.Money;
+
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tabela de preço de um tipo de frete, compilada em arrays primitivos.<br><br>
+ * O peso cobrado é o peso real ou, quando há {@code divisor}, o maior entre o peso real e o peso
+ * volumétrico ({@code volume / divisor}). A faixa aplicada é a de maior limite inferior estritamente
+ * abaixo do peso cobrado (a primeira faixa vale para todo peso até o limite da segunda), e o custo é
+ * {@code custoBase + (pesoCobrado - limiteInferior) * taxaPorLibra}.<br><br>
+ * Os limites são completados com {@code +Infinity} até uma potência de dois, para que a busca binária
+ * tenha sempre o mesmo número de passos e use seleção condicional em vez de desvios.
+ */
+public final class RateSchedule {
+    private final double divisor;
+    private final double[] lowerBounds;
+    private final double[] baseCosts;
+    private final double[] ratesPerUnit;
+    private final int bracketCount;
+    private final double firstBaseCost;
+    private final double firstRatePerUnit;
+
+    private RateSchedule(double divisor, double[] lowerBounds, double[] baseCosts, double[] ratesPerUnit, int bracketCount) {
+        this.divisor = divisor;
+        this.lowerBounds = lowerBounds;
+        this.baseCosts = baseCosts;
+        this.ratesPerUnit = ratesPerUnit;
+        this.bracketCount = bracketCount;
+        this.firstBaseCost = baseCosts[0];
+        this.firstRatePerUnit = ratesPerUnit[0];
+    }
+
+    /**
+     * Compila as faixas, que devem começar em zero e ter limites inferiores estritamente crescentes.
+     *
+     * @param divisor  O divisor do peso volumétrico, ou zero para cobrar apenas pelo peso real.
+     * @param brackets As faixas de peso.
+     */
+    public static RateSchedule compile(double divisor, List<RateBracket> brackets) {
+        if (!(divisor >= 0) || Double.isInfinite(divisor)) {
+            throw new IllegalArgumentException("Divisor inválido: " + divisor);
+        }
+        if (brackets.isEmpty()) {
+            throw new IllegalArgumentException("A tabela precisa de ao menos uma faixa de peso");
+        }
+        if (brackets.get(0).lowerBound() != 0) {
+            throw new IllegalArgumentException("A primeira faixa deve começar em zero: " + brackets.get(0).lowerBound());
+        }
+
+        int count = brackets.size();
+        int length = Integer.highestOneBit(count) == count ? count : Integer.highestOneBit(count) << 1;
+        double[] lowerBounds = new double[length];
+        double[] baseCosts = new double[length];
+        double[] ratesPerUnit = new double[length];
+        Arrays.fill(lowerBounds, Double.POSITIVE_INFINITY);
+
+        for (int i = 0; i < count; i++) {
+            RateBracket bracket = brackets.get(i);
+            if (i > 0 && !(bracket.lowerBound() > lowerBounds[i - 1])) {
+                throw new IllegalArgumentException("Os limites das faixas devem ser crescentes: " + bracket.lowerBound());
+            }
+            lowerBounds[i] = bracket.lowerBound();
+            baseCosts[i] = bracket.baseCost();
+            ratesPerUnit[i] = bracket.ratePerUnit();
+        }
+        return new RateSchedule(divisor, lowerBounds, baseCosts, ratesPerUnit, count);
+    }
+
+    /**
+     * Calcula o custo em centavos, arredondado com {@link RoundingMode#HALF_UP}.
+     */
+    public long costMinor(Parcel parcel) {
+        return Money.toMinor(cost(parcel.weight(), parcel.volume()), RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Calcula o custo em unidades da moeda, sem arredondamento.
+     */
+    public double cost(double weight, double volume) {
+        double chargeableWeight = weight;
+        if (divisor != 0) {
+            double weightFactor = volume / divisor;
+            chargeableWeight = weightFactor > weight ? weightFactor : weight;
+        }
+
+        if (bracketCount == 1) {
+            // A primeira faixa começa em zero: mesmo resultado, sem a busca e os acessos aos arrays
+            return firstBaseCost + chargeableWeight * firstRatePerUnit;
+        }
+        int index = bracketIndex(chargeableWeight);
+        return baseCosts[index] + (chargeableWeight - lowerBounds[index]) * ratesPerUnit[index];
+    }
+
+    /**
+     * Índice da faixa de maior limite inferior estritamente abaixo de {@code weight}, ou zero.
+     */
+    int bracketIndex(double weight) {
+        int index = 0;
+        for (int half = lowerBounds.length >>> 1; half > 0; half >>>= 1) {
+            index = lowerBounds[index + half] < weight ? index + half : index;
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RateSchedule schedule
+                && Double.compare(divisor, schedule.divisor) == 0
+                && bracketCount == schedule.bracketCount
+                && Arrays.equals(lowerBounds, schedule.lowerBounds)
+                && Arrays.equals(baseCosts, schedule.baseCosts)
+                && Arrays.equals(ratesPerUnit, schedule.ratesPerUnit);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(divisor) + Arrays.hashCode(lowerBounds);
+    }
+
+    public double getDivisor() {
+        return divisor;
+    }
+
+    public int getBracketCount() {
+        return bracketCount;
+    }
+
+    /**
+     * Retorna a faixa na posição informada, sem o preenchimento da compilação.
+     */
+    public RateBracket getBracket(int index) {
+        if (index < 0 || index >= bracketCount) {
+            throw new IndexOutOfBoundsException("Faixa inexistente: " + index);
+        }
+        return new RateBracket(lowerBounds[index], baseCosts[index], ratesPerUnit[index]);
+    }
+}
@@ -0,0 +1,162 @@
+package rates;
+
+import strategy.ShippingType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Conjunto imutável de {@link RateSchedule}s por {@link ShippingType}, carregado de um arquivo texto.<br><br>
+ * Cada linha não vazia tem o tipo de frete, uma diretiva e seus valores, separados por espaços;
+ * {@code #} inicia um comentário:
+ * <pre>
+ * # tipo         diretiva  limite(lb)  custo base  taxa por lb
+ * ECONOMY_SAVER  bracket   0           5.00        0.00
+ * ECONOMY_SAVER  bracket   10          5.00        0.50
+ * HYPER_SPEED    divisor   139
+ * HYPER_SPEED    bracket   0           0.00        12.00
+ * </pre>
+ * Tipos sem linhas no arquivo ficam sem tabela e continuam com sua estratégia padrão.
+ */
+public final class RateTable {
+
+    /**
+     * Recurso do classpath com as tarifas em vigor quando nenhum arquivo é informado.
+     */
+    public static final String DEFAULT_RESOURCE = "/rates/default-rates.conf";
+
+    private final RateSchedule[] schedules;
+
+    private RateTable(RateSchedule[] schedules) {
+        this.schedules = schedules;
+    }
+
+    public static RateTable of(Map<ShippingType, RateSchedule> schedules) {
+        RateSchedule[] byOrdinal = new RateSchedule[ShippingType.values().length];
+        schedules.forEach((type, schedule) -> byOrdinal[type.ordinal()] = schedule);
+        return new RateTable(byOrdinal);
+    }
+
+    /**
+     * Retorna as tarifas padrão, equivalentes às regras originais das estratégias.
+     */
+    public static RateTable defaults() {
+        try (InputStream in = RateTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Tabela de tarifas padrão não encontrada: " + DEFAULT_RESOURCE);
+            }
+            return parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static RateTable load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Lê e valida uma tabela completa; qualquer erro rejeita a tabela inteira.
+     *
+     * @throws IllegalArgumentException se o conteúdo for inválido, indicando a linha.
+     */
+    public static RateTable parse(Reader reader) throws IOException {
+        Map<ShippingType, List<RateBracket>> brackets = new EnumMap<>(ShippingType.class);
+        Map<ShippingType, Double> divisors = new EnumMap<>(ShippingType.class);
+
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = content.split("\\s+");
+            try {
+                ShippingType type = ShippingType.valueOf(tokens[0].toUpperCase(Locale.ROOT));
+                switch (tokens.length > 1 ? tokens[1].toLowerCase(Locale.ROOT) : "") {
+                    case "divisor" -> {
+                        expectValues(tokens, 1);
+                        if (divisors.put(type, Double.parseDouble(tokens[2])) != null) {
+                            throw new IllegalArgumentException("Divisor repetido para " + type);
+                        }
+                    }
+                    case "bracket" -> {
+                        expectValues(tokens, 3);
+                        brackets.computeIfAbsent(type, t -> new ArrayList<>()).add(new RateBracket(
+                                Double.parseDouble(tokens[2]), Double.parseDouble(tokens[3]), Double.parseDouble(tokens[4])));
+                    }
+                    default -> throw new IllegalArgumentException("Diretiva desconhecida: " + (tokens.length > 1 ? tokens[1] : ""));
+                }
+            } catch (IllegalArgumentException e) {
+                // NumberFormatException também é uma IllegalArgumentException
+                throw new IllegalArgumentException("Linha " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        for (ShippingType type : divisors.keySet()) {
+            if (!brackets.containsKey(type)) {
+                throw new IllegalArgumentException("Divisor sem faixas de peso para " + type);
+            }
+        }
+
+        Map<ShippingType, RateSchedule> schedules = new EnumMap<>(ShippingType.class);
+        brackets.forEach((type, list) -> {
+            try {
+                schedules.put(type, RateSchedule.compile(divisors.getOrDefault(type, 0.0), list));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(type + ": " + e.getMessage(), e);
+            }
+        });
+        return of(schedules);
+    }
+
+    /**
+     * Retorna a tabela do tipo, ou {@code null} se o tipo não tiver tarifas na tabela.
+     */
+    public RateSchedule get(ShippingType type) {
+        return schedules[type.ordinal()];
+    }
+
+    public boolean contains(ShippingType type) {
+        return schedules[type.ordinal()] != null;
+    }
+
+    /**
+     * Duas tabelas são iguais quando têm as mesmas faixas e divisores para os mesmos tipos.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RateTable table && Arrays.equals(schedules, table.schedules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(schedules);
+    }
+
+    private static void expectValues(String[] tokens, int count) {
+        if (tokens.length != count + 2) {
+            throw new IllegalArgumentException("Esperados " + count + " valores para " + tokens[1]);
+        }
+    }
+}
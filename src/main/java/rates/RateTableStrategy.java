@@ -0,0 +1,77 @@
+package rates;
+
+import models.Order;
+import models.OrderBatch;
+import models.Parcel;
+import strategy.Money;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Estratégia cujo preço vem de uma {@link RateSchedule} carregada de arquivo, em vez de constantes no código.<br><br>
+ * Criada com um {@link RateProvider}, lê a tabela do tipo em vigor uma vez por cotação (ou por lote) e
+ * acompanha as recargas do arquivo sem ser recriada.
+ */
+public class RateTableStrategy implements ShippingStrategy {
+    private final RateSchedule schedule;
+    private final RateProvider rateProvider;
+    private final ShippingType shippingType;
+
+    public RateTableStrategy(RateSchedule schedule) {
+        this.schedule = schedule;
+        this.rateProvider = null;
+        this.shippingType = null;
+    }
+
+    /**
+     * @param rateProvider A origem das tarifas em vigor.
+     * @param shippingType O tipo cujas tarifas são usadas; deve existir na tabela em vigor.
+     */
+    public RateTableStrategy(RateProvider rateProvider, ShippingType shippingType) {
+        if (!rateProvider.current().contains(shippingType)) {
+            throw new IllegalArgumentException("Tarifas de " + shippingType + " ausentes na tabela em vigor");
+        }
+        this.schedule = null;
+        this.rateProvider = rateProvider;
+        this.shippingType = shippingType;
+    }
+
+    @Override
+    public BigDecimal calculateShippingCost(Order order) {
+        return Money.toBigDecimal(calculateShippingCostMinor(order.getParcel()));
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        return calculateShippingCostMinor(order.getParcel());
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        return getSchedule().costMinor(parcel);
+    }
+
+    @Override
+    public void calculateShippingCostsMinor(OrderBatch batch) {
+        RateSchedule schedule = getSchedule();
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            double volume = batch.height(i) * batch.width(i) * batch.length(i);
+            batch.setCostMinor(i, Money.toMinor(schedule.cost(batch.weight(i), volume), RoundingMode.HALF_UP));
+        }
+    }
+
+    @Override
+    public boolean pricesByParcelOnly() {
+        return true;
+    }
+
+    /**
+     * Retorna a tabela usada pela próxima cotação.
+     */
+    public RateSchedule getSchedule() {
+        return rateProvider == null ? schedule : rateProvider.current().get(shippingType);
+    }
+}
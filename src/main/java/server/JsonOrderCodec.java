@@ -0,0 +1,142 @@
+package server;
+
+import models.GeoPoint;
+import models.Order;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converte o JSON das requisições em {@link QuoteRequest} e as cotações em JSON.<br><br>
+ * Formato de um pedido:
+ * <pre>
+ * {"shippingType": "HYPER_SPEED", "weight": 12, "height": 10, "width": 5, "length": 8,
+ *  "price": 120.00, "dateTime": "2025-01-01T10:00:00",
+ *  "originPostalCode": "01310-100", "destinationPostalCode": "20040-020",
+ *  "customerLatitude": -23.56, "customerLongitude": -46.65}
+ * </pre>
+ * {@code price}, {@code dateTime}, os CEPs e a localização do cliente são opcionais. As medidas devem ser
+ * finitas e não negativas. Um lote é uma lista desses objetos.
+ */
+final class JsonOrderCodec {
+
+    private JsonOrderCodec() {
+    }
+
+    static QuoteRequest readQuoteRequest(String json) {
+        return toQuoteRequest(JsonReader.parse(json));
+    }
+
+    static List<QuoteRequest> readQuoteRequests(String json) {
+        if (!(JsonReader.parse(json) instanceof List<?> items)) {
+            throw new IllegalArgumentException("O lote deve ser uma lista de pedidos");
+        }
+
+        List<QuoteRequest> requests = new ArrayList<>(items.size());
+        for (Object item : items) {
+            requests.add(toQuoteRequest(item));
+        }
+        return requests;
+    }
+
+    static String writeQuote(ShippingType shippingType, BigDecimal cost) {
+        return "{\"shippingType\":\"" + shippingType.name() + "\",\"cost\":" + cost.toPlainString() + "}";
+    }
+
+    static String writeQuotes(List<QuoteRequest> requests, BigDecimal[] costs) {
+        StringBuilder json = new StringBuilder(requests.size() * 48 + 2).append('[');
+        for (int i = 0; i < costs.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append(writeQuote(requests.get(i).shippingType(), costs[i]));
+        }
+        return json.append(']').toString();
+    }
+
+    private static QuoteRequest toQuoteRequest(Object json) {
+        if (!(json instanceof Map<?, ?> fields)) {
+            throw new IllegalArgumentException("O pedido deve ser um objeto JSON");
+        }
+
+        Order order = new Order(
+                measurement(fields, "weight"),
+                measurement(fields, "height"),
+                measurement(fields, "width"),
+                measurement(fields, "length"),
+                fields.get("price") == null ? null : requiredNumber(fields, "price"),
+                readDateTime(fields.get("dateTime")),
+                optionalText(fields, "originPostalCode"),
+                optionalText(fields, "destinationPostalCode"),
+                readCustomerLocation(fields)
+        );
+        return new QuoteRequest(readShippingType(fields.get("shippingType")), order);
+    }
+
+    private static BigDecimal requiredNumber(Map<?, ?> fields, String name) {
+        if (!(fields.get(name) instanceof BigDecimal number)) {
+            throw new IllegalArgumentException("Campo numérico obrigatório ausente ou inválido: " + name);
+        }
+        return number;
+    }
+
+    /**
+     * Lê uma medida do pacote. Números fora da faixa do {@code double} (como {@code 1e400}) viram infinito
+     * e são recusados junto com os negativos.
+     */
+    private static double measurement(Map<?, ?> fields, String name) {
+        double value = requiredNumber(fields, name).doubleValue();
+        if (!Double.isFinite(value) || value < 0) {
+            throw new IllegalArgumentException("Medida inválida em " + name + ": " + fields.get(name));
+        }
+        return value;
+    }
+
+    private static GeoPoint readCustomerLocation(Map<?, ?> fields) {
+        if (fields.get("customerLatitude") == null && fields.get("customerLongitude") == null) {
+            return null;
+        }
+        return new GeoPoint(
+                requiredNumber(fields, "customerLatitude").doubleValue(),
+                requiredNumber(fields, "customerLongitude").doubleValue()
+        );
+    }
+
+    private static String optionalText(Map<?, ?> fields, String name) {
+        Object value = fields.get(name);
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("Campo de texto inválido: " + name);
+        }
+        return (String) value;
+    }
+
+    private static ShippingType readShippingType(Object value) {
+        if (!(value instanceof String name)) {
+            throw new IllegalArgumentException("Campo obrigatório ausente ou inválido: shippingType");
+        }
+        try {
+            return ShippingType.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de frete desconhecido: " + name);
+        }
+    }
+
+    private static LocalDateTime readDateTime(Object value) {
+        if (value == null) {
+            return LocalDateTime.now();
+        }
+        if (!(value instanceof String text)) {
+            throw new IllegalArgumentException("Campo inválido: dateTime");
+        }
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data inválida: " + text);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import factory.ShippingStrategyFactory;
+import metrics.LatencyHistogram;
+import metrics.ShippingMetrics;
+import rates.RateFileWatcher;
+import rates.RateProvider;
+import rates.RateTable;
+import services.ShippingService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor HTTP de cotações sobre o {@code com.sun.net.httpserver} da JDK, sem dependências externas.<br><br>
+ * Cada requisição é atendida em uma virtual thread própria e todas compartilham o mesmo
+ * {@link ShippingService}. Rotas:
+ * <ul>
+ *     <li>{@code POST /quote}: cota um pedido (veja {@link JsonOrderCodec} para o formato);</li>
+ *     <li>{@code POST /quotes}: cota uma lista de pedidos, preservando a ordem;</li>
+ *     <li>{@code GET /metrics}: histograma de latência de cada rota e, se configuradas, as
+ *     {@link ShippingMetrics} de cada tipo de frete, em texto.</li>
+ * </ul>
+ * As conexões são mantidas abertas (keep-alive) entre requisições, já que toda resposta tem tamanho
+ * fixo; o tempo ocioso é controlado pela propriedade {@code sun.net.httpserver.idleInterval}.
+ */
+public class QuoteHttpServer implements AutoCloseable {
+
+    public static final int DEFAULT_MAX_REQUEST_BYTES = 1 << 20;
+
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ShippingService shippingService;
+    private final int maxRequestBytes;
+    private final ShippingMetrics shippingMetrics;
+    private final Map<String, LatencyHistogram> latencies = new LinkedHashMap<>();
+
+    /**
+     * @param address         O endereço de escuta; a porta 0 escolhe uma porta livre.
+     * @param shippingService O serviço compartilhado por todas as requisições.
+     * @param maxRequestBytes O tamanho máximo do corpo de uma requisição.
+     */
+    public QuoteHttpServer(InetSocketAddress address, ShippingService shippingService, int maxRequestBytes) throws IOException {
+        this(address, shippingService, maxRequestBytes, null);
+    }
+
+    /**
+     * @param shippingMetrics As métricas das estratégias incluídas em {@code /metrics}, ou {@code null}.
+     */
+    public QuoteHttpServer(InetSocketAddress address, ShippingService shippingService, int maxRequestBytes,
+                           ShippingMetrics shippingMetrics) throws IOException {
+        if (maxRequestBytes < 1) {
+            throw new IllegalArgumentException("O tamanho máximo da requisição deve ser positivo: " + maxRequestBytes);
+        }
+        this.shippingService = shippingService;
+        this.maxRequestBytes = maxRequestBytes;
+        this.shippingMetrics = shippingMetrics;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(executor);
+
+        addRoute("/quote", "POST", this::quote);
+        addRoute("/quotes", "POST", this::quoteBatch);
+        addRoute("/metrics", "GET", exchange -> new Response(200, TEXT, metricsText()));
+    }
+
+    /**
+     * Argumentos: a porta (padrão 8080) e, opcionalmente, um arquivo de tarifas (veja {@link RateTable})
+     * que é recarregado automaticamente quando muda. As métricas das estratégias são publicadas via JMX.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8080;
+        ShippingMetrics metrics = new ShippingMetrics();
+        metrics.registerMBeans();
+        ShippingService service = new ShippingService(
+                ShippingStrategyFactory.createInstrumentedRegistry(ShippingStrategyFactory.getRegistry(), metrics));
+        if (args.length > 1) {
+            // Mantido até o fim da JVM: a thread de observação é daemon
+            new RateFileWatcher(Path.of(args[1]), RateProvider.shared());
+        }
+
+        QuoteHttpServer server = new QuoteHttpServer(new InetSocketAddress(port), service, DEFAULT_MAX_REQUEST_BYTES, metrics);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close, "quote-http-server-shutdown"));
+        server.start();
+        System.out.println("Servidor de cotações ouvindo na porta " + server.getPort());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Retorna o histograma de latência da rota, medido do recebimento até o fim da resposta.
+     */
+    public LatencyHistogram getLatency(String route) {
+        return latencies.get(route);
+    }
+
+    public String metricsText() {
+        StringBuilder text = new StringBuilder();
+        latencies.forEach((route, histogram) -> text.append(histogram.toText(route)).append('\n'));
+        if (shippingMetrics != null) {
+            text.append(shippingMetrics.toText());
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private Response quote(HttpExchange exchange) throws IOException {
+        QuoteRequest request = JsonOrderCodec.readQuoteRequest(readBody(exchange));
+        BigDecimal cost = shippingService.calculateShippingCost(request.shippingType(), request.order());
+        return new Response(200, JSON, JsonOrderCodec.writeQuote(request.shippingType(), cost));
+    }
+
+    private Response quoteBatch(HttpExchange exchange) throws IOException {
+        List<QuoteRequest> requests = JsonOrderCodec.readQuoteRequests(readBody(exchange));
+        BigDecimal[] costs = new BigDecimal[requests.size()];
+        for (int i = 0; i < costs.length; i++) {
+            QuoteRequest request = requests.get(i);
+            costs[i] = shippingService.calculateShippingCost(request.shippingType(), request.order());
+        }
+        return new Response(200, JSON, JsonOrderCodec.writeQuotes(requests, costs));
+    }
+
+    private String readBody(HttpExchange exchange) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null && Long.parseLong(contentLength) > maxRequestBytes) {
+            throw new RequestTooLargeException();
+        }
+
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(maxRequestBytes + 1);
+            if (bytes.length > maxRequestBytes) {
+                throw new RequestTooLargeException();
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void addRoute(String path, String method, Endpoint endpoint) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        latencies.put(path, histogram);
+        server.createContext(path, new Route(method, endpoint, histogram));
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        exchange.sendResponseHeaders(response.status(), body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String error(String message) {
+        return "{\"error\":\"" + message.replace("\\", "\\\\").replace("\"", "\\\"") + "\"}";
+    }
+
+    @FunctionalInterface
+    private interface Endpoint {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    private record Response(int status, String contentType, String body) {
+    }
+
+    private static final class RequestTooLargeException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private RequestTooLargeException() {
+            super("Requisição maior que o limite permitido", null, false, false);
+        }
+    }
+
+    private record Route(String method, Endpoint endpoint, LatencyHistogram histogram) implements HttpHandler {
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            long start = System.nanoTime();
+            try {
+                send(exchange, dispatch(exchange));
+            } finally {
+                exchange.close();
+                histogram.record(System.nanoTime() - start);
+            }
+        }
+
+        private Response dispatch(HttpExchange exchange) {
+            if (!method.equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().set("Allow", method);
+                return new Response(405, JSON, error("Método não permitido"));
+            }
+            try {
+                return endpoint.handle(exchange);
+            } catch (RequestTooLargeException e) {
+                return new Response(413, JSON, error(e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                return new Response(400, JSON, error(e.getMessage()));
+            } catch (Exception e) {
+                return new Response(500, JSON, error("Erro interno ao calcular o frete"));
+            }
+        }
+    }
+}
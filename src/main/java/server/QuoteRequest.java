@@ -0,0 +1,10 @@
+package server;
+
+import models.Order;
+import strategy.ShippingType;
+
+/**
+ * Um pedido recebido pelo servidor junto com o tipo de frete escolhido.
+ */
+record QuoteRequest(ShippingType shippingType, Order order) {
+}
@@ -0,0 +1,37 @@
+package services;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configuração de um {@link AsyncShippingService}.<br><br>
+ * A fila limitada e o tempo máximo de espera mantêm a latência sob controle em picos de carga: o que
+ * não cabe na fila é recusado na hora e o que esperou demais é descartado antes de ser calculado.
+ */
+@Builder
+@Getter
+public class AsyncQuoteConfig {
+
+    /**
+     * Quantidade de threads que calculam as cotações.
+     */
+    @Builder.Default
+    private final int threadCount = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Quantidade máxima de cotações aguardando uma thread livre.
+     */
+    @Builder.Default
+    private final int queueCapacity = 1024;
+
+    /**
+     * Tempo máximo que uma cotação pode esperar na fila; {@link Duration#ZERO} desativa o descarte.
+     */
+    @Builder.Default
+    private final Duration maxQueueTime = Duration.ZERO;
+
+    @Builder.Default
+    private final String threadNamePrefix = "async-quote";
+}
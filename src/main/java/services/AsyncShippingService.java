@@ -0,0 +1,152 @@
+package services;
+
+import models.Order;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Fachada assíncrona do {@link ShippingService}, para que quem cota não bloqueie a própria thread.<br><br>
+ * As cotações são calculadas em um {@link ThreadPoolExecutor} de tamanho fixo com fila limitada. Quando a
+ * fila está cheia, a cotação é recusada na hora (política {@link ThreadPoolExecutor.AbortPolicy}) e o
+ * futuro retornado já vem completo com uma {@link RejectedExecutionException}; nenhum método bloqueia
+ * quem chama. Cotações que esperaram na fila mais que {@link AsyncQuoteConfig#getMaxQueueTime()} ou
+ * que foram canceladas não chegam a ser calculadas.
+ */
+public class AsyncShippingService implements AutoCloseable {
+
+    private final ShippingService shippingService;
+    private final ThreadPoolExecutor executor;
+    private final long maxQueueNanos;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+
+    public AsyncShippingService(ShippingService shippingService) {
+        this(shippingService, AsyncQuoteConfig.builder().build());
+    }
+
+    public AsyncShippingService(ShippingService shippingService, AsyncQuoteConfig config) {
+        if (config.getThreadCount() < 1 || config.getQueueCapacity() < 1) {
+            throw new IllegalArgumentException("A quantidade de threads e a capacidade da fila devem ser positivas");
+        }
+        if (config.getMaxQueueTime().isNegative()) {
+            throw new IllegalArgumentException("O tempo máximo na fila não pode ser negativo: " + config.getMaxQueueTime());
+        }
+        this.shippingService = shippingService;
+        this.maxQueueNanos = config.getMaxQueueTime().toNanos();
+        this.executor = new ThreadPoolExecutor(
+                config.getThreadCount(), config.getThreadCount(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                daemonThreads(config.getThreadNamePrefix()),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Cota o pedido com a estratégia registrada para o tipo.
+     *
+     * @return O custo calculado, ou um futuro com falha se a cotação foi recusada ou descartada.
+     */
+    public CompletableFuture<BigDecimal> calculateShippingCostAsync(ShippingType shippingType, Order order) {
+        return submit(() -> shippingService.calculateShippingCost(shippingType, order));
+    }
+
+    /**
+     * Cota a lista de pedidos como uma única tarefa, preservando a ordem de entrada. O lote ocupa uma
+     * única posição da fila e é aceito ou recusado por inteiro.
+     */
+    public CompletableFuture<List<BigDecimal>> calculateShippingCostsAsync(ShippingType shippingType, List<Order> orders) {
+        return submit(() -> shippingService.calculateShippingCosts(shippingType, orders));
+    }
+
+    /**
+     * Cota todas as opções de frete do pedido.
+     */
+    public CompletableFuture<ShippingQuotes> quoteAllOptionsAsync(Order order) {
+        return submit(() -> shippingService.quoteAllOptions(order));
+    }
+
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * Quantidade de cotações recusadas por falta de espaço na fila.
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Quantidade de cotações descartadas por esperar demais na fila.
+     */
+    public long getShedCount() {
+        return shed.sum();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Para de aceitar cotações e aguarda o cálculo das já aceitas.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> quote) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> run(future, quote, enqueuedAt));
+            submitted.increment();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            future.completeExceptionally(new RejectedExecutionException(
+                    "Fila de cotações cheia (" + executor.getQueue().size() + " aguardando)", e));
+        }
+        return future;
+    }
+
+    private <T> void run(CompletableFuture<T> future, Supplier<T> quote, long enqueuedAt) {
+        if (future.isDone()) {
+            return;
+        }
+        long waited = System.nanoTime() - enqueuedAt;
+        if (maxQueueNanos != 0 && waited > maxQueueNanos) {
+            shed.increment();
+            future.completeExceptionally(new RejectedExecutionException(
+                    "Cotação descartada após esperar " + TimeUnit.NANOSECONDS.toMillis(waited) + " ms na fila"));
+            return;
+        }
+
+        try {
+            future.complete(quote.get());
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package services;
+
+import models.Order;
+import strategy.ShippingStrategy;
+
+import java.math.BigDecimal;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Tarefa fork-join que divide um lote de pedidos ao meio até atingir o limite sequencial.<br><br>
+ * Cada sub-tarefa escreve apenas no seu intervalo do vetor de resultados, então não há
+ * necessidade de sincronização e a ordem de entrada é preservada.
+ */
+class BatchShippingTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    // A tarefa nunca é serializada; os campos sem tipo serializável ficam fora da forma serial
+    private final transient ShippingStrategy shippingStrategy;
+    private final transient Order[] orders;
+    private final BigDecimal[] costs;
+    private final int from;
+    private final int to;
+    private final int sequentialThreshold;
+
+    BatchShippingTask(ShippingStrategy shippingStrategy, Order[] orders, BigDecimal[] costs,
+                      int from, int to, int sequentialThreshold) {
+        this.shippingStrategy = shippingStrategy;
+        this.orders = orders;
+        this.costs = costs;
+        this.from = from;
+        this.to = to;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= sequentialThreshold) {
+            for (int i = from; i < to; i++) {
+                costs[i] = shippingStrategy.calculateShippingCost(orders[i]);
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(
+                new BatchShippingTask(shippingStrategy, orders, costs, from, middle, sequentialThreshold),
+                new BatchShippingTask(shippingStrategy, orders, costs, middle, to, sequentialThreshold)
+        );
+    }
+}
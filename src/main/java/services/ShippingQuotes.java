@@ -0,0 +1,79 @@
+package services;
+
+import strategy.Money;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.util.EnumMap;
+
+/**
+ * Cotação de todas as opções de frete de um pedido.<br><br>
+ * Os custos ficam em um único vetor de centavos indexado pelo {@code ordinal()} do
+ * {@link ShippingType}; o {@link BigDecimal} só é criado quando um valor é lido pela API. Opções que não
+ * são oferecidas para o pedido (veja {@link strategy.ShippingUnavailableException}) ficam marcadas como
+ * {@link #UNAVAILABLE} e não participam de {@link #getCheapest()} nem de {@link #asMap()}.
+ */
+public final class ShippingQuotes {
+
+    /**
+     * Custo em centavos de uma opção que não é oferecida para o pedido.
+     */
+    public static final long UNAVAILABLE = Long.MIN_VALUE;
+
+    private final long[] costs;
+
+    ShippingQuotes(long[] costs) {
+        this.costs = costs;
+    }
+
+    public boolean isAvailable(ShippingType type) {
+        return costs[type.ordinal()] != UNAVAILABLE;
+    }
+
+    /**
+     * Retorna o custo da opção em centavos, ou {@link #UNAVAILABLE} se ela não for oferecida.
+     */
+    public long getCostMinor(ShippingType type) {
+        return costs[type.ordinal()];
+    }
+
+    /**
+     * Retorna o custo da opção, ou {@code null} se ela não for oferecida.
+     */
+    public BigDecimal getCost(ShippingType type) {
+        return isAvailable(type) ? Money.toBigDecimal(costs[type.ordinal()]) : null;
+    }
+
+    /**
+     * Retorna a opção oferecida mais barata; em caso de empate, a declarada primeiro em {@link ShippingType}.
+     * Retorna {@code null} se nenhuma opção for oferecida.
+     */
+    public ShippingType getCheapest() {
+        ShippingType[] types = ShippingType.values();
+        int cheapest = -1;
+        for (int i = 0; i < costs.length; i++) {
+            if (costs[i] != UNAVAILABLE && (cheapest < 0 || costs[i] < costs[cheapest])) {
+                cheapest = i;
+            }
+        }
+        return cheapest < 0 ? null : types[cheapest];
+    }
+
+    /**
+     * Os custos das opções oferecidas.
+     */
+    public EnumMap<ShippingType, BigDecimal> asMap() {
+        EnumMap<ShippingType, BigDecimal> map = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            if (isAvailable(type)) {
+                map.put(type, getCost(type));
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "ShippingQuotes" + asMap();
+    }
+}
@@ -1,17 +1,120 @@
 package services;
 
-import lombok.AllArgsConstructor;
+import audit.QuoteJournal;
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import jfr.QuoteBatchEvent;
+import jfr.QuoteEvent;
 import models.Order;
+import models.OrderBatch;
+import strategy.Money;
 import strategy.ShippingStrategy;
+import strategy.ShippingType;
+import strategy.ShippingUnavailableException;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Serviço que utiliza uma estratégia de frete para calcular o custo de envio de um pedido.
+ * Serviço que utiliza uma estratégia de frete para calcular o custo de envio de um pedido.<br><br>
+ * Além da estratégia padrão, o serviço despacha cálculos por {@link ShippingType} através de um
+ * {@link ShippingStrategyRegistry}, de modo que uma única instância pode atender todas as requisições.<br><br>
+ * Cada cotação emite um {@link QuoteEvent} (e cada lote um {@link QuoteBatchEvent}) para o JDK Flight
+ * Recorder; com os eventos desligados o custo é desprezível.<br><br>
+ * Com um {@link QuoteJournal} configurado, toda cotação devolvida é registrada no diário de auditoria,
+ * inclusive as de lotes e de {@link #quoteAllOptions(Order)}; cotações que falham não são registradas.
+ * Cada registro identifica o {@link ShippingType} que cotou o pedido, inclusive o da estratégia padrão.
+ * Uma falha do diário não impede a cotação de ser devolvida: ela é apenas contada em
+ * {@link #getJournalFailureCount()}.
  */
-@AllArgsConstructor
 public class ShippingService {
-    private ShippingStrategy shippingStrategy;
+
+    /**
+     * Quantidade de pedidos a partir da qual um lote é dividido entre as threads do {@link ForkJoinPool}.
+     * Lotes menores são calculados sequencialmente para não pagar o custo de escalonamento.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1024;
+
+    private final ShippingStrategy shippingStrategy;
+    // Tipo da estratégia padrão, registrado no diário; nulo quando o serviço não tem diário
+    private final ShippingType defaultType;
+    private final ShippingStrategyRegistry registry;
+    private final ForkJoinPool forkJoinPool;
+    private final int sequentialThreshold;
+    private final QuoteJournal journal;
+    private final LongAdder journalFailures = new LongAdder();
+
+    public ShippingService(ShippingStrategy shippingStrategy) {
+        this(shippingStrategy, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * @param shippingStrategy    A estratégia usada em todos os cálculos.
+     * @param forkJoinPool        O pool onde os lotes grandes são processados.
+     * @param sequentialThreshold O tamanho máximo de um lote (ou sub-lote) calculado sequencialmente.
+     */
+    public ShippingService(ShippingStrategy shippingStrategy, ForkJoinPool forkJoinPool, int sequentialThreshold) {
+        this(shippingStrategy, ShippingStrategyFactory.getRegistry(), forkJoinPool, sequentialThreshold);
+    }
+
+    /**
+     * Cria um serviço sem estratégia padrão, que atende apenas cálculos por {@link ShippingType}.
+     *
+     * @param registry O registro com as estratégias compartilhadas.
+     */
+    public ShippingService(ShippingStrategyRegistry registry) {
+        this(registry, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    public ShippingService(ShippingStrategyRegistry registry, ForkJoinPool forkJoinPool, int sequentialThreshold) {
+        this(null, null, registry, forkJoinPool, sequentialThreshold, null);
+    }
+
+    /**
+     * Cria um serviço sem estratégia padrão que registra cada cotação no diário de auditoria.
+     *
+     * @param registry O registro com as estratégias compartilhadas.
+     * @param journal  O diário onde as cotações devolvidas são registradas.
+     */
+    public ShippingService(ShippingStrategyRegistry registry, QuoteJournal journal) {
+        this(null, null, registry, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD, journal);
+    }
+
+    /**
+     * Cria um serviço que usa a estratégia registrada para {@code defaultType} como padrão e registra cada
+     * cotação no diário de auditoria, inclusive as da estratégia padrão, identificadas pelo tipo.
+     *
+     * @param defaultType O tipo de frete usado quando a cotação não informa um.
+     * @param registry    O registro com as estratégias compartilhadas.
+     * @param journal     O diário onde as cotações devolvidas são registradas.
+     */
+    public ShippingService(ShippingType defaultType, ShippingStrategyRegistry registry, QuoteJournal journal) {
+        this(registry.get(defaultType), defaultType, registry, ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD, journal);
+    }
+
+    private ShippingService(ShippingStrategy shippingStrategy, ShippingStrategyRegistry registry,
+                            ForkJoinPool forkJoinPool, int sequentialThreshold) {
+        this(shippingStrategy, null, registry, forkJoinPool, sequentialThreshold, null);
+    }
+
+    private ShippingService(ShippingStrategy shippingStrategy, ShippingType defaultType, ShippingStrategyRegistry registry,
+                            ForkJoinPool forkJoinPool, int sequentialThreshold, QuoteJournal journal) {
+        if (sequentialThreshold < 1) {
+            throw new IllegalArgumentException("O limite sequencial deve ser positivo: " + sequentialThreshold);
+        }
+        this.shippingStrategy = shippingStrategy;
+        this.defaultType = defaultType;
+        this.registry = registry;
+        this.forkJoinPool = forkJoinPool;
+        this.sequentialThreshold = sequentialThreshold;
+        this.journal = journal;
+    }
 
     /**
      * Calcula o custo de frete para o pedido fornecido usando a estratégia de frete configurada.
@@ -20,6 +123,215 @@ public class ShippingService {
      * @return O custo de frete calculado.
      */
     public BigDecimal calculateShippingCost(Order order) {
-        return this.shippingStrategy.calculateShippingCost(order);
+        return quote(defaultType, defaultStrategy(), order);
+    }
+
+    /**
+     * Calcula o custo de frete para o pedido fornecido usando a estratégia registrada para o tipo.
+     *
+     * @param shippingType O tipo de frete escolhido na requisição.
+     * @param order        O pedido para o qual o custo de frete será calculado.
+     * @return O custo de frete calculado.
+     */
+    public BigDecimal calculateShippingCost(ShippingType shippingType, Order order) {
+        return quote(shippingType, registry.get(shippingType), order);
+    }
+
+    /**
+     * Calcula o custo de frete de um lote de pedidos, preservando a ordem de entrada.
+     *
+     * @param orders Os pedidos a serem cotados.
+     * @return Os custos calculados, na mesma posição do pedido correspondente.
+     */
+    public BigDecimal[] calculateShippingCosts(Order[] orders) {
+        return calculateBatch(defaultType, defaultStrategy(), orders);
+    }
+
+    /**
+     * Calcula o custo de frete de uma lista de pedidos, preservando a ordem de entrada.
+     *
+     * @param orders Os pedidos a serem cotados.
+     * @return Uma lista imutável com os custos calculados.
+     */
+    public List<BigDecimal> calculateShippingCosts(List<Order> orders) {
+        return asList(calculateBatch(defaultType, defaultStrategy(), orders.toArray(new Order[0])));
+    }
+
+    /**
+     * Calcula o custo de frete de um lote de pedidos com a estratégia registrada para o tipo.
+     *
+     * @param shippingType O tipo de frete de todos os pedidos do lote.
+     * @param orders       Os pedidos a serem cotados.
+     * @return Os custos calculados, na mesma posição do pedido correspondente.
+     */
+    public BigDecimal[] calculateShippingCosts(ShippingType shippingType, Order[] orders) {
+        return calculateBatch(shippingType, registry.get(shippingType), orders);
+    }
+
+    public List<BigDecimal> calculateShippingCosts(ShippingType shippingType, List<Order> orders) {
+        return asList(calculateBatch(shippingType, registry.get(shippingType), orders.toArray(new Order[0])));
+    }
+
+    /**
+     * Cota um lote fora do heap com a estratégia registrada para o tipo, gravando os custos no próprio lote.
+     *
+     * @param shippingType O tipo de frete de todos os pedidos do lote.
+     * @param batch        Os pedidos a serem cotados.
+     */
+    public void calculateShippingCosts(ShippingType shippingType, OrderBatch batch) {
+        ShippingStrategy strategy = registry.get(shippingType);
+        QuoteBatchEvent event = new QuoteBatchEvent();
+        event.begin();
+
+        strategy.calculateShippingCostsMinor(batch);
+        if (journal != null) {
+            try {
+                journal.append(shippingType, batch);
+            } catch (RuntimeException e) {
+                journalFailures.increment();
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.set(shippingType, strategy, batch.size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Cota todas as opções de frete do pedido em uma única chamada.<br><br>
+     * Todas as estratégias recebem o pedido completo pelo caminho primitivo em centavos, de modo que
+     * zonas por CEP e recusas que dependem do pedido valem como em {@link #calculateShippingCost(ShippingType, Order)}.
+     * Como o cliente ainda não escolheu a opção, cada uma é apenas estimada
+     * ({@link ShippingStrategy#estimateShippingCostMinor(Order)}), sem notificações de retirada. Uma opção
+     * que não é oferecida para o pedido ({@link ShippingUnavailableException}) fica indisponível nas
+     * {@link ShippingQuotes} sem impedir a cotação das demais.
+     *
+     * @param order O pedido a ser cotado.
+     * @return O custo de cada {@link ShippingType}.
+     */
+    public ShippingQuotes quoteAllOptions(Order order) {
+        return quoteAllOptions(order, false);
+    }
+
+    /**
+     * Cota todas as opções de frete do pedido, opcionalmente avaliando as estratégias em paralelo
+     * no {@link ForkJoinPool} do serviço. O paralelismo só compensa com estratégias caras.
+     *
+     * @param order    O pedido a ser cotado.
+     * @param parallel Se as estratégias devem ser avaliadas em paralelo.
+     * @return O custo de cada {@link ShippingType}.
+     */
+    public ShippingQuotes quoteAllOptions(Order order, boolean parallel) {
+        ShippingType[] types = ShippingType.values();
+        long[] costs = new long[types.length];
+
+        if (!parallel) {
+            for (ShippingType type : types) {
+                costs[type.ordinal()] = option(type, registry.get(type), order);
+            }
+            return new ShippingQuotes(costs);
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(types.length);
+        for (ShippingType type : types) {
+            ShippingStrategy strategy = registry.get(type);
+            tasks.add(ForkJoinTask.adapt(() -> costs[type.ordinal()] = option(type, strategy, order)));
+        }
+        forkJoinPool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        return new ShippingQuotes(costs);
+    }
+
+    /**
+     * Quantidade de cotações (ou lotes) que não puderam ser registradas no diário de auditoria.
+     */
+    public long getJournalFailureCount() {
+        return journalFailures.sum();
+    }
+
+    private BigDecimal quote(ShippingType type, ShippingStrategy strategy, Order order) {
+        QuoteEvent event = new QuoteEvent();
+        event.begin();
+
+        BigDecimal cost = strategy.calculateShippingCost(order);
+        if (journal != null) {
+            try {
+                journal.append(type, order, Money.toMinor(cost));
+            } catch (RuntimeException e) {
+                journalFailures.increment();
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.set(type, strategy, order.getParcel().weight(), Money.toMinor(cost));
+            event.commit();
+        }
+        return cost;
+    }
+
+    private long option(ShippingType type, ShippingStrategy strategy, Order order) {
+        try {
+            return estimateMinor(type, strategy, order);
+        } catch (ShippingUnavailableException e) {
+            return ShippingQuotes.UNAVAILABLE;
+        }
+    }
+
+    private long estimateMinor(ShippingType type, ShippingStrategy strategy, Order order) {
+        QuoteEvent event = new QuoteEvent();
+        event.begin();
+
+        long cost = strategy.estimateShippingCostMinor(order);
+        if (journal != null) {
+            try {
+                journal.append(type, order, cost);
+            } catch (RuntimeException e) {
+                journalFailures.increment();
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.set(type, strategy, order.getParcel().weight(), cost);
+            event.commit();
+        }
+        return cost;
+    }
+
+    private BigDecimal[] calculateBatch(ShippingType type, ShippingStrategy strategy, Order[] orders) {
+        QuoteBatchEvent event = new QuoteBatchEvent();
+        event.begin();
+        BigDecimal[] costs = new BigDecimal[orders.length];
+
+        if (orders.length <= sequentialThreshold) {
+            for (int i = 0; i < orders.length; i++) {
+                costs[i] = strategy.calculateShippingCost(orders[i]);
+            }
+        } else {
+            forkJoinPool.invoke(new BatchShippingTask(strategy, orders, costs, 0, orders.length, sequentialThreshold));
+        }
+        if (journal != null) {
+            try {
+                journal.append(type, orders, costs);
+            } catch (RuntimeException e) {
+                journalFailures.increment();
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.set(type, strategy, orders.length);
+            event.commit();
+        }
+        return costs;
+    }
+
+    private ShippingStrategy defaultStrategy() {
+        if (shippingStrategy == null) {
+            throw new IllegalStateException("Nenhuma estratégia padrão configurada; informe o ShippingType");
+        }
+        return shippingStrategy;
+    }
+
+    private static List<BigDecimal> asList(BigDecimal[] costs) {
+        return Collections.unmodifiableList(Arrays.asList(costs));
     }
 }
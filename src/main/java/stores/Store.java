@@ -0,0 +1,33 @@
+package stores;
+
+import models.GeoPoint;
+
+/**
+ * Ponto de retirada.
+ *
+ * @param id        O identificador da loja.
+ * @param name      O nome exibido ao cliente.
+ * @param location  A localização da loja.
+ * @param maxWeight O peso máximo de pacote aceito para retirada ({@code +Infinity} sem limite).
+ */
+public record Store(String id, String name, GeoPoint location, double maxWeight) {
+
+    public Store {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("O identificador da loja é obrigatório");
+        }
+        if (location == null) {
+            throw new IllegalArgumentException("A localização da loja é obrigatória: " + id);
+        }
+        if (!(maxWeight >= 0)) {
+            throw new IllegalArgumentException("Peso máximo inválido para a loja " + id + ": " + maxWeight);
+        }
+    }
+
+    /**
+     * Indica se a loja aceita um pacote com o peso informado.
+     */
+    public boolean accepts(double weight) {
+        return weight <= maxWeight;
+    }
+}
@@ -0,0 +1,270 @@
+package stores;
+
+import models.GeoPoint;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Índice espacial em memória das lojas de retirada, para encontrar as N lojas elegíveis mais próximas
+ * de um cliente.<br><br>
+ * As coordenadas são convertidas em pontos 3D sobre a esfera unitária, onde a distância euclidiana
+ * (corda) cresce junto com a distância ao longo da superfície; assim a busca é correta em qualquer
+ * latitude e ao cruzar o antimeridiano. Os pontos ficam em uma árvore k-d implícita em arrays
+ * (o nó de cada trecho é o seu elemento do meio), sem um objeto por nó. Imutável e seguro para uso
+ * entre threads.
+ */
+public final class StoreIndex {
+
+    /**
+     * Raio médio da Terra, em quilômetros.
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final int DIMENSIONS = 3;
+
+    private final Store[] stores;
+    private final double[][] coordinates;
+    private final double[] maxWeights;
+    private final double heaviestAccepted;
+
+    private StoreIndex(Store[] stores, double[][] coordinates) {
+        this.stores = stores;
+        this.coordinates = coordinates;
+        this.maxWeights = new double[stores.length];
+        double heaviest = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < stores.length; i++) {
+            maxWeights[i] = stores[i].maxWeight();
+            heaviest = Math.max(heaviest, maxWeights[i]);
+        }
+        this.heaviestAccepted = heaviest;
+    }
+
+    public static StoreIndex of(List<Store> stores) {
+        int size = stores.size();
+        double[][] input = new double[DIMENSIONS][size];
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            toUnitVector(stores.get(i).location(), input, i);
+            order[i] = i;
+        }
+
+        build(order, input, 0, size, 0);
+
+        Store[] sorted = new Store[size];
+        double[][] coordinates = new double[DIMENSIONS][size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = stores.get(order[i]);
+            for (int axis = 0; axis < DIMENSIONS; axis++) {
+                coordinates[axis][i] = input[axis][order[i]];
+            }
+        }
+        return new StoreIndex(sorted, coordinates);
+    }
+
+    /**
+     * Lê um CSV com as colunas {@code id,name,latitude,longitude[,maxWeight]}, sem aspas. Linhas vazias,
+     * iniciadas por {@code #} ou um cabeçalho na primeira linha são ignorados; sem {@code maxWeight},
+     * a loja aceita qualquer peso.
+     */
+    public static StoreIndex parse(Reader reader) throws IOException {
+        List<Store> stores = new ArrayList<>();
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String content = line.trim();
+            if (content.isEmpty() || content.startsWith("#") || (lineNumber == 1 && content.startsWith("id,"))) {
+                continue;
+            }
+
+            String[] columns = content.split(",");
+            try {
+                if (columns.length != 4 && columns.length != 5) {
+                    throw new IllegalArgumentException("Esperadas 4 ou 5 colunas");
+                }
+                GeoPoint location = new GeoPoint(Double.parseDouble(columns[2].trim()), Double.parseDouble(columns[3].trim()));
+                double maxWeight = columns.length == 5 ? Double.parseDouble(columns[4].trim()) : Double.POSITIVE_INFINITY;
+                stores.add(new Store(columns[0].trim(), columns[1].trim(), location, maxWeight));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Linha " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return of(stores);
+    }
+
+    public static StoreIndex load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    public int size() {
+        return stores.length;
+    }
+
+    /**
+     * Indica se alguma loja do índice, em qualquer lugar, aceita um pacote com o peso informado.
+     */
+    public boolean anyAccepts(double parcelWeight) {
+        return parcelWeight <= heaviestAccepted;
+    }
+
+    /**
+     * Retorna as {@code count} lojas mais próximas, da mais próxima para a mais distante.
+     */
+    public List<StoreMatch> nearest(GeoPoint point, int count) {
+        return search(point, count, index -> true);
+    }
+
+    /**
+     * Retorna as {@code count} lojas mais próximas que aceitam um pacote com o peso informado.
+     */
+    public List<StoreMatch> nearest(GeoPoint point, int count, double parcelWeight) {
+        return search(point, count, index -> parcelWeight <= maxWeights[index]);
+    }
+
+    /**
+     * Retorna as {@code count} lojas mais próximas que satisfazem o critério de elegibilidade.
+     */
+    public List<StoreMatch> nearest(GeoPoint point, int count, Predicate<Store> eligible) {
+        return search(point, count, index -> eligible.test(stores[index]));
+    }
+
+    private List<StoreMatch> search(GeoPoint point, int count, IntPredicate eligible) {
+        if (count < 1) {
+            throw new IllegalArgumentException("A quantidade de lojas deve ser positiva: " + count);
+        }
+        double[][] query = new double[DIMENSIONS][1];
+        toUnitVector(point, query, 0);
+
+        Candidates best = new Candidates(Math.min(count, stores.length));
+        search(0, stores.length, 0, query[0][0], query[1][0], query[2][0], eligible, best);
+
+        List<StoreMatch> matches = new ArrayList<>(best.size);
+        for (int i = 0; i < best.size; i++) {
+            matches.add(new StoreMatch(stores[best.indexes[i]], toKilometers(best.distances[i])));
+        }
+        return matches;
+    }
+
+    private void search(int from, int to, int depth, double x, double y, double z, IntPredicate eligible, Candidates best) {
+        if (from >= to) {
+            return;
+        }
+        int node = (from + to) >>> 1;
+        double dx = coordinates[0][node] - x;
+        double dy = coordinates[1][node] - y;
+        double dz = coordinates[2][node] - z;
+        if (best.accepts(dx * dx + dy * dy + dz * dz) && eligible.test(node)) {
+            best.add(node, dx * dx + dy * dy + dz * dz);
+        }
+
+        int axis = depth % DIMENSIONS;
+        double difference = axis == 0 ? dx : axis == 1 ? dy : dz;
+        // O nó está à frente da consulta no eixo: o lado mais provável é o esquerdo
+        if (difference > 0) {
+            search(from, node, depth + 1, x, y, z, eligible, best);
+            if (best.accepts(difference * difference)) {
+                search(node + 1, to, depth + 1, x, y, z, eligible, best);
+            }
+        } else {
+            search(node + 1, to, depth + 1, x, y, z, eligible, best);
+            if (best.accepts(difference * difference)) {
+                search(from, node, depth + 1, x, y, z, eligible, best);
+            }
+        }
+    }
+
+    private static void build(int[] order, double[][] coordinates, int from, int to, int depth) {
+        if (to - from <= 1) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        select(order, coordinates[depth % DIMENSIONS], from, to - 1, middle);
+        build(order, coordinates, from, middle, depth + 1);
+        build(order, coordinates, middle + 1, to, depth + 1);
+    }
+
+    /**
+     * Reordena {@code order[low..high]} para que a posição {@code k} tenha o elemento que teria se o
+     * trecho estivesse ordenado por {@code keys}, com os menores antes e os maiores depois (quickselect).
+     */
+    private static void select(int[] order, double[] keys, int low, int high, int k) {
+        while (low < high) {
+            double pivot = keys[order[(low + high) >>> 1]];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (keys[order[i]] < pivot) i++;
+                while (keys[order[j]] > pivot) j--;
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i++] = order[j];
+                    order[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                high = j;
+            } else if (k >= i) {
+                low = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void toUnitVector(GeoPoint point, double[][] target, int index) {
+        double latitude = Math.toRadians(point.latitude());
+        double longitude = Math.toRadians(point.longitude());
+        double cosLatitude = Math.cos(latitude);
+        target[0][index] = cosLatitude * Math.cos(longitude);
+        target[1][index] = cosLatitude * Math.sin(longitude);
+        target[2][index] = Math.sin(latitude);
+    }
+
+    /**
+     * Converte o quadrado da corda na esfera unitária para a distância na superfície da Terra.
+     */
+    private static double toKilometers(double squaredChord) {
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(squaredChord) / 2));
+    }
+
+    /**
+     * As melhores lojas encontradas até agora, ordenadas pela distância.
+     */
+    private static final class Candidates {
+        private final int[] indexes;
+        private final double[] distances;
+        private int size;
+
+        private Candidates(int capacity) {
+            this.indexes = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        private boolean accepts(double distance) {
+            return size < indexes.length || distance < distances[size - 1];
+        }
+
+        private void add(int index, double distance) {
+            int position = size < indexes.length ? size++ : size - 1;
+            while (position > 0 && distances[position - 1] > distance) {
+                indexes[position] = indexes[position - 1];
+                distances[position] = distances[position - 1];
+                position--;
+            }
+            indexes[position] = index;
+            distances[position] = distance;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package stores;
+
+/**
+ * Loja encontrada em uma busca, com a distância até o cliente em quilômetros.
+ */
+public record StoreMatch(Store store, double distanceKm) {
+}
@@ -0,0 +1,106 @@
+package strategy;
+
+import cache.QuoteCache;
+import cache.QuoteKey;
+import jfr.QuoteCacheEvent;
+import models.Order;
+import models.Parcel;
+import rates.RateProvider;
+
+import java.math.BigDecimal;
+
+/**
+ * Decorador que guarda em um {@link QuoteCache} o custo calculado pela estratégia decorada.<br><br>
+ * Deve ser usado apenas com estratégias cujo resultado depende somente das medidas do pedido e da tabela
+ * publicada no {@link RateProvider}: em um acerto de cache a estratégia decorada não é chamada, então efeitos
+ * colaterais não acontecem. A versão das tarifas, lida antes do cálculo, faz parte da chave; depois de uma
+ * recarga as cotações passam a usar a tabela nova e as entradas antigas saem do cache pela ordem de acesso.
+ * Pedidos com CEPs são sempre delegados, pois o custo pode depender da zona de distância.
+ * Cada consulta emite um {@link QuoteCacheEvent} para o JDK Flight Recorder.
+ */
+public class CachingShippingStrategy implements ShippingStrategy {
+    private final ShippingType shippingType;
+    private final ShippingStrategy delegate;
+    private final QuoteCache cache;
+    private final RateProvider rateProvider;
+
+    /**
+     * Cria o decorador sobre as tarifas de {@link RateProvider#shared()}, usadas pelas estratégias padrão.
+     */
+    public CachingShippingStrategy(ShippingType shippingType, ShippingStrategy delegate, QuoteCache cache) {
+        this(shippingType, delegate, cache, RateProvider.shared());
+    }
+
+    /**
+     * @param shippingType O tipo de frete, que faz parte da chave para permitir um cache compartilhado.
+     * @param delegate     A estratégia que calcula o frete em caso de falta no cache.
+     * @param cache        O cache de cotações.
+     * @param rateProvider O provedor das tarifas usadas pela estratégia decorada.
+     */
+    public CachingShippingStrategy(ShippingType shippingType, ShippingStrategy delegate, QuoteCache cache,
+                                   RateProvider rateProvider) {
+        this.shippingType = shippingType;
+        this.delegate = delegate;
+        this.cache = cache;
+        this.rateProvider = rateProvider;
+    }
+
+    @Override
+    public BigDecimal calculateShippingCost(Order order) {
+        return Money.toBigDecimal(calculateShippingCostMinor(order));
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        if (order.getOriginPostalCode() != null || order.getDestinationPostalCode() != null) {
+            return delegate.calculateShippingCostMinor(order);
+        }
+        return calculateShippingCostMinor(order.getParcel());
+    }
+
+    /**
+     * Como {@link #calculateShippingCostMinor(Order)}, mas uma falta no cache é estimada pela estratégia
+     * decorada, sem os seus efeitos colaterais.
+     */
+    @Override
+    public long estimateShippingCostMinor(Order order) {
+        if (order.getOriginPostalCode() != null || order.getDestinationPostalCode() != null) {
+            return delegate.estimateShippingCostMinor(order);
+        }
+        return lookup(order.getParcel(), order);
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        return lookup(parcel, null);
+    }
+
+    /**
+     * @param order O pedido a estimar em caso de falta, ou {@code null} para cotar o pacote.
+     */
+    private long lookup(Parcel parcel, Order order) {
+        QuoteCacheEvent event = new QuoteCacheEvent();
+        event.begin();
+
+        QuoteKey key = cache.keyFor(shippingType, rateProvider.version(), parcel);
+        long cost = cache.get(key);
+        boolean hit = cost != QuoteCache.MISSING;
+
+        if (!hit) {
+            cost = order == null
+                    ? delegate.calculateShippingCostMinor(parcel)
+                    : delegate.estimateShippingCostMinor(order);
+            cache.put(key, cost);
+        }
+
+        if (event.shouldCommit()) {
+            event.set(shippingType, parcel.weight(), hit);
+            event.commit();
+        }
+        return cost;
+    }
+
+    public QuoteCache getCache() {
+        return cache;
+    }
+}
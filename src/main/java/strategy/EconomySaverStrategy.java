@@ -1,23 +1,93 @@
 package strategy;
 
 import models.Order;
+import models.OrderBatch;
+import models.Parcel;
+import rates.RateProvider;
+import rates.RateSchedule;
+import rates.RateTable;
+import zones.ZonePricing;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * Estratégia de baixo custo que calcula o frete baseado no custo base e no peso do produto.<br><br>
- * <strong>Custo base é de $5.00</strong>, com um adicional de $0.50 para cada libra, quando o pedido tem mais de 10 libras.
+ * <strong>Custo base é de $5.00</strong>, com um adicional de $0.50 para cada libra, quando o pedido tem mais de 10 libras.<br><br>
+ * Os valores vêm das faixas de {@link ShippingType#ECONOMY_SAVER} na {@link RateTable} em vigor no
+ * {@link RateProvider}, lida uma vez por cotação (ou por lote), e podem ser trocados sem reiniciar a aplicação. Com {@link ZonePricing}, o custo de
+ * pedidos com CEPs é multiplicado pelo fator da zona de distância antes do arredondamento.
  */
 public class EconomySaverStrategy implements ShippingStrategy {
+    private final RateProvider rateProvider;
+    private final ZonePricing zonePricing;
+
+    public EconomySaverStrategy() {
+        this(RateProvider.shared());
+    }
+
+    public EconomySaverStrategy(RateProvider rateProvider) {
+        this(rateProvider, null);
+    }
+
+    /**
+     * @param rateProvider A origem das tarifas em vigor.
+     * @param zonePricing  Os multiplicadores por zona, ou {@code null} para cotar sem zona.
+     */
+    public EconomySaverStrategy(RateProvider rateProvider, ZonePricing zonePricing) {
+        this.rateProvider = rateProvider;
+        this.zonePricing = zonePricing;
+    }
+
     @Override
     public BigDecimal calculateShippingCost(Order order) {
-        BigDecimal baseCost = BigDecimal.valueOf(5.00);
-        double weightFactor = 0.0;
+        return Money.toBigDecimal(calculateShippingCostMinor(order));
+    }
 
-        if (order.getWeight() > 10) {
-            weightFactor = (order.getWeight() - 10) * 0.5;
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        if (zonePricing == null) {
+            return calculateShippingCostMinor(order.getParcel());
         }
+        double cost = cost(schedule(), order.getParcel()) * zonePricing.multiplierFor(order);
+        return Money.toMinor(cost, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Sem {@link ZonePricing}, o preço só depende das medidas.
+     */
+    @Override
+    public boolean pricesByParcelOnly() {
+        return zonePricing == null;
+    }
+
+    @Override
+    public boolean pricesByPostalCode() {
+        return zonePricing != null;
+    }
+
+    /**
+     * Cota apenas pelas medidas; sem CEPs, nenhuma zona é aplicada.
+     */
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        return Money.toMinor(cost(schedule(), parcel), RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public void calculateShippingCostsMinor(OrderBatch batch) {
+        RateSchedule schedule = schedule();
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            double volume = batch.height(i) * batch.width(i) * batch.length(i);
+            batch.setCostMinor(i, Money.toMinor(schedule.cost(batch.weight(i), volume), RoundingMode.HALF_UP));
+        }
+    }
+
+    private RateSchedule schedule() {
+        return rateProvider.current().get(ShippingType.ECONOMY_SAVER);
+    }
 
-        return baseCost.add(BigDecimal.valueOf(weightFactor));
+    private static double cost(RateSchedule schedule, Parcel parcel) {
+        return schedule.cost(parcel.weight(), parcel.volume());
     }
 }
@@ -0,0 +1,86 @@
+package strategy;
+
+import java.math.RoundingMode;
+
+/**
+ * Cálculo do HyperSpeed em lote sobre arrays primitivos de medidas.<br><br>
+ * Quando o módulo {@code jdk.incubator.vector} está disponível (JVM iniciada com
+ * {@code --add-modules jdk.incubator.vector}), o lote é calculado com a Vector API, várias linhas por
+ * instrução; caso contrário, ou com {@code -Dshipping.vector.disabled=true}, usa o laço escalar.
+ * Os dois caminhos produzem exatamente os mesmos centavos de
+ * {@link HyperSpeedStrategy#calculateShippingCostMinor(models.Parcel)}.
+ */
+public final class HyperSpeedBatchKernel {
+
+    private static final boolean VECTOR_AVAILABLE = !Boolean.getBoolean("shipping.vector.disabled")
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private HyperSpeedBatchKernel() {
+    }
+
+    /**
+     * Indica se o caminho vetorial está habilitado nesta JVM.
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Calcula o custo em centavos de cada linha, pelo caminho vetorial quando disponível.
+     *
+     * @param baseRate O custo por libra cobrada.
+     * @param divisor  O divisor do peso volumétrico.
+     * @param weights Os pesos dos pedidos.
+     * @param heights As alturas dos pedidos.
+     * @param widths  As larguras dos pedidos.
+     * @param lengths Os comprimentos dos pedidos.
+     * @param costs   O destino dos custos, na mesma posição de cada pedido; define o tamanho do lote.
+     */
+    public static void calculate(double baseRate, double divisor,
+                                 double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs) {
+        if (VECTOR_AVAILABLE) {
+            calculateVector(baseRate, divisor, weights, heights, widths, lengths, costs);
+        } else {
+            calculateScalar(baseRate, divisor, weights, heights, widths, lengths, costs);
+        }
+    }
+
+    public static void calculateScalar(double baseRate, double divisor,
+                                       double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs) {
+        checkLengths(weights, heights, widths, lengths, costs);
+        scalar(baseRate, divisor, weights, heights, widths, lengths, costs, 0, costs.length);
+    }
+
+    /**
+     * @throws IllegalStateException se o módulo {@code jdk.incubator.vector} não estiver disponível.
+     */
+    public static void calculateVector(double baseRate, double divisor,
+                                       double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs) {
+        if (!VECTOR_AVAILABLE) {
+            throw new IllegalStateException("Vector API indisponível; inicie a JVM com --add-modules jdk.incubator.vector");
+        }
+        checkLengths(weights, heights, widths, lengths, costs);
+        HyperSpeedVectorKernel.calculate(baseRate, divisor, weights, heights, widths, lengths, costs);
+    }
+
+    /**
+     * Laço escalar sobre {@code [from, to)}, também usado pelo kernel vetorial para a cauda do lote.
+     */
+    static void scalar(double baseRate, double divisor,
+                       double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs, int from, int to) {
+        for (int i = from; i < to; i++) {
+            double weight = weights[i];
+            double weightFactor = heights[i] * widths[i] * lengths[i] / divisor;
+            double chargeableWeight = weightFactor > weight ? weightFactor : weight;
+
+            costs[i] = Money.toMinor(baseRate * chargeableWeight, RoundingMode.HALF_UP);
+        }
+    }
+
+    private static void checkLengths(double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs) {
+        int size = costs.length;
+        if (weights.length < size || heights.length < size || widths.length < size || lengths.length < size) {
+            throw new IllegalArgumentException("As colunas de medidas devem ter ao menos " + size + " posições");
+        }
+    }
+}
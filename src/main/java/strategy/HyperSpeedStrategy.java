@@ -1,32 +1,119 @@
 package strategy;
 
 import models.Order;
+import models.OrderBatch;
+import models.Parcel;
+import rates.RateProvider;
+import rates.RateBracket;
+import rates.RateSchedule;
+import rates.RateTable;
+import zones.ZonePricing;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * Estratégia de frete rápido Hyper Speed.<br><br>
  * Nesta estratégia, o custo do frete é calculado com base no maior valor entre o peso do pedido
- * e um fator derivado do volume do pedido, garantindo uma entrega rápida.
+ * e um fator derivado do volume do pedido, garantindo uma entrega rápida.<br><br>
+ * A taxa e o divisor vêm das faixas de {@link ShippingType#HYPER_SPEED} na {@link RateTable} em vigor no
+ * {@link RateProvider}, lida uma vez por cotação (ou por lote), e podem ser trocados sem reiniciar a aplicação. Com {@link ZonePricing}, o
+ * custo de pedidos com CEPs é multiplicado pelo fator da zona de distância antes do arredondamento.
  */
 public class HyperSpeedStrategy implements ShippingStrategy {
-    // Exemplo de taxa base para cálculo do frete rápido
-    private final BigDecimal BASE_RATE = BigDecimal.valueOf(12);
-    private final Integer DIVISOR = 139; // Divisor para ajustar o custo com base no peso
+    private final RateProvider rateProvider;
+    private final ZonePricing zonePricing;
+
+    public HyperSpeedStrategy() {
+        this(RateProvider.shared());
+    }
+
+    public HyperSpeedStrategy(RateProvider rateProvider) {
+        this(rateProvider, null);
+    }
 
     /**
-     * Se o fator de peso (volume / DIVISOR) for maior que o peso do pedido,
-     * o custo do frete é calculado com base nesse fator. Caso contrário, o custo é baseado no peso do pedido.
+     * @param rateProvider A origem das tarifas em vigor.
+     * @param zonePricing  Os multiplicadores por zona, ou {@code null} para cotar sem zona.
      */
+    public HyperSpeedStrategy(RateProvider rateProvider, ZonePricing zonePricing) {
+        this.rateProvider = rateProvider;
+        this.zonePricing = zonePricing;
+    }
+
     @Override
     public BigDecimal calculateShippingCost(Order order) {
-        Double volume = order.getHeight() * order.getWidth() * order.getLength();
-        double weightFactor = volume / DIVISOR;
+        return Money.toBigDecimal(calculateShippingCostMinor(order));
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        if (zonePricing == null) {
+            return calculateShippingCostMinor(order.getParcel());
+        }
+        double cost = cost(schedule(), order.getParcel()) * zonePricing.multiplierFor(order);
+        return Money.toMinor(cost, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Sem {@link ZonePricing}, o preço só depende das medidas.
+     */
+    @Override
+    public boolean pricesByParcelOnly() {
+        return zonePricing == null;
+    }
+
+    @Override
+    public boolean pricesByPostalCode() {
+        return zonePricing != null;
+    }
+
+    /**
+     * Se o fator de peso (volume / divisor) for maior que o peso do pedido,
+     * o custo do frete é calculado com base nesse fator. Caso contrário, o custo é baseado no peso do pedido.
+     * Sem CEPs, nenhuma zona é aplicada.
+     */
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        return Money.toMinor(cost(schedule(), parcel), RoundingMode.HALF_UP);
+    }
 
-        if (weightFactor > order.getWeight()) {
-            return BASE_RATE.multiply(BigDecimal.valueOf(weightFactor));
+    private RateSchedule schedule() {
+        return rateProvider.current().get(ShippingType.HYPER_SPEED);
+    }
+
+    private static double cost(RateSchedule schedule, Parcel parcel) {
+        return schedule.cost(parcel.weight(), parcel.volume());
+    }
+
+    /**
+     * Mesmo cálculo de {@link #calculateShippingCostMinor(Parcel)}, lendo as colunas do lote diretamente.
+     */
+    @Override
+    public void calculateShippingCostsMinor(OrderBatch batch) {
+        RateSchedule schedule = schedule();
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            double volume = batch.height(i) * batch.width(i) * batch.length(i);
+            batch.setCostMinor(i, Money.toMinor(schedule.cost(batch.weight(i), volume), RoundingMode.HALF_UP));
         }
+    }
 
-        return BASE_RATE.multiply(BigDecimal.valueOf(order.getWeight()));
+    /**
+     * Cota um lote em arrays primitivos, com a Vector API quando disponível (veja {@link HyperSpeedBatchKernel}).
+     * O kernel só cobre a tabela de taxa única (uma faixa, sem custo base, com divisor); outras tabelas
+     * são cotadas pedido a pedido.
+     *
+     * @param costs O destino dos custos em centavos, na mesma posição de cada pedido.
+     */
+    public void calculateShippingCostsMinor(double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs) {
+        RateSchedule schedule = schedule();
+        RateBracket bracket = schedule.getBracket(0);
+        if (schedule.getBracketCount() == 1 && bracket.baseCost() == 0 && schedule.getDivisor() != 0) {
+            HyperSpeedBatchKernel.calculate(bracket.ratePerUnit(), schedule.getDivisor(), weights, heights, widths, lengths, costs);
+            return;
+        }
+        for (int i = 0; i < costs.length; i++) {
+            costs[i] = Money.toMinor(schedule.cost(weights[i], heights[i] * widths[i] * lengths[i]), RoundingMode.HALF_UP);
+        }
     }
 }
@@ -0,0 +1,53 @@
+package strategy;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Implementação vetorial do {@link HyperSpeedBatchKernel}; só é carregada quando o módulo
+ * {@code jdk.incubator.vector} está presente.<br><br>
+ * As operações seguem a mesma ordem do caminho escalar para que o resultado seja idêntico bit a bit.
+ * O arredondamento HALF_UP de valores não negativos é {@code floor(x + 0.5)}, que para esses valores
+ * coincide com a conversão truncada para {@code long}. Blocos com algum valor negativo, NaN ou fora do
+ * intervalo de {@code long} são refeitos pelo caminho escalar, que aplica as mesmas regras e erros de {@link Money}.
+ */
+final class HyperSpeedVectorKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final double MINOR_UNITS_PER_UNIT = 100;
+    private static final double MAX_MINOR_UNITS = 0x1p63;
+
+    private HyperSpeedVectorKernel() {
+    }
+
+    static void calculate(double baseRate, double divisor,
+                          double[] weights, double[] heights, double[] widths, double[] lengths, long[] costs) {
+        int size = costs.length;
+        int upperBound = SPECIES.loopBound(size);
+        int i = 0;
+
+        for (; i < upperBound; i += SPECIES.length()) {
+            DoubleVector weight = DoubleVector.fromArray(SPECIES, weights, i);
+            DoubleVector weightFactor = DoubleVector.fromArray(SPECIES, heights, i)
+                    .mul(DoubleVector.fromArray(SPECIES, widths, i))
+                    .mul(DoubleVector.fromArray(SPECIES, lengths, i))
+                    .div(divisor);
+            DoubleVector chargeableWeight = weight.blend(weightFactor, weightFactor.compare(VectorOperators.GT, weight));
+            DoubleVector scaled = chargeableWeight.mul(baseRate).mul(MINOR_UNITS_PER_UNIT);
+
+            VectorMask<Double> outOfRange = scaled.compare(VectorOperators.LT, 0)
+                    .or(scaled.compare(VectorOperators.GE, MAX_MINOR_UNITS))
+                    .or(scaled.test(VectorOperators.IS_NAN));
+            if (outOfRange.anyTrue()) {
+                HyperSpeedBatchKernel.scalar(baseRate, divisor, weights, heights, widths, lengths, costs, i, i + SPECIES.length());
+                continue;
+            }
+
+            ((LongVector) scaled.add(0.5).convert(VectorOperators.D2L, 0)).intoArray(costs, i);
+        }
+
+        HyperSpeedBatchKernel.scalar(baseRate, divisor, weights, heights, widths, lengths, costs, i, size);
+    }
+}
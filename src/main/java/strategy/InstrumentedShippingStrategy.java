@@ -0,0 +1,101 @@
+package strategy;
+
+import metrics.StrategyMetrics;
+import models.Order;
+import models.OrderBatch;
+import models.Parcel;
+
+import java.math.BigDecimal;
+
+/**
+ * Decorador que mede cada cotação da estratégia decorada em um {@link StrategyMetrics}.<br><br>
+ * Conta chamadas e erros e grava a latência de cada chamada, inclusive das que lançam exceção (que é
+ * relançada sem alteração). Um lote é medido de uma vez e cada pedido recebe o tempo médio do lote.
+ */
+public class InstrumentedShippingStrategy implements ShippingStrategy {
+    private final ShippingStrategy delegate;
+    private final StrategyMetrics metrics;
+
+    public InstrumentedShippingStrategy(ShippingStrategy delegate, StrategyMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public BigDecimal calculateShippingCost(Order order) {
+        long start = System.nanoTime();
+        try {
+            BigDecimal cost = delegate.calculateShippingCost(order);
+            metrics.recordSuccess(System.nanoTime() - start);
+            return cost;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        long start = System.nanoTime();
+        try {
+            long cost = delegate.calculateShippingCostMinor(order);
+            metrics.recordSuccess(System.nanoTime() - start);
+            return cost;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public long estimateShippingCostMinor(Order order) {
+        long start = System.nanoTime();
+        try {
+            long cost = delegate.estimateShippingCostMinor(order);
+            metrics.recordSuccess(System.nanoTime() - start);
+            return cost;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        long start = System.nanoTime();
+        try {
+            long cost = delegate.calculateShippingCostMinor(parcel);
+            metrics.recordSuccess(System.nanoTime() - start);
+            return cost;
+        } catch (RuntimeException e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public void calculateShippingCostsMinor(OrderBatch batch) {
+        long start = System.nanoTime();
+        try {
+            delegate.calculateShippingCostsMinor(batch);
+            metrics.recordBatch(batch.size(), System.nanoTime() - start, false);
+        } catch (RuntimeException e) {
+            metrics.recordBatch(batch.size(), System.nanoTime() - start, true);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean pricesByParcelOnly() {
+        return delegate.pricesByParcelOnly();
+    }
+
+    @Override
+    public boolean pricesByPostalCode() {
+        return delegate.pricesByPostalCode();
+    }
+
+    public ShippingStrategy getDelegate() {
+        return delegate;
+    }
+}
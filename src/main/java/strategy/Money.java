@@ -0,0 +1,193 @@
+package strategy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em ponto fixo, armazenado como um {@code long} de unidades menores da moeda.<br><br>
+ * Por padrão a unidade menor é o centavo ({@link #DEFAULT_SCALE} casas decimais). As estratégias
+ * fazem suas contas em {@code double} e arredondam uma única vez, com um {@link RoundingMode} explícito,
+ * para unidades menores; o {@link BigDecimal} só é criado na fronteira da API.
+ */
+public final class Money implements Comparable<Money> {
+
+    /**
+     * Quantidade de casas decimais da unidade menor padrão (centavos).
+     */
+    public static final int DEFAULT_SCALE = 2;
+
+    /**
+     * Maior escala suportada; acima disso {@code 10^scale} deixa de caber com folga em um {@code long}.
+     */
+    public static final int MAX_SCALE = 9;
+
+    public static final Money ZERO = new Money(0, DEFAULT_SCALE);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+
+    // Limite a partir do qual a conversão de double para long perderia o valor
+    private static final double MAX_MINOR_UNITS = 0x1p63;
+
+    private final long minorUnits;
+    private final int scale;
+
+    private Money(long minorUnits, int scale) {
+        this.minorUnits = minorUnits;
+        this.scale = scale;
+    }
+
+    /**
+     * Cria um valor a partir de unidades menores na escala padrão (centavos).
+     */
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits, DEFAULT_SCALE);
+    }
+
+    /**
+     * Cria um valor a partir de unidades menores na escala informada.
+     */
+    public static Money ofMinor(long minorUnits, int scale) {
+        return new Money(minorUnits, checkScale(scale));
+    }
+
+    /**
+     * Cria um valor na escala padrão arredondando {@code amount} com o modo informado.
+     */
+    public static Money of(double amount, RoundingMode roundingMode) {
+        return new Money(toMinor(amount, DEFAULT_SCALE, roundingMode), DEFAULT_SCALE);
+    }
+
+    /**
+     * Cria um valor na escala informada arredondando {@code amount} com o modo informado.
+     */
+    public static Money of(double amount, int scale, RoundingMode roundingMode) {
+        return new Money(toMinor(amount, checkScale(scale), roundingMode), scale);
+    }
+
+    /**
+     * Converte um {@link BigDecimal} para a escala padrão usando {@link RoundingMode#HALF_UP}.
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(toMinor(amount), DEFAULT_SCALE);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public Money plus(Money other) {
+        requireSameScale(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), scale);
+    }
+
+    public Money minus(Money other) {
+        requireSameScale(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), scale);
+    }
+
+    /**
+     * Multiplica o valor por um fator, arredondando o resultado para a mesma escala.
+     */
+    public Money times(double factor, RoundingMode roundingMode) {
+        return new Money(round((double) minorUnits * factor, roundingMode), scale);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameScale(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money other)) return false;
+        return minorUnits == other.minorUnits && scale == other.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + scale;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    /**
+     * Caminho primitivo: arredonda {@code amount} para centavos sem criar objetos.
+     */
+    public static long toMinor(double amount, RoundingMode roundingMode) {
+        return toMinor(amount, DEFAULT_SCALE, roundingMode);
+    }
+
+    /**
+     * Caminho primitivo: arredonda {@code amount} para unidades menores da escala informada.<br><br>
+     * O arredondamento é aplicado sobre o valor binário do {@code double}; valores como 2.675, que não
+     * têm representação exata, são tratados pelo seu valor real (2.67499...).
+     */
+    public static long toMinor(double amount, int scale, RoundingMode roundingMode) {
+        return round(amount * POWERS_OF_TEN[scale], roundingMode);
+    }
+
+    /**
+     * Converte um {@link BigDecimal} para centavos usando {@link RoundingMode#HALF_UP}.
+     */
+    public static long toMinor(BigDecimal amount) {
+        return amount.setScale(DEFAULT_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converte centavos para {@link BigDecimal} com escala fixa de duas casas.
+     */
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, DEFAULT_SCALE);
+    }
+
+    private static long round(double scaled, RoundingMode roundingMode) {
+        if (Double.isNaN(scaled) || Math.abs(scaled) >= MAX_MINOR_UNITS) {
+            throw new ArithmeticException("Valor fora do intervalo suportado: " + scaled);
+        }
+
+        double rounded = switch (roundingMode) {
+            case UP -> scaled >= 0 ? Math.ceil(scaled) : Math.floor(scaled);
+            case DOWN -> scaled >= 0 ? Math.floor(scaled) : Math.ceil(scaled);
+            case CEILING -> Math.ceil(scaled);
+            case FLOOR -> Math.floor(scaled);
+            case HALF_UP -> scaled >= 0 ? Math.floor(scaled + 0.5) : Math.ceil(scaled - 0.5);
+            case HALF_DOWN -> scaled >= 0 ? Math.ceil(scaled - 0.5) : Math.floor(scaled + 0.5);
+            case HALF_EVEN -> Math.rint(scaled);
+            case UNNECESSARY -> {
+                if (scaled != Math.rint(scaled)) {
+                    throw new ArithmeticException("Arredondamento necessário para o valor: " + scaled);
+                }
+                yield scaled;
+            }
+        };
+        return (long) rounded;
+    }
+
+    private static int checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Escala inválida: " + scale);
+        }
+        return scale;
+    }
+
+    private void requireSameScale(Money other) {
+        if (scale != other.scale) {
+            throw new IllegalArgumentException("Escalas diferentes: " + scale + " e " + other.scale);
+        }
+    }
+}
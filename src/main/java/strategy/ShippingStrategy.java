@@ -1,6 +1,9 @@
 package strategy;
 
+import models.MutableParcel;
 import models.Order;
+import models.OrderBatch;
+import models.Parcel;
 
 import java.math.BigDecimal;
 
@@ -17,4 +20,78 @@ public interface ShippingStrategy {
      * @return O custo de frete calculado.
      */
     BigDecimal calculateShippingCost(Order order);
+
+    /**
+     * Calcula o custo de frete em centavos, sem criar {@link BigDecimal} no caminho de cálculo.<br><br>
+     * A implementação padrão converte o resultado de {@link #calculateShippingCost(Order)};
+     * estratégias com cálculo primitivo devem sobrescrever este método.
+     *
+     * @param order O pedido para o qual o custo de frete será calculado.
+     * @return O custo de frete em unidades menores da moeda (veja {@link Money}).
+     */
+    default long calculateShippingCostMinor(Order order) {
+        return Money.toMinor(calculateShippingCost(order));
+    }
+
+    /**
+     * Estima o custo de frete em centavos sem os efeitos colaterais de uma cotação escolhida pelo cliente,
+     * como notificações; serve a quem só exibe o preço, como a lista de todas as opções.<br><br>
+     * A implementação padrão é {@link #calculateShippingCostMinor(Order)}; estratégias com efeitos
+     * colaterais devem sobrescrever este método.
+     *
+     * @param order O pedido para o qual o custo de frete será estimado.
+     * @return O custo de frete em unidades menores da moeda (veja {@link Money}).
+     */
+    default long estimateShippingCostMinor(Order order) {
+        return calculateShippingCostMinor(order);
+    }
+
+    /**
+     * Calcula o custo de frete em centavos diretamente a partir das medidas primitivas do pedido.<br><br>
+     * A implementação padrão monta um {@link Order} temporário; estratégias com cálculo primitivo
+     * devem sobrescrever este método para que o caminho de cálculo não aloque objetos.
+     *
+     * @param parcel As medidas do pedido.
+     * @return O custo de frete em unidades menores da moeda (veja {@link Money}).
+     */
+    default long calculateShippingCostMinor(Parcel parcel) {
+        return calculateShippingCostMinor(
+                new Order(parcel.weight(), parcel.height(), parcel.width(), parcel.length(), null, null)
+        );
+    }
+
+    /**
+     * Cota todos os pedidos do lote, gravando o custo em centavos de cada um no próprio lote.<br><br>
+     * A implementação padrão cota pedido a pedido com um {@link MutableParcel} reaproveitado;
+     * estratégias com cálculo primitivo devem sobrescrever este método com um laço direto sobre as colunas.
+     *
+     * @param batch Os pedidos a serem cotados.
+     */
+    default void calculateShippingCostsMinor(OrderBatch batch) {
+        MutableParcel parcel = new MutableParcel();
+        for (int i = 0, size = batch.size(); i < size; i++) {
+            parcel.set(batch.weight(i), batch.height(i), batch.width(i), batch.length(i));
+            batch.setCostMinor(i, calculateShippingCostMinor(parcel));
+        }
+    }
+
+    /**
+     * Indica se o custo depende apenas das medidas, sem efeitos por pedido, de modo que
+     * {@link #calculateShippingCostMinor(Parcel)} e {@link #calculateShippingCostsMinor(OrderBatch)} cotam
+     * qualquer {@link Order} exatamente como {@link #calculateShippingCostMinor(Order)}.<br><br>
+     * O padrão é {@code false}: quem só conhece o contrato cota pedido a pedido. Estratégias que não usam
+     * CEPs, localização, preço ou data do pedido devem sobrescrever este método para liberar o caminho em lote.
+     */
+    default boolean pricesByParcelOnly() {
+        return false;
+    }
+
+    /**
+     * Indica se o custo depende dos CEPs de origem e destino do pedido, para que quem cota pedidos sem CEP
+     * (como o formato colunar) possa recusar a estratégia em vez de cotar sem a zona.<br><br>
+     * O padrão é {@code false}; estratégias com preço por zona devem sobrescrever este método.
+     */
+    default boolean pricesByPostalCode() {
+        return false;
+    }
 }
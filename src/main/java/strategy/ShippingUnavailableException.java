@@ -0,0 +1,16 @@
+package strategy;
+
+/**
+ * Indica que a opção de frete não é oferecida para o pedido (por exemplo, retirada sem loja que aceite o
+ * pacote), ao contrário de um pedido inválido.<br><br>
+ * Estende {@link IllegalArgumentException} para que quem cota um único tipo continue tratando a recusa como
+ * erro do pedido; {@link services.ShippingService#quoteAllOptions(models.Order)} a registra como opção
+ * indisponível sem perder as demais.
+ */
+public class ShippingUnavailableException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    public ShippingUnavailableException(String message) {
+        super(message);
+    }
+}
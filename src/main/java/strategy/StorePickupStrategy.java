@@ -1,18 +1,113 @@
 package strategy;
 
 import models.Order;
+import models.Parcel;
+import notification.AsyncNotifier;
+import stores.StoreIndex;
+import stores.StoreMatch;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Estratégia de frete para retirada na loja.<br><br>
  * Nesta estratégia, o cliente é notificado quando o pedido estiver pronto para retirada na loja física,
- * e não há custo de frete associado.
+ * e não há custo de frete associado. A notificação é enviada de forma assíncrona pelo
+ * {@link AsyncNotifier}, para que o cálculo do frete não espere pela escrita da mensagem.<br><br>
+ * Com um {@link StoreIndex} configurado, a retirada só é oferecida se alguma loja do índice aceitar o peso do
+ * pacote; caso contrário a cotação lança {@link ShippingUnavailableException}. Pedidos com a localização do
+ * cliente são atendidos pela loja elegível mais próxima, indicada na notificação.<br><br>
+ * {@link #estimateShippingCostMinor(Order)} faz as mesmas verificações sem notificar o cliente.
  */
 public class StorePickupStrategy implements ShippingStrategy {
+    static final String PICKUP_NOTIFICATION = "Avisando o cliente quando o pedido ficar pronto para retirada na loja.";
+
+    public static final int DEFAULT_STORE_COUNT = 3;
+
+    private final AsyncNotifier notifier;
+    private final StoreIndex storeIndex;
+    private final int storeCount;
+
+    public StorePickupStrategy() {
+        this(AsyncNotifier.shared());
+    }
+
+    public StorePickupStrategy(AsyncNotifier notifier) {
+        this(notifier, null, DEFAULT_STORE_COUNT);
+    }
+
+    /**
+     * @param notifier   O notificador das mensagens de retirada.
+     * @param storeIndex O índice das lojas, ou {@code null} para não sugerir lojas.
+     * @param storeCount A quantidade de lojas retornada por {@link #nearestStores(Order)}.
+     */
+    public StorePickupStrategy(AsyncNotifier notifier, StoreIndex storeIndex, int storeCount) {
+        if (storeCount < 1) {
+            throw new IllegalArgumentException("A quantidade de lojas deve ser positiva: " + storeCount);
+        }
+        this.notifier = notifier;
+        this.storeIndex = storeIndex;
+        this.storeCount = storeCount;
+    }
+
+    /**
+     * Retorna as lojas elegíveis mais próximas do cliente, da mais próxima para a mais distante; vazia
+     * quando não há índice configurado ou o pedido não tem a localização do cliente.
+     */
+    public List<StoreMatch> nearestStores(Order order) {
+        if (storeIndex == null || order.getCustomerLocation() == null) {
+            return List.of();
+        }
+        return storeIndex.nearest(order.getCustomerLocation(), storeCount, order.getParcel().weight());
+    }
+
     @Override
     public BigDecimal calculateShippingCost(Order order) {
-        System.out.println("Avisando o cliente quando o pedido ficar pronto para retirada na loja.");
-        return BigDecimal.ZERO;
+        notifier.send(notificationFor(order));
+        return Money.toBigDecimal(0);
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Order order) {
+        notifier.send(notificationFor(order));
+        return 0;
+    }
+
+    /**
+     * Verifica se a retirada é oferecida para o pedido, sem avisar o cliente.
+     */
+    @Override
+    public long estimateShippingCostMinor(Order order) {
+        notificationFor(order);
+        return 0;
+    }
+
+    @Override
+    public long calculateShippingCostMinor(Parcel parcel) {
+        requireAcceptingStore(parcel.weight());
+        notifier.send(PICKUP_NOTIFICATION);
+        return 0;
+    }
+
+    private String notificationFor(Order order) {
+        if (storeIndex == null) {
+            return PICKUP_NOTIFICATION;
+        }
+        requireAcceptingStore(order.getParcel().weight());
+        if (order.getCustomerLocation() == null) {
+            return PICKUP_NOTIFICATION;
+        }
+
+        // Sem raio máximo, alguma loja aceita o peso e a busca sempre a encontra
+        StoreMatch nearest = storeIndex.nearest(order.getCustomerLocation(), 1, order.getParcel().weight()).get(0);
+        return PICKUP_NOTIFICATION + " Loja: " + nearest.store().name()
+                + String.format(Locale.ROOT, " (%.1f km)", nearest.distanceKm());
+    }
+
+    private void requireAcceptingStore(double weight) {
+        if (storeIndex != null && !storeIndex.anyAccepts(weight)) {
+            throw new ShippingUnavailableException("Nenhuma loja aceita o pacote para retirada");
+        }
     }
 }
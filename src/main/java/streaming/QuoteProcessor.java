@@ -0,0 +1,244 @@
+package streaming;
+
+import models.Order;
+import models.OrderBatch;
+import strategy.ShippingStrategy;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Flow.Processor} que cota um fluxo contínuo de pedidos e publica os resultados na mesma ordem.<br><br>
+ * Os pedidos só são cotados quando o assinante tem demanda, e a demanda ao publicador de pedidos é
+ * renovada apenas depois que os resultados são entregues: no máximo {@code 2 × batchSize} pedidos ficam
+ * aguardando, por mais lento que seja o assinante. Os pedidos recebidos são cotados em lotes com o que
+ * estiver disponível (até {@code batchSize}): com pouca carga cada pedido segue sozinho, com muita carga
+ * os lotes crescem. O caminho em lote da estratégia só é usado se ela declarar que cota apenas pelas medidas
+ * ({@link ShippingStrategy#pricesByParcelOnly()}); caso contrário, cada pedido passa pelo caminho do
+ * {@link Order}.<br><br>
+ * Aceita um único assinante. Uma falha da estratégia em um pedido gera um {@link QuoteResult} com erro e
+ * o fluxo continua. Os sinais ao assinante, inclusive o erro de uma demanda inválida, partem de uma única
+ * tarefa por vez no {@link Executor}.
+ */
+public class QuoteProcessor implements Flow.Processor<Order, QuoteResult> {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final ShippingStrategy strategy;
+    private final Executor executor;
+    private final int batchSize;
+    private final boolean batchPricing;
+
+    private final ConcurrentLinkedQueue<Order> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Flow.Subscriber<? super QuoteResult>> downstream = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    // Quantidade de pedidos de drenagem pendentes; só quem o leva de 0 para 1 agenda a drenagem
+    private final AtomicInteger drainRequests = new AtomicInteger();
+
+    // Usados apenas pela tarefa que está drenando
+    private final Order[] orders;
+    private final OrderBatch batch;
+    private boolean finished;
+
+    private volatile Flow.Subscription upstream;
+    private volatile boolean upstreamDone;
+    private volatile Throwable upstreamError;
+    private volatile boolean cancelled;
+    private volatile Throwable demandError;
+
+    public QuoteProcessor(ShippingStrategy strategy) {
+        this(strategy, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param strategy  A estratégia que cota todos os pedidos.
+     * @param executor  Onde os pedidos são cotados e os resultados entregues ao assinante.
+     * @param batchSize A quantidade máxima de pedidos cotados de uma vez.
+     */
+    public QuoteProcessor(ShippingStrategy strategy, Executor executor, int batchSize) {
+        if (batchSize < 1 || batchSize > OrderBatch.MAX_CAPACITY) {
+            throw new IllegalArgumentException("Tamanho de lote inválido: " + batchSize);
+        }
+        this.strategy = strategy;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.batchPricing = strategy.pricesByParcelOnly();
+        this.orders = new Order[batchSize];
+        this.batch = new OrderBatch(batchSize);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super QuoteResult> subscriber) {
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("O processador de cotações aceita um único assinante"));
+            return;
+        }
+        subscriber.onSubscribe(new Subscription());
+        scheduleDrain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (upstream != null || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(2L * batchSize);
+    }
+
+    @Override
+    public void onNext(Order order) {
+        pending.add(order);
+        scheduleDrain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        upstreamError = throwable;
+        upstreamDone = true;
+        scheduleDrain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainRequests.getAndIncrement() == 0) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super QuoteResult> subscriber = downstream.get();
+            if (cancelled) {
+                pending.clear();
+                Throwable error = demandError;
+                if (error != null && subscriber != null && !finished) {
+                    finished = true;
+                    subscriber.onError(error);
+                }
+            } else if (subscriber != null && !finished) {
+                emit(subscriber);
+            }
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super QuoteResult> subscriber) {
+        int quoted;
+        while (!cancelled && (quoted = quoteNextBatch(subscriber, (int) Math.min(batchSize, requested.get()))) > 0) {
+            if (requested.get() != Long.MAX_VALUE) {
+                requested.addAndGet(-quoted);
+            }
+            if (!upstreamDone) {
+                upstream.request(quoted);
+            }
+        }
+
+        if (!cancelled && upstreamDone && pending.isEmpty()) {
+            finished = true;
+            if (upstreamError != null) {
+                subscriber.onError(upstreamError);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    private int quoteNextBatch(Flow.Subscriber<? super QuoteResult> subscriber, int limit) {
+        int count = 0;
+        Order order;
+        while (count < limit && (order = pending.poll()) != null) {
+            orders[count++] = order;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        if (!batchPricing || !quoteAsBatch(subscriber, count)) {
+            for (int i = 0; i < count; i++) {
+                subscriber.onNext(quote(orders[i]));
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            orders[i] = null;
+        }
+        return count;
+    }
+
+    /**
+     * Cota os pedidos pelo caminho em lote da estratégia; retorna {@code false} se a estratégia falhar,
+     * para que os pedidos sejam cotados um a um e só o pedido inválido receba o erro.
+     */
+    private boolean quoteAsBatch(Flow.Subscriber<? super QuoteResult> subscriber, int count) {
+        batch.clear();
+        for (int i = 0; i < count; i++) {
+            batch.add(orders[i]);
+        }
+        try {
+            strategy.calculateShippingCostsMinor(batch);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            subscriber.onNext(QuoteResult.success(orders[i], batch.costMinor(i)));
+        }
+        return true;
+    }
+
+    private QuoteResult quote(Order order) {
+        try {
+            return QuoteResult.success(order, strategy.calculateShippingCostMinor(order));
+        } catch (RuntimeException e) {
+            return QuoteResult.failure(order, e.getMessage());
+        }
+    }
+
+    private final class Subscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                // Entregue pela drenagem, para não sinalizar o assinante fora da tarefa serializada (§1.3)
+                demandError = new IllegalArgumentException("A demanda deve ser positiva: " + n);
+                cancel();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = upstream;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package streaming;
+
+import models.Order;
+import strategy.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado da cotação de um pedido recebido pelo {@link QuoteProcessor}.
+ *
+ * @param order      O pedido cotado.
+ * @param costMinor  O custo em centavos; zero quando a cotação falhou.
+ * @param error      A mensagem de erro da estratégia, ou {@code null} em caso de sucesso.
+ */
+public record QuoteResult(Order order, long costMinor, String error) {
+
+    public static QuoteResult success(Order order, long costMinor) {
+        return new QuoteResult(order, costMinor, null);
+    }
+
+    public static QuoteResult failure(Order order, String error) {
+        return new QuoteResult(order, 0, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    public BigDecimal cost() {
+        return Money.toBigDecimal(costMinor);
+    }
+}
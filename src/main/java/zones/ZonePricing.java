@@ -0,0 +1,50 @@
+package zones;
+
+import models.Order;
+
+/**
+ * Dimensão de zona no preço do frete: um multiplicador por zona aplicado ao custo da estratégia.<br><br>
+ * Pedidos sem CEP de origem ou de destino são cotados sem zona (multiplicador 1). Pedidos com CEPs
+ * fora da área atendida, ou de uma zona sem multiplicador, são rejeitados.
+ */
+public final class ZonePricing {
+    private final ZoneResolver resolver;
+    private final double[] multipliers;
+
+    /**
+     * @param resolver    A tabela de zonas.
+     * @param multipliers O multiplicador de cada zona, indexado pelo número da zona.
+     */
+    public ZonePricing(ZoneResolver resolver, double... multipliers) {
+        for (double multiplier : multipliers) {
+            if (!Double.isFinite(multiplier) || multiplier < 0) {
+                throw new IllegalArgumentException("Multiplicador de zona inválido: " + multiplier);
+            }
+        }
+        this.resolver = resolver;
+        this.multipliers = multipliers.clone();
+    }
+
+    /**
+     * Retorna o multiplicador do pedido.
+     *
+     * @throws IllegalArgumentException se os CEPs não pertencerem a uma zona com multiplicador.
+     */
+    public double multiplierFor(Order order) {
+        String origin = order.getOriginPostalCode();
+        String destination = order.getDestinationPostalCode();
+        if (origin == null || destination == null) {
+            return 1;
+        }
+
+        int zone = resolver.resolve(origin, destination);
+        if (zone < 0 || zone >= multipliers.length) {
+            throw new IllegalArgumentException("CEP fora da área atendida: " + origin + " -> " + destination);
+        }
+        return multipliers[zone];
+    }
+
+    public ZoneResolver getResolver() {
+        return resolver;
+    }
+}
@@ -0,0 +1,19 @@
+package zones;
+
+/**
+ * Faixa da tabela de zonas: pedidos com origem em {@code [originStart, originEnd]} e destino em
+ * {@code [destinationStart, destinationEnd]} pertencem a {@code zone}. Os CEPs são comparados pelo
+ * valor numérico dos seus dígitos (veja {@link ZoneResolver#postalCodeKey(CharSequence)}).
+ */
+public record ZoneRange(long originStart, long originEnd, long destinationStart, long destinationEnd, int zone) {
+
+    public ZoneRange {
+        if (originStart < 0 || destinationStart < 0 || originEnd < originStart || destinationEnd < destinationStart) {
+            throw new IllegalArgumentException("Faixa de CEP inválida: " + originStart + "-" + originEnd
+                    + " / " + destinationStart + "-" + destinationEnd);
+        }
+        if (zone < 0) {
+            throw new IllegalArgumentException("Zona inválida: " + zone);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package zones;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resolve a zona de distância de um par origem/destino de CEPs a partir de uma tabela de faixas.<br><br>
+ * As faixas são compiladas em arrays ordenados: um array com as faixas de origem distintas e, para cada
+ * uma, um trecho contíguo dos arrays de faixas de destino. Uma busca faz duas buscas binárias sobre
+ * {@code long}s, sem alocar objetos, o que mantém a consulta abaixo de um microssegundo mesmo com
+ * centenas de milhares de faixas. Imutável e seguro para uso entre threads.
+ */
+public final class ZoneResolver {
+
+    /**
+     * Zona retornada quando origem ou destino não estão cobertos pela tabela.
+     */
+    public static final int UNKNOWN_ZONE = -1;
+
+    private final long[] originStarts;
+    private final long[] originEnds;
+    // Trecho de destinos de cada origem: [destinationOffsets[i], destinationOffsets[i + 1])
+    private final int[] destinationOffsets;
+    private final long[] destinationStarts;
+    private final long[] destinationEnds;
+    private final int[] zones;
+
+    private ZoneResolver(long[] originStarts, long[] originEnds, int[] destinationOffsets,
+                         long[] destinationStarts, long[] destinationEnds, int[] zones) {
+        this.originStarts = originStarts;
+        this.originEnds = originEnds;
+        this.destinationOffsets = destinationOffsets;
+        this.destinationStarts = destinationStarts;
+        this.destinationEnds = destinationEnds;
+        this.zones = zones;
+    }
+
+    /**
+     * Compila as faixas. Faixas de origem devem ser idênticas ou disjuntas, e os destinos de uma
+     * mesma origem não podem se sobrepor.
+     *
+     * @throws IllegalArgumentException se houver sobreposição.
+     */
+    public static ZoneResolver compile(List<ZoneRange> ranges) {
+        ZoneRange[] sorted = ranges.toArray(new ZoneRange[0]);
+        Arrays.sort(sorted, Comparator.comparingLong(ZoneRange::originStart)
+                .thenComparingLong(ZoneRange::originEnd)
+                .thenComparingLong(ZoneRange::destinationStart));
+
+        int count = sorted.length;
+        long[] originStarts = new long[count];
+        long[] originEnds = new long[count];
+        int[] destinationOffsets = new int[count + 1];
+        long[] destinationStarts = new long[count];
+        long[] destinationEnds = new long[count];
+        int[] zones = new int[count];
+
+        int origins = 0;
+        for (int i = 0; i < count; i++) {
+            ZoneRange range = sorted[i];
+            boolean sameOrigin = origins > 0 && originStarts[origins - 1] == range.originStart()
+                    && originEnds[origins - 1] == range.originEnd();
+
+            if (!sameOrigin) {
+                if (origins > 0 && range.originStart() <= originEnds[origins - 1]) {
+                    throw new IllegalArgumentException("Faixas de origem sobrepostas em " + range.originStart());
+                }
+                originStarts[origins] = range.originStart();
+                originEnds[origins] = range.originEnd();
+                destinationOffsets[origins] = i;
+                origins++;
+            } else if (range.destinationStart() <= destinationEnds[i - 1]) {
+                throw new IllegalArgumentException("Faixas de destino sobrepostas em " + range.destinationStart()
+                        + " para a origem " + range.originStart());
+            }
+
+            destinationStarts[i] = range.destinationStart();
+            destinationEnds[i] = range.destinationEnd();
+            zones[i] = range.zone();
+        }
+        destinationOffsets[origins] = count;
+
+        return new ZoneResolver(Arrays.copyOf(originStarts, origins), Arrays.copyOf(originEnds, origins),
+                Arrays.copyOf(destinationOffsets, origins + 1), destinationStarts, destinationEnds, zones);
+    }
+
+    /**
+     * Lê uma tabela CSV com as colunas {@code originStart,originEnd,destinationStart,destinationEnd,zone}.
+     * Linhas vazias, iniciadas por {@code #} ou um cabeçalho na primeira linha são ignorados.
+     */
+    public static ZoneResolver parse(Reader reader) throws IOException {
+        List<ZoneRange> ranges = new ArrayList<>();
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String content = line.trim();
+            if (content.isEmpty() || content.startsWith("#") || (lineNumber == 1 && Character.isLetter(content.charAt(0)))) {
+                continue;
+            }
+
+            String[] columns = content.split(",");
+            try {
+                if (columns.length != 5) {
+                    throw new IllegalArgumentException("Esperadas 5 colunas");
+                }
+                ranges.add(new ZoneRange(requireKey(columns[0]), requireKey(columns[1]),
+                        requireKey(columns[2]), requireKey(columns[3]), Integer.parseInt(columns[4].trim())));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Linha " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return compile(ranges);
+    }
+
+    public static ZoneResolver load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Resolve a zona do par de CEPs.
+     *
+     * @return A zona, ou {@link #UNKNOWN_ZONE} se algum CEP for inválido ou não estiver coberto.
+     */
+    public int resolve(CharSequence originPostalCode, CharSequence destinationPostalCode) {
+        long origin = postalCodeKey(originPostalCode);
+        long destination = postalCodeKey(destinationPostalCode);
+        return origin < 0 || destination < 0 ? UNKNOWN_ZONE : resolve(origin, destination);
+    }
+
+    /**
+     * Resolve a zona a partir das chaves numéricas dos CEPs.
+     */
+    public int resolve(long origin, long destination) {
+        int originIndex = floorIndex(originStarts, 0, originStarts.length, origin);
+        if (originIndex < 0 || origin > originEnds[originIndex]) {
+            return UNKNOWN_ZONE;
+        }
+
+        int from = destinationOffsets[originIndex];
+        int to = destinationOffsets[originIndex + 1];
+        int destinationIndex = floorIndex(destinationStarts, from, to, destination);
+        if (destinationIndex < 0 || destination > destinationEnds[destinationIndex]) {
+            return UNKNOWN_ZONE;
+        }
+        return zones[destinationIndex];
+    }
+
+    public int size() {
+        return zones.length;
+    }
+
+    /**
+     * Converte um CEP na sua chave numérica, ignorando separadores ({@code "01310-100"} vira {@code 1310100}).
+     *
+     * @return A chave, ou {@code -1} se o CEP for nulo, vazio, tiver letras ou mais de 18 dígitos.
+     */
+    public static long postalCodeKey(CharSequence postalCode) {
+        if (postalCode == null) {
+            return -1;
+        }
+        long key = 0;
+        int digits = 0;
+        for (int i = 0, length = postalCode.length(); i < length; i++) {
+            char c = postalCode.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > 18) {
+                    return -1;
+                }
+                key = key * 10 + (c - '0');
+            } else if (c != '-' && c != ' ' && c != '.') {
+                return -1;
+            }
+        }
+        return digits == 0 ? -1 : key;
+    }
+
+    private static long requireKey(String postalCode) {
+        long key = postalCodeKey(postalCode.trim());
+        if (key < 0) {
+            throw new IllegalArgumentException("CEP inválido: " + postalCode);
+        }
+        return key;
+    }
+
+    /**
+     * Maior índice em {@code [from, to)} cujo valor é menor ou igual a {@code key}, ou {@code -1}.
+     */
+    private static int floorIndex(long[] values, int from, int to, long key) {
+        int low = from;
+        int high = to - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (values[middle] <= key) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high >= from ? high : -1;
+    }
+}
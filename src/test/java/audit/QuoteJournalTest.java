@@ -0,0 +1,267 @@
+package audit;
+
+import factory.ShippingStrategyFactory;
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.ShippingService;
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o diário de auditoria de cotações.
+ */
+@DisplayName("Quote Journal Tests")
+class QuoteJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve registrar as cotações do serviço e relê-las em ordem")
+    void shouldRecordServiceQuotes() throws IOException {
+        // Arrange
+        Order order = new Order(10.0, 20.0, 30.0, 40.0, new BigDecimal("150.00"), LocalDateTime.now(),
+                "01310-100", "20040-002");
+
+        // Act
+        BigDecimal cost;
+        try (QuoteJournal journal = new QuoteJournal(directory)) {
+            ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry(), journal);
+            cost = service.calculateShippingCost(ShippingType.ECONOMY_SAVER, order);
+            service.calculateShippingCosts(ShippingType.HYPER_SPEED, new Order[]{order, order});
+        }
+        List<AuditRecord> records = readAll();
+
+        // Assert
+        assertEquals(3, records.size());
+        AuditRecord first = records.get(0);
+        assertEquals(0, first.sequence());
+        assertEquals(ShippingType.ECONOMY_SAVER, first.shippingType());
+        assertEquals(10.0, first.weight());
+        assertEquals(40.0, first.length());
+        assertEquals(15000, first.priceMinorUnits());
+        assertEquals(1310100, first.originPostalCode());
+        assertEquals(20040002, first.destinationPostalCode());
+        assertEquals(cost.movePointRight(2).longValueExact(), first.costMinorUnits());
+        assertEquals(List.of(1L, 2L), records.subList(1, 3).stream().map(AuditRecord::sequence).toList());
+        assertEquals(ShippingType.HYPER_SPEED, records.get(2).shippingType());
+    }
+
+    @Test
+    @DisplayName("Deve registrar cotações de várias threads sem perder nem repetir sequências")
+    void shouldRecordConcurrentWriters() throws Exception {
+        // Arrange
+        int threads = 8;
+        int perThread = 2_000;
+        QuoteJournalConfig config = QuoteJournalConfig.builder()
+                .directory(directory)
+                .recordsPerSegment(1_000)
+                .flushInterval(Duration.ofMillis(1))
+                .build();
+        Order order = new Order(2.0, 10.0, 10.0, 10.0, null, null);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // Act
+        try (QuoteJournal journal = new QuoteJournal(config)) {
+            List<Thread> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long cost = t;
+                writers.add(Thread.ofPlatform().start(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < perThread; i++) {
+                        journal.append(ShippingType.STORE_PICKUP, order, cost);
+                    }
+                }));
+            }
+            start.countDown();
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertTrue(journal.awaitDurable(threads * perThread - 1, Duration.ofSeconds(10)));
+        }
+        List<AuditRecord> records = readAll();
+
+        // Assert
+        assertEquals(threads * perThread, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(i, records.get(i).sequence());
+        }
+        // O segmento seguinte pode já ter sido criado antecipadamente
+        assertTrue(countSegments() >= threads * perThread / 1_000);
+        assertEquals(threads * perThread / threads, records.stream().filter(r -> r.costMinorUnits() == 3).count());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a sequência ao reabrir o diário")
+    void shouldResumeAfterReopen() throws IOException {
+        // Arrange
+        QuoteJournalConfig config = QuoteJournalConfig.builder().directory(directory).recordsPerSegment(4).build();
+        Order order = new Order(1.0, 1.0, 1.0, 1.0, null, null);
+        try (QuoteJournal journal = new QuoteJournal(config)) {
+            for (int i = 0; i < 6; i++) {
+                journal.append(ShippingType.ECONOMY_SAVER, order, i);
+            }
+        }
+
+        // Act
+        long sequence;
+        try (QuoteJournal journal = new QuoteJournal(config)) {
+            sequence = journal.append(ShippingType.HYPER_SPEED, order, 99);
+        }
+        List<AuditRecord> records = readAll();
+
+        // Assert
+        assertEquals(6, sequence);
+        assertEquals(7, records.size());
+        assertEquals(ShippingType.ECONOMY_SAVER, records.get(0).shippingType());
+        assertFalse(records.get(0).hasPrice());
+        assertEquals(99, records.get(6).costMinorUnits());
+    }
+
+    @Test
+    @DisplayName("Deve pular e contar registros corrompidos na leitura")
+    void shouldSkipCorruptedRecords() throws IOException {
+        // Arrange
+        QuoteJournalConfig config = QuoteJournalConfig.builder().directory(directory).recordsPerSegment(16).build();
+        Order order = new Order(1.0, 1.0, 1.0, 1.0, null, null);
+        try (QuoteJournal journal = new QuoteJournal(config)) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(ShippingType.ECONOMY_SAVER, order, 100 + i);
+            }
+        }
+        Path segment = QuoteJournalFormat.segmentPath(directory, 0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(QuoteJournalFormat.HEADER_SIZE + QuoteJournalFormat.RECORD_SIZE + QuoteJournalFormat.COST);
+            file.write(0x7F);
+        }
+
+        // Act
+        QuoteJournalReader reader = new QuoteJournalReader(directory);
+        List<Long> costs = reader.stream().map(AuditRecord::costMinorUnits).toList();
+
+        // Assert
+        assertEquals(List.of(100L, 102L), costs);
+        assertEquals(1, reader.getCorruptedCount());
+    }
+
+    @Test
+    @DisplayName("Deve identificar o tipo da estratégia padrão e recusar cotações sem tipo")
+    void shouldRecordDefaultStrategyType() throws IOException {
+        // Arrange
+        Order order = new Order(10.0, 20.0, 30.0, 40.0, null, null);
+
+        // Act
+        try (QuoteJournal journal = new QuoteJournal(directory)) {
+            ShippingService service = new ShippingService(ShippingType.HYPER_SPEED, ShippingStrategyFactory.getRegistry(), journal);
+            service.calculateShippingCost(order);
+            service.calculateShippingCosts(new Order[]{order});
+            assertThrows(IllegalArgumentException.class, () -> journal.append(null, order, 1));
+        }
+        List<AuditRecord> records = readAll();
+
+        // Assert
+        assertEquals(List.of(ShippingType.HYPER_SPEED, ShippingType.HYPER_SPEED),
+                records.stream().map(AuditRecord::shippingType).toList());
+    }
+
+    @Test
+    @DisplayName("Deve continuar gravando depois de uma cotação que não pôde ser registrada")
+    void shouldRecoverFromFailedAppend() throws Exception {
+        // Arrange
+        Order unpriceable = new Order(1.0, 1.0, 1.0, 1.0, new BigDecimal("1e30"), null);
+        Order order = new Order(1.0, 1.0, 1.0, 1.0, null, null);
+
+        try (QuoteJournal journal = new QuoteJournal(directory)) {
+            // Act
+            assertThrows(ArithmeticException.class, () -> journal.append(ShippingType.ECONOMY_SAVER, unpriceable, 1));
+            long sequence = journal.append(ShippingType.ECONOMY_SAVER, order, 2);
+
+            // Assert
+            assertEquals(0, sequence);
+            assertTrue(journal.awaitDurable(sequence, Duration.ofSeconds(10)));
+        }
+        assertEquals(List.of(2L), readAll().stream().map(AuditRecord::costMinorUnits).toList());
+    }
+
+    @Test
+    @DisplayName("Deve abandonar as posições que falharam depois da reserva sem interromper as cotações")
+    void shouldAbandonSlotsThatFailAfterReserve() throws Exception {
+        // Arrange
+        QuoteJournalConfig config = QuoteJournalConfig.builder().directory(directory).recordsPerSegment(2).build();
+        Path broken = QuoteJournalFormat.segmentPath(directory, 2);
+        Order order = new Order(1.0, 1.0, 1.0, 1.0, null, null);
+
+        try (QuoteJournal journal = new QuoteJournal(config)) {
+            // Um diretório no lugar do segundo segmento faz a abertura dele falhar
+            Files.createDirectory(broken);
+            ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry(), journal);
+            journal.append(ShippingType.ECONOMY_SAVER, order, 10);
+            journal.append(ShippingType.ECONOMY_SAVER, order, 20);
+
+            // Act
+            BigDecimal cost = service.calculateShippingCost(ShippingType.ECONOMY_SAVER, order);
+            // A sequência 3 fica no segmento quebrado e a 4, no seguinte, é marcada como abandonada
+            assertThrows(RuntimeException.class,
+                    () -> journal.append(ShippingType.ECONOMY_SAVER, new Order[]{order, order},
+                            new BigDecimal[]{BigDecimal.ONE, BigDecimal.ONE}));
+            long sequence = journal.append(ShippingType.ECONOMY_SAVER, order, 40);
+
+            // Assert
+            assertNotNull(cost);
+            assertEquals(1, service.getJournalFailureCount());
+            assertEquals(5, sequence);
+            assertTrue(journal.awaitDurable(sequence, Duration.ofSeconds(10)));
+        }
+        Files.delete(broken);
+        List<AuditRecord> records = readAll();
+        assertEquals(List.of(0L, 1L, 5L), records.stream().map(AuditRecord::sequence).toList());
+        assertEquals(40, records.get(2).costMinorUnits());
+    }
+
+    @Test
+    @DisplayName("Deve recusar cotações depois de fechado")
+    void shouldRejectAppendAfterClose() throws IOException {
+        // Arrange
+        QuoteJournal journal = new QuoteJournal(directory);
+        journal.close();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> journal.append(ShippingType.HYPER_SPEED, new Order(1.0, 1.0, 1.0, 1.0, null, null), 1));
+    }
+
+    private List<AuditRecord> readAll() {
+        List<AuditRecord> records = new ArrayList<>();
+        new QuoteJournalReader(directory).forEach(records::add);
+        return records;
+    }
+
+    private long countSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(QuoteJournalFormat::isSegment).count();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
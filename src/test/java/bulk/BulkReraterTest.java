@@ -0,0 +1,190 @@
+package bulk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a re-cotação em massa de arquivos de pedidos.
+ */
+@DisplayName("Bulk Rerater Tests")
+class BulkReraterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve cotar um CSV sem cabeçalho usando as quatro primeiras colunas")
+    void shouldRerateCsvWithoutHeader() throws IOException {
+        // Arrange
+        Path input = write("orders.csv", "15,10,10,10\r\n5,10,10,10\n\n8.5,1,1,1");
+        Path output = directory.resolve("quotes.csv");
+
+        // Act
+        RerateSummary summary = new BulkRerater().rerate(input, output, new EconomySaverStrategy());
+
+        // Assert
+        assertEquals(List.of("record,cost", "1,7.50", "2,5.00", "3,5.00"), Files.readAllLines(output));
+        assertEquals(new RerateSummary(3, 0, 1750), summary);
+        assertEquals(new BigDecimal("17.50"), summary.total());
+    }
+
+    @Test
+    @DisplayName("Deve localizar as colunas pelo cabeçalho do CSV")
+    void shouldRerateCsvWithHeader() throws IOException {
+        // Arrange
+        Path input = write("orders.csv", "id,length,width,height,weight\n1,10,10,10,15\n2,10,10,10,12.5\n");
+        Path output = directory.resolve("quotes.csv");
+
+        // Act
+        RerateSummary summary = new BulkRerater().rerate(input, output, new EconomySaverStrategy());
+
+        // Assert
+        assertEquals(List.of("record,cost", "1,7.50", "2,6.25"), Files.readAllLines(output));
+        assertEquals(2, summary.records());
+    }
+
+    @Test
+    @DisplayName("Deve cotar um NDJSON ignorando campos desconhecidos")
+    void shouldRerateNdjson() throws IOException {
+        // Arrange
+        Path input = write("orders.ndjson", """
+                {"id":"a,b}","weight":15,"height":10,"width":10,"length":10}
+                { "tags": ["x", {"y": 1}], "length": 10, "width": 10, "height": 10, "weight": 5.0 }
+                """);
+        Path output = directory.resolve("quotes.csv");
+
+        // Act
+        RerateSummary summary = new BulkRerater().rerate(input, output, new EconomySaverStrategy());
+
+        // Assert
+        assertEquals(List.of("record,cost", "1,7.50", "2,5.00"), Files.readAllLines(output));
+        assertEquals(new RerateSummary(2, 0, 1250), summary);
+    }
+
+    @Test
+    @DisplayName("Deve marcar linhas inválidas como ERROR e continuar")
+    void shouldReportMalformedLines() throws IOException {
+        // Arrange
+        Path csv = write("orders.csv", "15,10,10,10\nabc\n15,10\n15,x,10,10\n5,10,10,10\n");
+        Path ndjson = write("orders.jsonl", "{\"weight\":15,\"height\":10,\"width\":10}\nnot json\n");
+        Path csvOutput = directory.resolve("csv-quotes.csv");
+        Path ndjsonOutput = directory.resolve("ndjson-quotes.csv");
+
+        // Act
+        RerateSummary csvSummary = new BulkRerater().rerate(csv, OrderFileFormat.CSV, csvOutput, new EconomySaverStrategy());
+        RerateSummary ndjsonSummary = new BulkRerater().rerate(ndjson, ndjsonOutput, new EconomySaverStrategy());
+
+        // Assert - "abc" é a primeira linha de dados após a primeira, não um cabeçalho
+        assertEquals(List.of("record,cost", "1,7.50", "2,ERROR", "3,ERROR", "4,ERROR", "5,5.00"), Files.readAllLines(csvOutput));
+        assertEquals(new RerateSummary(5, 3, 1250), csvSummary);
+        assertEquals(List.of("record,cost", "1,ERROR", "2,ERROR"), Files.readAllLines(ndjsonOutput));
+        assertEquals(2, ndjsonSummary.errors());
+    }
+
+    @Test
+    @DisplayName("Deve processar arquivos maiores que o bloco e linhas maiores que o buffer")
+    void shouldStreamAcrossChunksAndLongLines() throws IOException {
+        // Arrange
+        StringBuilder content = new StringBuilder("weight,height,width,length,comment\n");
+        for (int i = 0; i < 1_000; i++) {
+            content.append(i % 20).append(",10,10,10,").append(i == 500 ? "x".repeat(500) : "").append('\n');
+        }
+        Path input = write("orders.csv", content.toString());
+        Path output = directory.resolve("quotes.csv");
+        EconomySaverStrategy strategy = new EconomySaverStrategy();
+
+        // Act
+        RerateSummary summary = new BulkRerater(64, 128).rerate(input, output, strategy);
+
+        // Assert
+        List<String> lines = Files.readAllLines(output);
+        assertEquals(1_001, lines.size());
+        long expectedTotal = 0;
+        for (int i = 0; i < 1_000; i++) {
+            long cost = strategy.calculateShippingCostMinor(new models.MutableParcel().set(i % 20, 10, 10, 10));
+            expectedTotal += cost;
+            assertEquals((i + 1) + "," + BigDecimal.valueOf(cost, 2), lines.get(i + 1));
+        }
+        assertEquals(new RerateSummary(1_000, 0, expectedTotal), summary);
+    }
+
+    @Test
+    @DisplayName("Deve marcar como ERROR linhas acima do tamanho máximo sem carregá-las inteiras")
+    void shouldSkipLinesLongerThanLimit() throws IOException {
+        // Arrange - uma linha sem quebra muito maior que o limite, no meio e no fim do arquivo
+        String corrupt = "9".repeat(100_000);
+        Path input = write("orders.csv", "15,10,10,10\n" + corrupt + "\n5,10,10,10\n" + corrupt);
+        Path output = directory.resolve("quotes.csv");
+
+        // Act
+        RerateSummary summary = new BulkRerater(64, 128, 1_024).rerate(input, output, new EconomySaverStrategy());
+
+        // Assert
+        assertEquals(List.of("record,cost", "1,7.50", "2,ERROR", "3,5.00", "4,ERROR"), Files.readAllLines(output));
+        assertEquals(new RerateSummary(4, 2, 1250), summary);
+    }
+
+    @Test
+    @DisplayName("Deve converter números com o mesmo resultado de Double.parseDouble")
+    void shouldParseNumbersLikeDoubleParseDouble() {
+        for (String text : List.of("0", "12", "-3.5", "+0.1", "2.675", "123456.789", "1e3", "0.30000000000000004", " 7.25 ")) {
+            byte[] bytes = text.getBytes();
+            assertEquals(Double.parseDouble(text.trim()), AsciiNumbers.parseDouble(bytes, 0, bytes.length), text);
+        }
+        assertThrows(NumberFormatException.class, () -> AsciiNumbers.parseDouble(new byte[]{'-'}, 0, 1));
+        assertThrows(NumberFormatException.class, () -> AsciiNumbers.parseDouble(new byte[]{'1', 'a'}, 0, 2));
+        for (String text : List.of("NaN", "Infinity", "-Infinity", "0x1p3", "1d", "2.5f", "1e400", "1e", "12345678901234567e400")) {
+            byte[] bytes = text.getBytes();
+            assertThrows(NumberFormatException.class, () -> AsciiNumbers.parseDouble(bytes, 0, bytes.length), text);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve marcar como ERROR medidas que não são decimais finitos")
+    void shouldRejectNonDecimalMeasurements() throws IOException {
+        // Arrange
+        Path csv = write("orders.csv", "15,10,10,10\nNaN,10,10,10\n15,Infinity,10,10\n15,10,10,1e400\n2d,10,10,10\n");
+        Path ndjson = write("orders.ndjson", "{\"weight\":NaN,\"height\":1,\"width\":1,\"length\":1}\n"
+                + "{\"weight\":0x10,\"height\":1,\"width\":1,\"length\":1}\n");
+        Path csvOutput = directory.resolve("csv-quotes.csv");
+        Path ndjsonOutput = directory.resolve("ndjson-quotes.csv");
+
+        // Act
+        RerateSummary csvSummary = new BulkRerater().rerate(csv, csvOutput, new EconomySaverStrategy());
+        RerateSummary ndjsonSummary = new BulkRerater().rerate(ndjson, ndjsonOutput, new EconomySaverStrategy());
+
+        // Assert
+        assertEquals(List.of("record,cost", "1,7.50", "2,ERROR", "3,ERROR", "4,ERROR", "5,ERROR"), Files.readAllLines(csvOutput));
+        assertEquals(new RerateSummary(5, 4, 750), csvSummary);
+        assertEquals(new RerateSummary(2, 2, 0), ndjsonSummary);
+    }
+
+    @Test
+    @DisplayName("Deve cotar pelo volume com a estratégia HyperSpeed")
+    void shouldRerateWithHyperSpeed() throws IOException {
+        // Arrange
+        Path input = write("orders.csv", "1,10,10,10\n");
+        Path output = directory.resolve("quotes.csv");
+
+        // Act
+        new BulkRerater().rerate(input, output, new HyperSpeedStrategy());
+
+        // Assert - 12 * 1000 / 139 = 86.33
+        assertEquals(List.of("record,cost", "1,86.33"), Files.readAllLines(output));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+}
@@ -0,0 +1,134 @@
+package bulk;
+
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingStrategy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o formato colunar de pedidos.
+ */
+@DisplayName("Columnar Order File Tests")
+class ColumnarOrderFileTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve ler de volta os pedidos gravados, inclusive entre grupos")
+    void shouldRoundTripOrdersAcrossRowGroups() throws IOException {
+        // Arrange - 10 linhas em grupos de 4: o último grupo tem 2 linhas
+        Path file = directory.resolve("orders.shpc");
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            orders.add(new Order(1.5 * i, 10.0 + i, 5.0, 8.0 - i * 0.5,
+                    new BigDecimal("99.90").add(BigDecimal.valueOf(i)), LocalDateTime.of(2024, 1, 1 + i, 12, 30)));
+        }
+
+        // Act
+        try (ColumnarOrderWriter writer = new ColumnarOrderWriter(file, 4)) {
+            for (Order order : orders) {
+                writer.write(order);
+            }
+        }
+
+        // Assert
+        assertEquals(32 + 10 * 48, Files.size(file));
+        try (ColumnarOrderReader reader = ColumnarOrderReader.open(file)) {
+            assertEquals(10, reader.getRowCount());
+            ColumnarOrderView view = reader.newView();
+            int row = 0;
+            while (view.next()) {
+                Order expected = orders.get(row);
+                Order actual = view.toOrder();
+                assertEquals(expected.getWeight(), view.weight());
+                assertEquals(expected.getHeight(), view.height());
+                assertEquals(expected.getWidth(), view.width());
+                assertEquals(expected.getLength(), view.length());
+                assertEquals(expected.getPrice(), actual.getPrice());
+                assertEquals(expected.getDateTime(), actual.getDateTime());
+                row++;
+            }
+            assertEquals(10, row);
+            assertEquals(13.5, reader.newView().moveTo(9).weight());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve cotar pela visão o mesmo valor que pelo pedido")
+    void shouldQuoteFromViewLikeFromOrder() throws IOException {
+        // Arrange
+        Path file = directory.resolve("orders.shpc");
+        List<Order> orders = List.of(
+                new Order(12.0, 10.0, 5.0, 8.0, null, null),
+                new Order(1.0, 50.0, 40.0, 30.0, null, null),
+                new Order(25.5, 1.0, 1.0, 1.0, null, null));
+        try (ColumnarOrderWriter writer = new ColumnarOrderWriter(file, 2)) {
+            for (Order order : orders) {
+                writer.write(order);
+            }
+        }
+
+        // Act & Assert
+        try (ColumnarOrderReader reader = ColumnarOrderReader.open(file)) {
+            ColumnarOrderView view = reader.newView();
+            for (ShippingStrategy strategy : List.of(new EconomySaverStrategy(), new HyperSpeedStrategy())) {
+                for (int i = 0; i < orders.size(); i++) {
+                    assertEquals(strategy.calculateShippingCostMinor(orders.get(i)), strategy.calculateShippingCostMinor(view.moveTo(i)));
+                }
+            }
+            assertFalse(view.hasPrice());
+            assertNull(view.toOrder().getDateTime());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve re-cotar arquivos colunares pelo BulkRerater")
+    void shouldRerateColumnarFile() throws IOException {
+        // Arrange
+        Path file = directory.resolve("orders.shpc");
+        try (ColumnarOrderWriter writer = new ColumnarOrderWriter(file)) {
+            writer.write(15, 10, 10, 10, 1000, 0);
+            writer.write(5, 10, 10, 10, Long.MIN_VALUE, Long.MIN_VALUE);
+        }
+        Path output = directory.resolve("quotes.csv");
+
+        // Act
+        RerateSummary summary = new BulkRerater().rerate(file, output, new EconomySaverStrategy());
+
+        // Assert
+        assertEquals(List.of("record,cost", "1,7.50", "2,5.00"), Files.readAllLines(output));
+        assertEquals(new RerateSummary(2, 0, 1250), summary);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivos que não estão no formato ou estão incompletos")
+    void shouldRejectInvalidFiles() throws IOException {
+        // Arrange
+        Path text = Files.writeString(directory.resolve("orders.csv"), "15,10,10,10\n".repeat(10));
+        Path truncated = directory.resolve("truncated.shpc");
+        try (ColumnarOrderWriter writer = new ColumnarOrderWriter(truncated)) {
+            writer.write(15, 10, 10, 10, 0, 0);
+        }
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 8));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ColumnarOrderReader.open(text));
+        assertThrows(IllegalArgumentException.class, () -> ColumnarOrderReader.open(truncated));
+    }
+}
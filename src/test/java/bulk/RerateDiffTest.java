@@ -0,0 +1,228 @@
+package bulk;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.Order;
+import notification.AsyncNotifier;
+import notification.InMemoryNotificationSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import rates.RateProvider;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingStrategy;
+import strategy.StorePickupStrategy;
+import strategy.ShippingType;
+import zones.ZonePricing;
+import zones.ZoneResolver;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a comparação de receita entre duas configurações de frete.
+ */
+@DisplayName("Rerate Diff Tests")
+class RerateDiffTest {
+
+    private static final int ORDERS = 1_000;
+    private static final Set<ShippingType> TYPES = EnumSet.of(ShippingType.ECONOMY_SAVER, ShippingType.HYPER_SPEED);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve somar as diferenças por faixa de peso e apontar as maiores variações")
+    void shouldAggregateDeltasPerBand() throws IOException {
+        // Arrange
+        Path file = writeOrders();
+        ShippingStrategy economy = new EconomySaverStrategy();
+        long expectedDelta = 0;
+        for (int i = 0; i < ORDERS; i++) {
+            double weight = weightOf(i);
+            if (weight <= 40) {
+                expectedDelta += Math.round(weight * 100) - economy.calculateShippingCostMinor(
+                        new Order(weight, 10.0, 10.0, 10.0, null, null));
+            }
+        }
+
+        // Act
+        RerateDiffReport report = new RerateDiff().compare(file, ShippingStrategyFactory.getRegistry(), candidate(), TYPES);
+
+        // Assert
+        assertEquals(ORDERS, report.records());
+        assertEquals(expectedDelta, report.deltaMinorUnits(ShippingType.ECONOMY_SAVER));
+        assertEquals(0, report.deltaMinorUnits(ShippingType.HYPER_SPEED));
+        assertEquals(expectedDelta, report.deltaMinorUnits());
+
+        BandDelta heavy = report.bands().stream()
+                .filter(band -> band.shippingType() == ShippingType.ECONOMY_SAVER && band.minWeight() == 30)
+                .findFirst().orElseThrow();
+        assertEquals(50.0, heavy.maxWeight());
+        assertEquals(10 * ORDERS / 50, heavy.errors());
+        assertEquals(10 * ORDERS / 50, heavy.orders());
+        assertEquals(heavy.orders(), heavy.increased());
+
+        List<RateMover> movers = report.movers();
+        assertEquals(RerateDiff.DEFAULT_TOP_MOVERS, movers.size());
+        assertEquals(List.of(40L, 90L, 140L), movers.subList(0, 3).stream().map(RateMover::record).toList());
+        assertEquals(1975, movers.get(0).deltaMinorUnits());
+        assertEquals(ShippingType.ECONOMY_SAVER, movers.get(0).shippingType());
+    }
+
+    @Test
+    @DisplayName("Deve chegar ao mesmo resultado com qualquer divisão em blocos")
+    void shouldNotDependOnChunking() throws IOException {
+        // Arrange
+        Path file = writeOrders();
+        ShippingStrategyRegistry current = ShippingStrategyFactory.getRegistry();
+        RerateDiff sequential = new RerateDiff(ForkJoinPool.commonPool(), RerateDiff.DEFAULT_WEIGHT_BANDS, 5, Integer.MAX_VALUE);
+
+        // Act
+        RerateDiffReport expected = sequential.compare(file, current, candidate(), TYPES);
+        RerateDiffReport actual;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            actual = new RerateDiff(pool, RerateDiff.DEFAULT_WEIGHT_BANDS, 5, 7).compare(file, current, candidate(), TYPES);
+        }
+
+        // Assert
+        assertEquals(expected, actual);
+        assertTrue(actual.toText().contains("ECONOMY_SAVER [30, 50)"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arquivos fora do formato colunar e faixas fora de ordem")
+    void shouldRejectInvalidInput() throws IOException {
+        // Arrange
+        Path text = Files.writeString(directory.resolve("orders.csv"), "15,10,10,10\n");
+        ShippingStrategyRegistry registry = ShippingStrategyFactory.getRegistry();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new RerateDiff().compare(text, registry, registry, TYPES));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RerateDiff(ForkJoinPool.commonPool(), new double[]{5, 1}, 10, 100));
+    }
+
+    @Test
+    @DisplayName("Deve cotar com o preço e a data do pedido e contar qualquer falha da estratégia como erro")
+    void shouldPriceWholeOrders() throws IOException {
+        // Arrange
+        Path file = directory.resolve("priced.shpc");
+        long epochSecond = LocalDateTime.of(2024, 5, 1, 12, 0).toEpochSecond(ZoneOffset.UTC);
+        try (ColumnarOrderWriter writer = new ColumnarOrderWriter(file, 64)) {
+            for (int i = 0; i < 10; i++) {
+                writer.write(5.0, 10, 10, 10, 10_000 + i * 100, epochSecond);
+            }
+        }
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        // 1% do valor do pedido, só para pedidos de maio
+        strategies.put(ShippingType.ECONOMY_SAVER, order -> {
+            if (order.getDateTime().getMonth() != Month.MAY) {
+                throw new IllegalArgumentException("Fora da campanha: " + order.getDateTime());
+            }
+            return order.getPrice().movePointLeft(2).setScale(2, RoundingMode.HALF_UP);
+        });
+        strategies.put(ShippingType.HYPER_SPEED, order -> {
+            throw new IllegalStateException("Tabela indisponível");
+        });
+        ShippingStrategyRegistry current = ShippingStrategyFactory.getRegistry();
+        long currentTotal = 10 * current.get(ShippingType.ECONOMY_SAVER)
+                .calculateShippingCostMinor(new Order(5.0, 10.0, 10.0, 10.0, null, null));
+
+        // Act
+        RerateDiffReport report = new RerateDiff().compare(file, current, ShippingStrategyRegistry.of(strategies), TYPES);
+
+        // Assert
+        assertEquals(10 * 100 + 45 - currentTotal, report.deltaMinorUnits(ShippingType.ECONOMY_SAVER));
+        assertEquals(0, report.deltaMinorUnits(ShippingType.HYPER_SPEED));
+        assertEquals(10, report.bands().stream()
+                .filter(band -> band.shippingType() == ShippingType.HYPER_SPEED)
+                .mapToLong(BandDelta::errors).sum());
+    }
+
+    @Test
+    @DisplayName("Deve recusar estratégias que cotam por CEP")
+    void shouldRejectZonedStrategies() throws IOException {
+        // Arrange
+        Path file = writeOrders();
+        ZoneResolver resolver = ZoneResolver.parse(new StringReader("01000-000,05999-999,20000-000,28999-999,2\n"));
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.HYPER_SPEED,
+                new HyperSpeedStrategy(RateProvider.shared(), new ZonePricing(resolver, 1.0, 1.1, 1.3)));
+        ShippingStrategyRegistry zoned = ShippingStrategyRegistry.of(strategies);
+
+        // Act & Assert
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> new RerateDiff().compare(file, ShippingStrategyFactory.getRegistry(), zoned, TYPES));
+        assertTrue(error.getMessage().contains("HYPER_SPEED"));
+        assertDoesNotThrow(() -> new RerateDiff().compare(file, ShippingStrategyFactory.getRegistry(), zoned,
+                EnumSet.of(ShippingType.ECONOMY_SAVER)));
+    }
+
+    @Test
+    @DisplayName("Deve cotar a retirada na loja sem notificar os clientes do histórico")
+    void shouldNotNotifyPickupCustomers() throws IOException {
+        // Arrange
+        Path file = writeOrders();
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(sink);
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.STORE_PICKUP, new StorePickupStrategy(notifier));
+        ShippingStrategyRegistry registry = ShippingStrategyRegistry.of(strategies);
+
+        // Act
+        RerateDiffReport report = new RerateDiff().compare(file, registry, registry, EnumSet.of(ShippingType.STORE_PICKUP));
+        notifier.close(); // aguarda a entrega das notificações pendentes
+
+        // Assert
+        assertEquals(ORDERS, report.bands().stream().mapToLong(BandDelta::orders).sum());
+        assertEquals(0, report.deltaMinorUnits());
+        assertEquals(List.of(), sink.getMessages());
+    }
+
+    /**
+     * Pesos de 0,5 a 49,5 kg, repetidos a cada 50 pedidos.
+     */
+    private Path writeOrders() throws IOException {
+        Path file = directory.resolve("orders.shpc");
+        try (ColumnarOrderWriter writer = new ColumnarOrderWriter(file, 64)) {
+            for (int i = 0; i < ORDERS; i++) {
+                writer.write(weightOf(i), 10, 10, 10, Long.MIN_VALUE, Long.MIN_VALUE);
+            }
+        }
+        return file;
+    }
+
+    private static double weightOf(int index) {
+        return index % 50 + 0.5;
+    }
+
+    /**
+     * Econômico a R$ 1,00 por kg, sem aceitar pedidos acima de 40 kg; os demais tipos não mudam.
+     */
+    private static ShippingStrategyRegistry candidate() {
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.ECONOMY_SAVER, order -> {
+            if (order.getWeight() > 40) {
+                throw new IllegalArgumentException("Peso acima do limite: " + order.getWeight());
+            }
+            return BigDecimal.valueOf(order.getWeight()).setScale(2);
+        });
+        return ShippingStrategyRegistry.of(strategies);
+    }
+}
@@ -0,0 +1,138 @@
+package cache;
+
+import models.ImmutableParcel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.ShippingType;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o cache limitado de cotações.
+ *
+ * Verifica quantização de chaves, expiração, limite de tamanho com admissão por frequência
+ * e os contadores expostos.
+ */
+@DisplayName("Quote Cache Tests")
+class QuoteCacheTest {
+
+    @Test
+    @DisplayName("Deve contar acertos e faltas")
+    void shouldCountHitsAndMisses() {
+        // Arrange
+        QuoteCache cache = new QuoteCache(QuoteCacheConfig.builder().build());
+        QuoteKey key = cache.keyFor(ShippingType.ECONOMY_SAVER, new ImmutableParcel(5.0, 10.0, 10.0, 10.0));
+
+        // Act
+        long first = cache.get(key);
+        cache.put(key, 500);
+        long second = cache.get(key);
+
+        // Assert
+        assertEquals(QuoteCache.MISSING, first);
+        assertEquals(500, second);
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(1, stats.size());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    @DisplayName("Deve agrupar medidas próximas com a quantização configurada")
+    void shouldQuantizeDimensions() {
+        // Arrange
+        QuoteCache cache = new QuoteCache(QuoteCacheConfig.builder()
+            .weightQuantum(0.5)
+            .dimensionQuantum(1.0)
+            .build());
+
+        // Act
+        QuoteKey a = cache.keyFor(ShippingType.HYPER_SPEED, new ImmutableParcel(5.1, 10.2, 10.0, 9.9));
+        QuoteKey b = cache.keyFor(ShippingType.HYPER_SPEED, new ImmutableParcel(5.0, 9.8, 10.1, 10.0));
+        QuoteKey c = cache.keyFor(ShippingType.ECONOMY_SAVER, new ImmutableParcel(5.0, 9.8, 10.1, 10.0));
+
+        // Assert
+        assertEquals(a, b);
+        assertNotEquals(b, c, "O tipo de frete faz parte da chave");
+    }
+
+    @Test
+    @DisplayName("Deve expirar entradas após o tempo de vida")
+    void shouldExpireEntriesAfterTimeToLive() {
+        // Arrange
+        AtomicLong clock = new AtomicLong();
+        QuoteCache cache = new QuoteCache(QuoteCacheConfig.builder()
+            .timeToLive(Duration.ofSeconds(10))
+            .ticker(clock::get)
+            .build());
+        QuoteKey key = cache.keyFor(ShippingType.ECONOMY_SAVER, new ImmutableParcel(5.0, 1.0, 1.0, 1.0));
+        cache.put(key, 500);
+
+        // Act
+        clock.set(Duration.ofSeconds(9).toNanos());
+        long beforeExpiry = cache.get(key);
+        clock.set(Duration.ofSeconds(10).toNanos());
+        long afterExpiry = cache.get(key);
+
+        // Assert
+        assertEquals(500, beforeExpiry);
+        assertEquals(QuoteCache.MISSING, afterExpiry);
+        assertEquals(1, cache.stats().evictions());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o tamanho máximo e proteger as entradas mais frequentes")
+    void shouldBoundSizeAndKeepFrequentEntries() {
+        // Arrange - uma única partição para tornar a vítima previsível
+        QuoteCache cache = new QuoteCache(QuoteCacheConfig.builder()
+            .maximumSize(2)
+            .concurrencyLevel(1)
+            .build());
+        QuoteKey popular = keyForWeight(cache, 1.0);
+        QuoteKey warm = keyForWeight(cache, 2.0);
+        QuoteKey oneOff = keyForWeight(cache, 3.0);
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(popular);
+            cache.get(warm);
+        }
+        cache.put(popular, 100);
+        cache.put(warm, 200);
+
+        // Act - pacote visto uma única vez não deve expulsar os populares
+        cache.get(oneOff);
+        cache.put(oneOff, 300);
+
+        // ... mas um pacote que se torna popular deve ser admitido
+        QuoteKey rising = keyForWeight(cache, 4.0);
+        for (int i = 0; i < 10; i++) {
+            cache.get(rising);
+        }
+        cache.put(rising, 400);
+
+        // Assert
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.rejections());
+        assertEquals(1, stats.evictions());
+        assertEquals(400, cache.get(rising));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar configuração inválida")
+    void shouldRejectInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new QuoteCache(QuoteCacheConfig.builder().maximumSize(0).build()));
+        assertThrows(IllegalArgumentException.class,
+            () -> new QuoteCache(QuoteCacheConfig.builder().dimensionQuantum(-1).build()));
+    }
+
+    private static QuoteKey keyForWeight(QuoteCache cache, double weight) {
+        return cache.keyFor(ShippingType.ECONOMY_SAVER, new ImmutableParcel(weight, 1.0, 1.0, 1.0));
+    }
+}
@@ -49,16 +49,29 @@ class ShippingStrategyFactoryTest {
     }
 
     @Test
-    @DisplayName("Deve criar instâncias diferentes a cada chamada (não singleton)")
-    void shouldCreateNewInstancesEachTime() {
+    @DisplayName("Deve retornar a mesma instância compartilhada a cada chamada")
+    void shouldReturnSharedInstanceEachTime() {
         // Act
         ShippingStrategy strategy1 = ShippingStrategyFactory.getStrategy(ShippingType.ECONOMY_SAVER);
         ShippingStrategy strategy2 = ShippingStrategyFactory.getStrategy(ShippingType.ECONOMY_SAVER);
 
         // Assert
         assertNotNull(strategy1);
-        assertNotNull(strategy2);
-        assertNotSame(strategy1, strategy2, "Factory deve criar novas instâncias a cada chamada");
+        assertSame(strategy1, strategy2, "Factory deve reutilizar a instância registrada");
+        assertSame(strategy1, ShippingStrategyFactory.getRegistry().get(ShippingType.ECONOMY_SAVER));
+    }
+
+    @Test
+    @DisplayName("Deve criar instâncias diferentes quando solicitado explicitamente")
+    void shouldCreateNewInstancesOnDemand() {
+        // Act
+        ShippingStrategy strategy1 = ShippingStrategyFactory.createStrategy(ShippingType.HYPER_SPEED);
+        ShippingStrategy strategy2 = ShippingStrategyFactory.createStrategy(ShippingType.HYPER_SPEED);
+
+        // Assert
+        assertInstanceOf(HyperSpeedStrategy.class, strategy1);
+        assertNotSame(strategy1, strategy2, "createStrategy deve criar novas instâncias a cada chamada");
+        assertNotSame(strategy1, ShippingStrategyFactory.getStrategy(ShippingType.HYPER_SPEED));
     }
 
     @Test
@@ -124,7 +137,7 @@ class ShippingStrategyFactoryTest {
     }
 
     @Test
-    @DisplayName("Deve manter tipo de estratégia independente para cada criação")
+    @DisplayName("Deve manter tipo de estratégia independente para cada chamada")
     void shouldMaintainIndependentStrategyTypes() {
         // Act
         ShippingStrategy first = ShippingStrategyFactory.getStrategy(ShippingType.ECONOMY_SAVER);
@@ -135,7 +148,7 @@ class ShippingStrategyFactoryTest {
         assertInstanceOf(EconomySaverStrategy.class, first);
         assertInstanceOf(HyperSpeedStrategy.class, second);
         assertInstanceOf(EconomySaverStrategy.class, third);
-        assertNotSame(first, third, "Mesmo tipo deve criar instâncias diferentes");
+        assertSame(first, third, "Mesmo tipo deve retornar a instância compartilhada");
     }
 }
 
@@ -0,0 +1,49 @@
+package factory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.*;
+
+import java.util.EnumMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o registro de estratégias compartilhadas.
+ */
+@DisplayName("Shipping Strategy Registry Tests")
+class ShippingStrategyRegistryTest {
+
+    @Test
+    @DisplayName("Deve retornar a estratégia registrada para cada tipo")
+    void shouldReturnRegisteredStrategyForEachType() {
+        // Arrange
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        ShippingStrategy economy = new EconomySaverStrategy();
+        ShippingStrategy hyper = new HyperSpeedStrategy();
+        ShippingStrategy store = new StorePickupStrategy();
+        strategies.put(ShippingType.ECONOMY_SAVER, economy);
+        strategies.put(ShippingType.HYPER_SPEED, hyper);
+        strategies.put(ShippingType.STORE_PICKUP, store);
+
+        // Act
+        ShippingStrategyRegistry registry = ShippingStrategyRegistry.of(strategies);
+
+        // Assert
+        assertSame(economy, registry.get(ShippingType.ECONOMY_SAVER));
+        assertSame(hyper, registry.get(ShippingType.HYPER_SPEED));
+        assertSame(store, registry.get(ShippingType.STORE_PICKUP));
+        assertEquals(strategies, registry.asMap());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar registro sem estratégia para algum tipo")
+    void shouldRejectIncompleteRegistry() {
+        // Arrange
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        strategies.put(ShippingType.ECONOMY_SAVER, new EconomySaverStrategy());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ShippingStrategyRegistry.of(strategies));
+    }
+}
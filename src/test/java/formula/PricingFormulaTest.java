@@ -0,0 +1,111 @@
+package formula;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.ImmutableParcel;
+import models.Order;
+import models.OrderBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para as fórmulas de preço compiladas.
+ */
+@DisplayName("Pricing Formula Tests")
+class PricingFormulaTest {
+
+    @Test
+    @DisplayName("Deve respeitar a precedência dos operadores e as funções")
+    void shouldEvaluateWithOperatorPrecedenceAndFunctions() {
+        assertEquals(14.0, PricingFormula.compile("2 + 3 * 4").evaluate(0, 0, 0, 0));
+        assertEquals(20.0, PricingFormula.compile("(2 + 3) * 4").evaluate(0, 0, 0, 0));
+        assertEquals(-1.0, PricingFormula.compile("-weight + 2").evaluate(3, 0, 0, 0));
+        assertEquals(60.0, PricingFormula.compile("volume").evaluate(0, 3, 4, 5));
+        assertEquals(9.0, PricingFormula.compile("max(weight, height, width, length)").evaluate(1, 9, 2, 3));
+        assertEquals(3.0, PricingFormula.compile("ceil(sqrt(weight)) - floor(abs(-0.5))").evaluate(5, 0, 0, 0));
+        assertEquals(250.0, PricingFormula.compile("2.5e2").evaluate(0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Deve reproduzir a regra do HyperSpeed")
+    void shouldReproduceHyperSpeedRule() {
+        // Arrange
+        FormulaStrategy formula = new FormulaStrategy("max(volume / 139, weight) * 12");
+        HyperSpeedStrategy hyperSpeed = new HyperSpeedStrategy();
+        SplittableRandom random = new SplittableRandom(20);
+        OrderBatch batch = new OrderBatch(1_000);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            ImmutableParcel parcel = new ImmutableParcel(random.nextDouble(0, 50), random.nextDouble(0, 100),
+                    random.nextDouble(0, 100), random.nextDouble(0, 100));
+            assertEquals(hyperSpeed.calculateShippingCostMinor(parcel), formula.calculateShippingCostMinor(parcel));
+            batch.add(parcel);
+        }
+        formula.calculateShippingCostsMinor(batch);
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(hyperSpeed.calculateShippingCostMinor(
+                    new ImmutableParcel(batch.weight(i), batch.height(i), batch.width(i), batch.length(i))), batch.costMinor(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar custos negativos calculados pela fórmula")
+    void shouldRejectNegativeCosts() {
+        // Arrange
+        FormulaStrategy formula = new FormulaStrategy("weight - 10");
+        OrderBatch batch = new OrderBatch(2);
+        batch.add(new ImmutableParcel(15, 1, 1, 1));
+        batch.add(new ImmutableParcel(5, 1, 1, 1));
+
+        // Act & Assert
+        assertEquals(500, formula.calculateShippingCostMinor(new ImmutableParcel(15, 1, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> formula.calculateShippingCostMinor(new ImmutableParcel(5, 1, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> formula.calculateShippingCostsMinor(batch));
+        assertThrows(IllegalArgumentException.class,
+                () -> new FormulaStrategy("volume / (weight - weight)").calculateShippingCostMinor(new ImmutableParcel(0, 0, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Deve indicar a posição de erros de sintaxe")
+    void shouldReportSyntaxErrorPosition() {
+        IllegalArgumentException unknownVariable = assertThrows(IllegalArgumentException.class,
+                () -> PricingFormula.compile("weight * price"));
+        IllegalArgumentException unknownFunction = assertThrows(IllegalArgumentException.class,
+                () -> PricingFormula.compile("log(weight)"));
+        IllegalArgumentException unbalanced = assertThrows(IllegalArgumentException.class,
+                () -> PricingFormula.compile("(weight + 1"));
+
+        assertEquals("Posição 10: Variável desconhecida: price", unknownVariable.getMessage());
+        assertEquals("Posição 1: Função desconhecida: log", unknownFunction.getMessage());
+        assertTrue(unbalanced.getMessage().contains("Esperado ')'"));
+        assertThrows(IllegalArgumentException.class, () -> PricingFormula.compile("max(weight)"));
+        assertThrows(IllegalArgumentException.class, () -> PricingFormula.compile("weight 2"));
+        assertThrows(IllegalArgumentException.class, () -> PricingFormula.compile(" "));
+    }
+
+    @Test
+    @DisplayName("Deve cotar pelo registro montado com fórmulas")
+    void shouldQuoteThroughFormulaRegistry() {
+        // Arrange
+        ShippingStrategyRegistry registry = ShippingStrategyFactory.createFormulaRegistry(
+                Map.of(ShippingType.ECONOMY_SAVER, "4 + max(weight - 10, 0) * 0.75"));
+        Order order = new Order(12.0, 10.0, 5.0, 8.0, null, null);
+
+        // Act
+        BigDecimal economy = registry.get(ShippingType.ECONOMY_SAVER).calculateShippingCost(order);
+        BigDecimal hyperSpeed = registry.get(ShippingType.HYPER_SPEED).calculateShippingCost(order);
+
+        // Assert
+        assertEquals(new BigDecimal("5.50"), economy);
+        assertEquals(new BigDecimal("144.00"), hyperSpeed);
+    }
+}
@@ -43,7 +43,7 @@ class ShippingIntegrationTest {
         BigDecimal shippingCost = service.calculateShippingCost(order);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), shippingCost);
+        assertEquals(new BigDecimal("5.00"), shippingCost);
         assertTrue(shippingCost.compareTo(order.getPrice()) < 0,
             "Frete deve ser menor que o valor do produto");
     }
@@ -94,7 +94,7 @@ class ShippingIntegrationTest {
         BigDecimal shippingCost = service.calculateShippingCost(order);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, shippingCost,
+        assertEquals(new BigDecimal("0.00"), shippingCost,
             "Retirada na loja deve ser gratuita");
     }
 
@@ -135,9 +135,9 @@ class ShippingIntegrationTest {
             "Economy deve ser mais barato que HyperSpeed");
 
         // Assert - Valores específicos
-        assertEquals(BigDecimal.valueOf(7.50), economyCost);  // $5 + (15-10)*$0.50
-        assertEquals(BigDecimal.valueOf(180.00), hyperCost);  // $12 * 15
-        assertEquals(BigDecimal.ZERO, storeCost);
+        assertEquals(new BigDecimal("7.50"), economyCost);  // $5 + (15-10)*$0.50
+        assertEquals(new BigDecimal("180.00"), hyperCost);  // $12 * 15
+        assertEquals(new BigDecimal("0.00"), storeCost);
     }
 
     @Test
@@ -169,7 +169,7 @@ class ShippingIntegrationTest {
             "HyperSpeed deve cobrar mais devido ao peso volumétrico");
 
         // Economy não considera volume, apenas peso real
-        assertEquals(BigDecimal.valueOf(5.00), economyCost);
+        assertEquals(new BigDecimal("5.00"), economyCost);
 
         // HyperSpeed considera volume: (30*30*30)/139 ≈ 194 libras volumétricas
         assertTrue(hyperCost.compareTo(BigDecimal.valueOf(2000.00)) > 0);
@@ -197,7 +197,7 @@ class ShippingIntegrationTest {
         // Assert
         // Peso volumétrico = (6*6*6)/139 ≈ 1.55 libras
         // Peso real (25) é maior, então deve prevalecer
-        assertEquals(BigDecimal.valueOf(300.00), hyperCost); // $12 * 25
+        assertEquals(new BigDecimal("300.00"), hyperCost); // $12 * 25
     }
 
     @ParameterizedTest
@@ -260,9 +260,9 @@ class ShippingIntegrationTest {
         BigDecimal cost3 = service3.calculateShippingCost(order3);
 
         // Assert - Cada serviço mantém sua estratégia independentemente
-        assertEquals(BigDecimal.valueOf(5.00), cost1);   // Economy: $5 (peso <= 10)
-        assertEquals(BigDecimal.valueOf(120.00), cost2);  // HyperSpeed: $12 * 10 (peso real > volumétrico)
-        assertEquals(BigDecimal.ZERO, cost3);            // Store Pickup: gratuito
+        assertEquals(new BigDecimal("5.00"), cost1);   // Economy: $5 (peso <= 10)
+        assertEquals(new BigDecimal("120.00"), cost2);  // HyperSpeed: $12 * 10 (peso real > volumétrico)
+        assertEquals(new BigDecimal("0.00"), cost3);            // Store Pickup: gratuito
     }
 
     @Test
@@ -289,8 +289,8 @@ class ShippingIntegrationTest {
         BigDecimal hyperCost = hyperService.calculateShippingCost(expensiveOrder);
 
         // Assert - Frete não depende do valor do produto, apenas de peso/dimensões
-        assertEquals(BigDecimal.valueOf(5.00), economyCost);
-        assertEquals(BigDecimal.valueOf(24.00), hyperCost);
+        assertEquals(new BigDecimal("5.00"), economyCost);
+        assertEquals(new BigDecimal("24.00"), hyperCost);
 
         // Frete é uma pequena fração do valor do produto
         assertTrue(economyCost.compareTo(expensiveOrder.getPrice()) < 0);
@@ -327,7 +327,7 @@ class ShippingIntegrationTest {
         BigDecimal shippingCost = service.calculateShippingCost(consolidatedOrder);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), shippingCost); // 10 libras = custo base
+        assertEquals(new BigDecimal("5.00"), shippingCost); // 10 libras = custo base
         assertTrue(consolidatedOrder.getWeight().equals(10.0));
     }
 }
@@ -0,0 +1,91 @@
+package jfr;
+
+import cache.QuoteCache;
+import cache.QuoteCacheConfig;
+import factory.ShippingStrategyFactory;
+import jdk.jfr.Recording;
+import models.Order;
+import models.OrderBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import services.ShippingService;
+import strategy.CachingShippingStrategy;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para os eventos do JFR de cotação e o resumo de uma gravação.
+ */
+@DisplayName("Quote Recording Analyzer Tests")
+class QuoteRecordingAnalyzerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve resumir as cotações gravadas por estratégia")
+    void shouldSummarizeRecordedQuotesPerStrategy() throws IOException {
+        // Arrange
+        Path file = directory.resolve("quotes.jfr");
+        ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry());
+        ShippingService cachedService = new ShippingService(new CachingShippingStrategy(
+                ShippingType.HYPER_SPEED, new HyperSpeedStrategy(), new QuoteCache(QuoteCacheConfig.builder().build())));
+        Order order = new Order(12.0, 10.0, 5.0, 8.0, null, null);
+        OrderBatch batch = new OrderBatch(64);
+        for (int i = 0; i < 50; i++) {
+            batch.add(i + 1.0, 10.0, 5.0, 8.0);
+        }
+
+        // Act
+        try (Recording recording = new Recording()) {
+            recording.enable(QuoteEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(QuoteBatchEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(QuoteCacheEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            for (int i = 0; i < 20; i++) {
+                service.calculateShippingCost(ShippingType.ECONOMY_SAVER, order);
+            }
+            service.quoteAllOptions(order);
+            service.calculateShippingCosts(ShippingType.HYPER_SPEED, batch);
+            for (int i = 0; i < 4; i++) {
+                cachedService.calculateShippingCost(order);
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+        Map<String, QuoteSummary> summaries = QuoteRecordingAnalyzer.analyze(file);
+
+        // Assert
+        assertEquals(21, summaries.get("ECONOMY_SAVER").getQuoteCount());
+        assertEquals(1, summaries.get("HYPER_SPEED").getQuoteCount());
+        assertEquals(50, summaries.get("HYPER_SPEED").getBatchedOrderCount());
+        assertEquals(4, summaries.get("HYPER_SPEED").getCacheLookupCount());
+        assertEquals(3, summaries.get("HYPER_SPEED").getCacheHitCount());
+        assertEquals(4, summaries.get("CachingShippingStrategy").getQuoteCount());
+        assertTrue(summaries.get("ECONOMY_SAVER").getThroughputPerSecond() > 0);
+        assertTrue(QuoteRecordingAnalyzer.toText(summaries).contains("ECONOMY_SAVER count=21"));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar os pesos em potências de dois")
+    void shouldBucketWeightsByPowersOfTwo() {
+        assertEquals(0, QuoteEvent.weightBucket(0));
+        assertEquals(0, QuoteEvent.weightBucket(Double.NaN));
+        assertEquals(1, QuoteEvent.weightBucket(0.4));
+        assertEquals(1, QuoteEvent.weightBucket(1));
+        assertEquals(4, QuoteEvent.weightBucket(3));
+        assertEquals(4, QuoteEvent.weightBucket(4));
+        assertEquals(8, QuoteEvent.weightBucket(4.5));
+        assertEquals(1 << 30, QuoteEvent.weightBucket(Double.MAX_VALUE));
+    }
+}
@@ -0,0 +1,145 @@
+package loadtest;
+
+import factory.ShippingStrategyRegistry;
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import services.ShippingService;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o gerador de carga em malha aberta.
+ */
+@DisplayName("Load Generator Tests")
+class LoadGeneratorTest {
+
+    @Test
+    @DisplayName("Deve sustentar a taxa configurada e medir as latências")
+    void shouldSustainTargetRate() throws InterruptedException {
+        // Arrange
+        LoadTestConfig config = LoadTestConfig.builder()
+                .targetRate(2_000)
+                .threads(2)
+                .warmup(Duration.ofMillis(100))
+                .duration(Duration.ofMillis(500))
+                .orderPoolSize(1_024)
+                .build();
+
+        // Act
+        LoadTestReport report = new LoadGenerator(new ShippingService(LoadGenerator.quietRegistry()), config).run();
+
+        // Assert
+        assertEquals(1_000, report.completed(), 300);
+        assertEquals(2_000, report.throughput(), 600);
+        assertEquals(0, report.errors());
+        assertEquals(report.completed(), report.responseTime().getCount());
+        assertTrue(report.toText().contains("response count="));
+    }
+
+    @Test
+    @DisplayName("Deve contar a espera das chegadas atrasadas por uma pausa do serviço")
+    void shouldAccountForCoordinatedOmission() throws InterruptedException {
+        // Arrange - o serviço para 200 ms uma única vez, no meio da rodada
+        AtomicInteger calls = new AtomicInteger();
+        ShippingStrategy stalling = order -> {
+            if (calls.incrementAndGet() == 300) {
+                sleep(200);
+            }
+            return BigDecimal.ONE;
+        };
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            strategies.put(type, stalling);
+        }
+        LoadTestConfig config = LoadTestConfig.builder()
+                .targetRate(1_000)
+                .threads(1)
+                .warmup(Duration.ZERO)
+                .duration(Duration.ofSeconds(1))
+                .poissonArrivals(false)
+                .build();
+
+        // Act
+        LoadTestReport report = new LoadGenerator(new ShippingService(ShippingStrategyRegistry.of(strategies)), config).run();
+
+        // Assert - ~20% das chegadas caem na pausa; o tempo de serviço só vê uma cotação lenta
+        long millis = TimeUnit.MILLISECONDS.toNanos(1);
+        assertTrue(report.responseTime().getValueAtPercentile(90) > 20 * millis,
+                "p90 de resposta: " + report.responseTime().getValueAtPercentile(90));
+        assertTrue(report.serviceTime().getValueAtPercentile(90) < 20 * millis,
+                "p90 de serviço: " + report.serviceTime().getValueAtPercentile(90));
+        assertTrue(report.responseTime().getMaxNanos() >= 190 * millis);
+    }
+
+    @Test
+    @DisplayName("Deve contar como não enviadas as chegadas reservadas depois do fim da janela")
+    void shouldCountClaimedArrivalsAfterEndAsUnsent() throws InterruptedException {
+        // Arrange - a 50ª cotação para além do fim da rodada
+        AtomicInteger calls = new AtomicInteger();
+        ShippingStrategy stalling = order -> {
+            if (calls.incrementAndGet() == 50) {
+                sleep(400);
+            }
+            return BigDecimal.ONE;
+        };
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            strategies.put(type, stalling);
+        }
+        LoadTestConfig config = LoadTestConfig.builder()
+                .targetRate(1_000)
+                .threads(1)
+                .warmup(Duration.ZERO)
+                .duration(Duration.ofMillis(300))
+                .poissonArrivals(false)
+                .build();
+
+        // Act
+        LoadTestReport report = new LoadGenerator(new ShippingService(ShippingStrategyRegistry.of(strategies)), config).run();
+
+        // Assert - toda chegada agendada na janela foi enviada ou contada como não enviada
+        assertEquals(50, report.completed());
+        assertEquals(300, report.completed() + report.unsent());
+    }
+
+    @Test
+    @DisplayName("Deve gerar pedidos na proporção e nas faixas de cada tipo")
+    void shouldGenerateOrdersByMixAndProfile() {
+        // Arrange
+        TrafficMix mix = TrafficMix.of(Map.of(ShippingType.ECONOMY_SAVER, 3.0, ShippingType.HYPER_SPEED, 1.0));
+        SplittableRandom random = new SplittableRandom(23);
+        int[] counts = new int[ShippingType.values().length];
+
+        // Act & Assert
+        for (int i = 0; i < 20_000; i++) {
+            ShippingType type = mix.next(random);
+            counts[type.ordinal()]++;
+            Order order = OrderProfile.forType(type).next(random);
+            assertTrue(order.getWeight() >= 0.1 && order.getWeight() <= 150);
+            assertTrue(order.getHeight() >= 0.1 && order.getHeight() <= 108);
+        }
+        assertEquals(15_000, counts[ShippingType.ECONOMY_SAVER.ordinal()], 500);
+        assertEquals(5_000, counts[ShippingType.HYPER_SPEED.ordinal()], 500);
+        assertEquals(0, counts[ShippingType.STORE_PICKUP.ordinal()]);
+        assertEquals(0.75, mix.asMap().get(ShippingType.ECONOMY_SAVER), 1e-9);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
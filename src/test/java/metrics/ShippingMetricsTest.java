@@ -0,0 +1,108 @@
+package metrics;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import services.ShippingService;
+import strategy.InstrumentedShippingStrategy;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para as métricas por tipo de frete e sua publicação via JMX.
+ */
+@DisplayName("Shipping Metrics Tests")
+class ShippingMetricsTest {
+
+    @Test
+    @DisplayName("Deve contar chamadas e erros de cada tipo de frete")
+    void shouldCountCallsAndErrorsPerType() {
+        // Arrange
+        ShippingMetrics metrics = new ShippingMetrics();
+        ShippingStrategyRegistry registry = ShippingStrategyFactory.createInstrumentedRegistry(
+                ShippingStrategyFactory.getRegistry(), metrics);
+        ShippingService service = new ShippingService(registry);
+        Order order = new Order(12.0, 10.0, 5.0, 8.0, null, null);
+        Order invalid = new Order(Double.NaN, 10.0, 5.0, 8.0, null, null);
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            service.calculateShippingCost(ShippingType.HYPER_SPEED, order);
+        }
+        service.calculateShippingCost(ShippingType.ECONOMY_SAVER, order);
+        assertThrows(ArithmeticException.class, () -> service.calculateShippingCost(ShippingType.HYPER_SPEED, invalid));
+
+        // Assert
+        StrategyMetrics hyperSpeed = metrics.get(ShippingType.HYPER_SPEED);
+        assertEquals(11, hyperSpeed.getCallCount());
+        assertEquals(1, hyperSpeed.getErrorCount());
+        assertEquals(11, hyperSpeed.latencySnapshot().getCount());
+        assertEquals(1, metrics.get(ShippingType.ECONOMY_SAVER).getCallCount());
+        assertEquals(0, metrics.get(ShippingType.STORE_PICKUP).getCallCount());
+        assertTrue(metrics.toText().contains("HYPER_SPEED count=11"));
+        assertTrue(metrics.toText().contains("errors=1"));
+    }
+
+    @Test
+    @DisplayName("Deve somar as medições gravadas por várias threads")
+    void shouldMergeRecordingsFromManyThreads() throws InterruptedException {
+        // Arrange
+        StripedLatencyHistogram histogram = new StripedLatencyHistogram(8);
+        List<Thread> threads = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (long micros = 1; micros <= 10_000; micros++) {
+                    histogram.record(micros * 1_000);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        LatencyHistogram snapshot = histogram.snapshot();
+        assertEquals(80_000, snapshot.getCount());
+        assertEquals(5_000_000, snapshot.getValueAtPercentile(50), 5_000_000 * 0.04);
+        assertEquals(10_000_000, snapshot.getMaxNanos());
+        assertEquals(5_000_500, snapshot.getMeanNanos(), 1);
+    }
+
+    @Test
+    @DisplayName("Deve publicar as métricas como MBeans")
+    void shouldExposeMetricsAsMBeans() throws Exception {
+        // Arrange
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ShippingMetrics metrics = new ShippingMetrics();
+        ShippingStrategy strategy = new InstrumentedShippingStrategy(
+                ShippingStrategyFactory.getStrategy(ShippingType.ECONOMY_SAVER), metrics.get(ShippingType.ECONOMY_SAVER));
+
+        // Act
+        metrics.registerMBeans(server);
+        BigDecimal cost = strategy.calculateShippingCost(new Order(5.0, 10.0, 5.0, 8.0, null, null));
+
+        // Assert
+        assertEquals(new BigDecimal("5.00"), cost);
+        assertEquals(1L, server.getAttribute(ShippingMetrics.objectName(ShippingType.ECONOMY_SAVER), "CallCount"));
+        assertEquals(0L, server.getAttribute(ShippingMetrics.objectName(ShippingType.ECONOMY_SAVER), "ErrorCount"));
+        assertThrows(IllegalStateException.class, () -> metrics.registerMBeans(server));
+
+        server.invoke(ShippingMetrics.objectName(ShippingType.ECONOMY_SAVER), "reset", null, null);
+        assertEquals(0, metrics.get(ShippingType.ECONOMY_SAVER).getCallCount());
+
+        metrics.unregisterMBeans(server);
+        assertFalse(server.isRegistered(ShippingMetrics.objectName(ShippingType.ECONOMY_SAVER)));
+    }
+}
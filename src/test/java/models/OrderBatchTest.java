@@ -0,0 +1,59 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o lote de pedidos fora do heap.
+ */
+@DisplayName("Order Batch Tests")
+class OrderBatchTest {
+
+    @Test
+    @DisplayName("Deve guardar medidas e custos em colunas separadas")
+    void shouldStoreColumns() {
+        // Arrange
+        OrderBatch batch = new OrderBatch(3);
+
+        // Act
+        batch.add(12.0, 10.0, 5.0, 8.0);
+        int index = batch.add(new Order(1.5, 2.0, 3.0, 4.0, BigDecimal.TEN, LocalDateTime.now()));
+        batch.setCostMinor(0, 750);
+        batch.setCostMinor(1, 125);
+
+        // Assert
+        assertEquals(1, index);
+        assertEquals(2, batch.size());
+        assertEquals(12.0, batch.weight(0));
+        assertEquals(8.0, batch.length(0));
+        assertEquals(1.5, batch.weight(1));
+        assertEquals(2.0, batch.height(1));
+        assertEquals(3.0, batch.width(1));
+        assertEquals(4.0, batch.length(1));
+        assertEquals(750, batch.costMinor(0));
+        assertEquals(875, batch.totalCostMinor());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar pedidos além da capacidade e permitir reaproveitar o lote")
+    void shouldRejectOverflowAndAllowReuse() {
+        // Arrange
+        OrderBatch batch = new OrderBatch(1);
+        batch.add(1.0, 1.0, 1.0, 1.0);
+
+        // Act & Assert
+        assertTrue(batch.isFull());
+        assertThrows(IllegalStateException.class, () -> batch.add(2.0, 2.0, 2.0, 2.0));
+
+        batch.clear();
+        batch.add(2.0, 2.0, 2.0, 2.0);
+        assertEquals(2.0, batch.weight(0));
+        assertEquals(0, batch.costMinor(0));
+        assertThrows(IllegalArgumentException.class, () -> new OrderBatch(0));
+    }
+}
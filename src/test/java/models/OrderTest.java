@@ -0,0 +1,63 @@
+package models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o modelo de pedido e sua representação primitiva.
+ */
+@DisplayName("Order Tests")
+class OrderTest {
+
+    @Test
+    @DisplayName("Deve expor as medidas do pedido como um pacote primitivo")
+    void shouldExposePrimitiveParcel() {
+        // Arrange
+        Order order = new Order(12.0, 10.0, 5.0, 8.0, BigDecimal.valueOf(120), LocalDateTime.now());
+
+        // Act
+        Parcel parcel = order.getParcel();
+
+        // Assert
+        assertEquals(12.0, parcel.weight());
+        assertEquals(10.0, parcel.height());
+        assertEquals(5.0, parcel.width());
+        assertEquals(8.0, parcel.length());
+        assertEquals(400.0, parcel.volume());
+    }
+
+    @Test
+    @DisplayName("Deve manter os getters originais do pedido")
+    void shouldKeepOriginalGetters() {
+        // Arrange
+        BigDecimal price = BigDecimal.valueOf(99.90);
+        LocalDateTime dateTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+        // Act
+        Order order = new Order(1.5, 2.0, 3.0, 4.0, price, dateTime);
+
+        // Assert
+        assertEquals(1.5, order.getWeight());
+        assertEquals(2.0, order.getHeight());
+        assertEquals(3.0, order.getWidth());
+        assertEquals(4.0, order.getLength());
+        assertSame(price, order.getPrice());
+        assertSame(dateTime, order.getDateTime());
+    }
+
+    @Test
+    @DisplayName("Deve calcular o volume uma única vez na construção")
+    void shouldCacheVolume() {
+        // Arrange
+        ImmutableParcel parcel = new ImmutableParcel(1.0, 20.0, 20.0, 20.0);
+
+        // Act & Assert
+        assertEquals(8000.0, parcel.volume());
+        assertEquals(parcel.height() * parcel.width() * parcel.length(), parcel.volume());
+    }
+}
@@ -0,0 +1,155 @@
+package notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o envio assíncrono de notificações.
+ *
+ * Verifica entrega em lotes, políticas de contrapressão e esvaziamento da fila no fechamento.
+ */
+@DisplayName("Async Notifier Tests")
+class AsyncNotifierTest {
+
+    @Test
+    @DisplayName("Deve entregar todas as mensagens aceitas, em ordem, ao fechar")
+    void shouldDrainAllAcceptedMessagesOnClose() {
+        // Arrange
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(sink, 1000, 10, BackpressurePolicy.BLOCK);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            notifier.send("mensagem " + i);
+        }
+        notifier.close();
+
+        // Assert
+        List<String> messages = sink.getMessages();
+        assertEquals(100, messages.size());
+        assertEquals("mensagem 0", messages.get(0));
+        assertEquals("mensagem 99", messages.get(99));
+        assertEquals(100, notifier.getDeliveredCount());
+        assertTrue(sink.getBatchSizes().stream().allMatch(size -> size <= 10), "Lotes não podem passar do limite");
+    }
+
+    @Test
+    @DisplayName("Deve descartar a mensagem nova quando a fila está cheia")
+    void shouldDropNewestWhenFull() throws InterruptedException {
+        // Arrange - destino bloqueado para a fila encher
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(batch -> {
+            entered.countDown();
+            release.await();
+            sink.deliver(batch);
+        }, 2, 1, BackpressurePolicy.DROP_NEWEST);
+
+        // Act
+        notifier.send("primeira");
+        entered.await(); // a primeira mensagem fica presa no destino
+        notifier.send("segunda");
+        notifier.send("terceira");
+        boolean accepted = notifier.send("quarta");
+        release.countDown();
+        notifier.close();
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(List.of("primeira", "segunda", "terceira"), sink.getMessages());
+        assertEquals(1, notifier.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a mensagem mais antiga quando a fila está cheia")
+    void shouldDropOldestWhenFull() throws InterruptedException {
+        // Arrange
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(batch -> {
+            entered.countDown();
+            release.await();
+            sink.deliver(batch);
+        }, 2, 1, BackpressurePolicy.DROP_OLDEST);
+
+        // Act
+        notifier.send("primeira");
+        entered.await(); // a primeira mensagem fica presa no destino
+        notifier.send("segunda");
+        notifier.send("terceira");
+        boolean accepted = notifier.send("quarta");
+        release.countDown();
+        notifier.close();
+
+        // Assert
+        assertTrue(accepted);
+        assertEquals(List.of("primeira", "terceira", "quarta"), sink.getMessages());
+        assertEquals(1, notifier.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("Deve recusar mensagens após o fechamento")
+    void shouldRejectMessagesAfterClose() {
+        // Arrange
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(sink);
+        notifier.close();
+
+        // Act
+        boolean accepted = notifier.send("tarde demais");
+
+        // Assert
+        assertFalse(accepted);
+        assertTrue(sink.getMessages().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve continuar entregando após falha do destino")
+    void shouldKeepRunningAfterSinkFailure() {
+        // Arrange
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(batch -> {
+            if (batch.contains("falha")) {
+                throw new IllegalStateException("destino indisponível");
+            }
+            sink.deliver(batch);
+        }, 10, 1, BackpressurePolicy.BLOCK);
+
+        // Act
+        notifier.send("falha");
+        notifier.send("sucesso");
+        notifier.close();
+
+        // Assert
+        assertEquals(List.of("sucesso"), sink.getMessages());
+        assertEquals(1, notifier.getFailedCount());
+    }
+
+    @Test
+    @DisplayName("Deve gravar notificações em arquivo local")
+    void shouldWriteNotificationsToFile(@TempDir Path dir) throws Exception {
+        // Arrange
+        Path file = dir.resolve("notificacoes.log");
+
+        // Act
+        try (FileNotificationSink sink = new FileNotificationSink(file)) {
+            AsyncNotifier notifier = new AsyncNotifier(sink);
+            notifier.send("pedido 1 pronto");
+            notifier.send("pedido 2 pronto");
+            notifier.close();
+        }
+
+        // Assert
+        assertEquals(List.of("pedido 1 pronto", "pedido 2 pronto"), Files.readAllLines(file));
+    }
+}
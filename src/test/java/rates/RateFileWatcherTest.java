@@ -0,0 +1,177 @@
+package rates;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.ImmutableParcel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a publicação e recarga das tarifas sem reiniciar a aplicação.
+ */
+@DisplayName("Rate File Watcher Tests")
+class RateFileWatcherTest {
+
+    private static final String PROMOTION_TEXT = """
+            ECONOMY_SAVER  bracket  0   7.00  0.00
+            ECONOMY_SAVER  bracket  20  7.00  1.00
+            HYPER_SPEED    divisor  166
+            HYPER_SPEED    bracket  0   0.00  10.00
+            """;
+    private static final RateTable DEFAULTS = RateTable.defaults();
+    private static final RateTable PROMOTION = parse(PROMOTION_TEXT);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve cotar com a tabela publicada mais recente")
+    void shouldQuoteWithPublishedTable() {
+        // Arrange
+        RateProvider provider = new RateProvider(DEFAULTS);
+        EconomySaverStrategy economy = new EconomySaverStrategy(provider);
+        HyperSpeedStrategy hyperSpeed = new HyperSpeedStrategy(provider);
+        ShippingStrategyRegistry registry = ShippingStrategyFactory.createRegistry(provider);
+        ImmutableParcel parcel = new ImmutableParcel(30.0, 10.0, 10.0, 10.0);
+
+        // Act
+        long economyBefore = economy.calculateShippingCostMinor(parcel);
+        long hyperSpeedBefore = hyperSpeed.calculateShippingCostMinor(parcel);
+        long registryBefore = registry.get(ShippingType.ECONOMY_SAVER).calculateShippingCostMinor(parcel);
+        RateTable previous = provider.publish(PROMOTION);
+
+        // Assert
+        assertSame(DEFAULTS, previous);
+        assertEquals(1500, economyBefore);
+        assertEquals(1500, registryBefore);
+        assertEquals(36000, hyperSpeedBefore);
+        assertEquals(1700, economy.calculateShippingCostMinor(parcel));
+        assertEquals(1700, registry.get(ShippingType.ECONOMY_SAVER).calculateShippingCostMinor(parcel));
+        assertEquals(30000, hyperSpeed.calculateShippingCostMinor(parcel));
+    }
+
+    @Test
+    @DisplayName("Deve carregar o arquivo e recarregá-lo quando ele mudar")
+    void shouldReloadWhenFileChanges() throws Exception {
+        // Arrange
+        Path file = directory.resolve("rates.conf");
+        write(file, defaultsText());
+        RateProvider provider = new RateProvider(PROMOTION);
+
+        try (RateFileWatcher watcher = new RateFileWatcher(file, provider)) {
+            assertEquals(DEFAULTS, provider.current());
+
+            // Act
+            write(file, PROMOTION_TEXT);
+
+            // Assert
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (!provider.current().equals(PROMOTION) && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(PROMOTION, provider.current());
+            assertEquals(1, watcher.getReloadCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a tabela em vigor quando o arquivo novo for inválido ou incompleto")
+    void shouldKeepCurrentTableOnInvalidFile() throws IOException {
+        // Arrange
+        Path file = directory.resolve("rates.conf");
+        write(file, defaultsText());
+        RateProvider provider = new RateProvider(DEFAULTS);
+
+        try (RateFileWatcher watcher = new RateFileWatcher(file, provider)) {
+            Files.writeString(file, "ECONOMY_SAVER  bracket  0  5.00  0.00\n");
+
+            // Act
+            boolean reloaded = watcher.reload();
+            Files.writeString(file, "HYPER_SPEED  divisor  -1\nHYPER_SPEED  bracket  0  0.00  12.00\n");
+            boolean reloadedInvalid = watcher.reload();
+
+            // Assert
+            assertFalse(reloaded);
+            assertFalse(reloadedInvalid);
+            assertEquals(DEFAULTS, provider.current());
+            assertTrue(watcher.getFailureCount() >= 2);
+            assertTrue(watcher.getLastError().getMessage().contains("Divisor"));
+        }
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> provider.publish(parse("ECONOMY_SAVER  bracket  0  5.00  0.00\n")));
+        assertTrue(error.getMessage().contains("ausentes"));
+    }
+
+    @Test
+    @DisplayName("Nunca deve misturar valores de tabelas diferentes em uma cotação")
+    void shouldNeverMixTablesUnderConcurrentReloads() throws InterruptedException {
+        // Arrange
+        RateProvider provider = new RateProvider(DEFAULTS);
+        EconomySaverStrategy economy = new EconomySaverStrategy(provider);
+        ImmutableParcel parcel = new ImmutableParcel(30.0, 1.0, 1.0, 1.0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong unexpected = new AtomicLong();
+
+        Thread[] quoters = new Thread[4];
+        for (int t = 0; t < quoters.length; t++) {
+            quoters[t] = new Thread(() -> {
+                while (running.get()) {
+                    long cost = economy.calculateShippingCostMinor(parcel);
+                    if (cost != 1500 && cost != 1700) {
+                        unexpected.incrementAndGet();
+                    }
+                }
+            });
+            quoters[t].start();
+        }
+
+        // Act
+        for (int i = 0; i < 100_000; i++) {
+            provider.publish(i % 2 == 0 ? PROMOTION : DEFAULTS);
+        }
+        running.set(false);
+        for (Thread quoter : quoters) {
+            quoter.join();
+        }
+
+        // Assert
+        assertEquals(0, unexpected.get());
+    }
+
+    private void write(Path file, String content) throws IOException {
+        // Grava ao lado e move atomicamente, como recomendado para atualizar as tarifas
+        Path temporary = Files.writeString(directory.resolve("rates.tmp"), content);
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static String defaultsText() throws IOException {
+        try (InputStream in = RateTable.class.getResourceAsStream(RateTable.DEFAULT_RESOURCE)) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static RateTable parse(String content) {
+        try {
+            return RateTable.parse(new StringReader(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package rates;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.ImmutableParcel;
+import models.OrderBatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para as tabelas de tarifas carregadas de arquivo.
+ */
+@DisplayName("Rate Table Tests")
+class RateTableTest {
+
+    @Test
+    @DisplayName("Deve reproduzir exatamente as regras originais com a tabela padrão")
+    void shouldMatchHardcodedStrategiesWithDefaultTable() {
+        // Arrange
+        RateTable table = RateTable.defaults();
+        ShippingStrategy economy = new RateTableStrategy(table.get(ShippingType.ECONOMY_SAVER));
+        ShippingStrategy hyperSpeed = new RateTableStrategy(table.get(ShippingType.HYPER_SPEED));
+        SplittableRandom random = new SplittableRandom(11);
+
+        // Act & Assert
+        for (int i = 0; i < 100_000; i++) {
+            ImmutableParcel parcel = new ImmutableParcel(random.nextDouble(0, 80), random.nextDouble(0, 60),
+                    random.nextDouble(0, 60), random.nextDouble(0, 60));
+            assertEquals(new EconomySaverStrategy().calculateShippingCostMinor(parcel), economy.calculateShippingCostMinor(parcel));
+            assertEquals(new HyperSpeedStrategy().calculateShippingCostMinor(parcel), hyperSpeed.calculateShippingCostMinor(parcel));
+        }
+        assertFalse(table.contains(ShippingType.STORE_PICKUP));
+    }
+
+    @Test
+    @DisplayName("Deve escolher a faixa de maior limite abaixo do peso")
+    void shouldSelectBracketByBinarySearch() {
+        // Arrange - 5 faixas, completadas até 8 posições
+        List<RateBracket> brackets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            brackets.add(new RateBracket(i * 10, i, 0));
+        }
+        RateSchedule schedule = RateSchedule.compile(0, brackets);
+
+        // Act & Assert
+        assertEquals(0, schedule.bracketIndex(0));
+        assertEquals(0, schedule.bracketIndex(10));
+        assertEquals(1, schedule.bracketIndex(10.5));
+        assertEquals(3, schedule.bracketIndex(40));
+        assertEquals(4, schedule.bracketIndex(40.01));
+        assertEquals(4, schedule.bracketIndex(1e9));
+        assertEquals(5, schedule.getBracketCount());
+        assertEquals(new RateBracket(20, 2, 0), schedule.getBracket(2));
+    }
+
+    @Test
+    @DisplayName("Deve cotar lotes e registros a partir da tabela")
+    void shouldBuildRegistryAndPriceBatches() throws IOException {
+        // Arrange
+        RateTable table = RateTable.parse(new StringReader("""
+                # tarifa promocional
+                economy_saver bracket 0 4.00 0.00
+                ECONOMY_SAVER bracket 5 4.00 0.25   # acima de 5 lb
+                """));
+        ShippingStrategyRegistry registry = ShippingStrategyFactory.createRegistry(table);
+        OrderBatch batch = new OrderBatch(2);
+        batch.add(3.0, 1.0, 1.0, 1.0);
+        batch.add(15.0, 1.0, 1.0, 1.0);
+
+        // Act
+        registry.get(ShippingType.ECONOMY_SAVER).calculateShippingCostsMinor(batch);
+
+        // Assert
+        assertEquals(400, batch.costMinor(0));
+        assertEquals(650, batch.costMinor(1));
+        assertInstanceOf(RateTableStrategy.class, registry.get(ShippingType.ECONOMY_SAVER));
+        assertSame(ShippingStrategyFactory.getStrategy(ShippingType.HYPER_SPEED), registry.get(ShippingType.HYPER_SPEED));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tabelas inválidas indicando a linha")
+    void shouldRejectInvalidTables() {
+        assertInvalid("ECONOMY_SAVER bracket 0 5.00", "Linha 1");
+        assertInvalid("OVERNIGHT bracket 0 5.00 0.50", "Linha 1");
+        assertInvalid("\nECONOMY_SAVER bracket 0 abc 0.50", "Linha 2");
+        assertInvalid("ECONOMY_SAVER bracket 0 -1 0.50", "Linha 1");
+        assertInvalid("ECONOMY_SAVER bracket 5 5.00 0.50", "começar em zero");
+        assertInvalid("ECONOMY_SAVER bracket 0 5 0\nECONOMY_SAVER bracket 10 5 1\nECONOMY_SAVER bracket 10 5 2", "crescentes");
+        assertInvalid("HYPER_SPEED divisor 139", "sem faixas");
+    }
+
+    private static void assertInvalid(String content, String expectedMessage) {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> RateTable.parse(new StringReader(content)));
+        assertTrue(error.getMessage().contains(expectedMessage), error.getMessage());
+    }
+}
@@ -0,0 +1,163 @@
+package server;
+
+import factory.ShippingStrategyFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import services.ShippingService;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o servidor HTTP de cotações.
+ *
+ * Sobe o servidor em uma porta livre e faz requisições reais com o {@link HttpClient} da JDK.
+ */
+@DisplayName("Quote HTTP Server Tests")
+class QuoteHttpServerTest {
+
+    private QuoteHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry());
+        server = new QuoteHttpServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), service, 1024);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Deve cotar um único pedido")
+    void shouldQuoteSingleOrder() throws Exception {
+        // Act
+        HttpResponse<String> response = post("/quote",
+            "{\"shippingType\":\"ECONOMY_SAVER\",\"weight\":15,\"height\":12,\"width\":12,\"length\":12,"
+                + "\"price\":100.00,\"dateTime\":\"2025-01-01T10:00:00\"}");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("{\"shippingType\":\"ECONOMY_SAVER\",\"cost\":7.50}", response.body());
+    }
+
+    @Test
+    @DisplayName("Deve cotar um lote de pedidos preservando a ordem")
+    void shouldQuoteBatchInOrder() throws Exception {
+        // Act
+        HttpResponse<String> response = post("/quotes", "["
+            + "{\"shippingType\":\"HYPER_SPEED\",\"weight\":10,\"height\":5,\"width\":5,\"length\":5},"
+            + "{\"shippingType\":\"ECONOMY_SAVER\",\"weight\":5,\"height\":5,\"width\":5,\"length\":5}"
+            + "]");
+
+        // Assert
+        assertEquals(200, response.statusCode());
+        assertEquals("[{\"shippingType\":\"HYPER_SPEED\",\"cost\":120.00},"
+            + "{\"shippingType\":\"ECONOMY_SAVER\",\"cost\":5.00}]", response.body());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 para JSON inválido ou campos ausentes")
+    void shouldRejectInvalidPayload() throws Exception {
+        assertEquals(400, post("/quote", "{\"shippingType\":").statusCode());
+        assertEquals(400, post("/quote", "{\"shippingType\":\"ECONOMY_SAVER\",\"weight\":1}").statusCode());
+        assertEquals(400, post("/quote",
+            "{\"shippingType\":\"TELEPORT\",\"weight\":1,\"height\":1,\"width\":1,\"length\":1}").statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 para medidas fora da faixa do double")
+    void shouldRejectNonFiniteMeasurements() throws Exception {
+        assertEquals(400, post("/quote",
+            "{\"shippingType\":\"ECONOMY_SAVER\",\"weight\":1e400,\"height\":1,\"width\":1,\"length\":1}").statusCode());
+        assertEquals(400, post("/quotes",
+            "[{\"shippingType\":\"HYPER_SPEED\",\"weight\":1,\"height\":1,\"width\":-1e400,\"length\":1}]").statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 para medidas negativas")
+    void shouldRejectNegativeMeasurements() throws Exception {
+        assertEquals(400, post("/quote",
+            "{\"shippingType\":\"HYPER_SPEED\",\"weight\":1,\"height\":-10,\"width\":1,\"length\":1}").statusCode());
+        assertEquals(400, post("/quote",
+            "{\"shippingType\":\"ECONOMY_SAVER\",\"weight\":-2,\"height\":1,\"width\":1,\"length\":1}").statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 para JSON aninhado além do limite")
+    void shouldRejectDeeplyNestedPayload() throws Exception {
+        // Arrange
+        int depth = JsonReader.MAX_DEPTH + 1;
+
+        // Act
+        HttpResponse<String> response = post("/quotes", "[".repeat(depth) + "]".repeat(depth));
+
+        // Assert
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("Aninhamento"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse("[".repeat(100_000)));
+    }
+
+    @Test
+    @DisplayName("Deve responder 413 para requisições acima do limite")
+    void shouldRejectOversizedRequest() throws Exception {
+        // Act
+        HttpResponse<String> response = post("/quotes", "[" + "0,".repeat(600) + "0]");
+
+        // Assert
+        assertEquals(413, response.statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve responder 405 para método não suportado")
+    void shouldRejectWrongMethod() throws Exception {
+        // Act
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(uri("/quote")).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(405, response.statusCode());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a latência de cada rota")
+    void shouldRecordLatencyPerRoute() throws Exception {
+        // Act
+        post("/quote", "{\"shippingType\":\"HYPER_SPEED\",\"weight\":1,\"height\":1,\"width\":1,\"length\":1}");
+        post("/quote", "{\"shippingType\":\"HYPER_SPEED\",\"weight\":2,\"height\":1,\"width\":1,\"length\":1}");
+        HttpResponse<String> metrics = client.send(
+            HttpRequest.newBuilder(uri("/metrics")).GET().build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        // Assert
+        assertEquals(2, server.getLatency("/quote").getCount());
+        assertEquals(0, server.getLatency("/quotes").getCount());
+        assertTrue(metrics.body().contains("/quote count=2"));
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .header("Content-Type", "application/json")
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
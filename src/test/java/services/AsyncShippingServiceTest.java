@@ -0,0 +1,141 @@
+package services;
+
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.ShippingStrategy;
+import strategy.ShippingType;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a fachada assíncrona de cotação com fila limitada.
+ */
+@DisplayName("Async Shipping Service Tests")
+class AsyncShippingServiceTest {
+
+    private static final Order ORDER = new Order(12.0, 10.0, 5.0, 8.0, null, null);
+
+    @Test
+    @DisplayName("Deve calcular as cotações de forma assíncrona")
+    void shouldQuoteAsynchronously() throws Exception {
+        // Arrange
+        try (AsyncShippingService service = new AsyncShippingService(new ShippingService(ShippingStrategyFactory.getRegistry()))) {
+
+            // Act
+            CompletableFuture<BigDecimal> single = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, ORDER);
+            CompletableFuture<List<BigDecimal>> batch = service.calculateShippingCostsAsync(
+                    ShippingType.ECONOMY_SAVER, List.of(ORDER, ORDER));
+            CompletableFuture<ShippingQuotes> all = service.quoteAllOptionsAsync(ORDER);
+
+            // Assert
+            assertEquals(new BigDecimal("144.00"), single.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(new BigDecimal("6.00"), new BigDecimal("6.00")), batch.get(5, TimeUnit.SECONDS));
+            assertNotNull(all.get(5, TimeUnit.SECONDS));
+            assertEquals(3, service.getSubmittedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recusar na hora quando a fila estiver cheia")
+    void shouldRejectImmediatelyWhenQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncQuoteConfig config = AsyncQuoteConfig.builder().threadCount(1).queueCapacity(1).build();
+        try (AsyncShippingService service = new AsyncShippingService(blockingService(release), config)) {
+
+            // Act
+            CompletableFuture<BigDecimal> running = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, ORDER);
+            CompletableFuture<BigDecimal> queued = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, ORDER);
+            awaitQueueSize(service, 1);
+            CompletableFuture<BigDecimal> rejected = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, ORDER);
+
+            // Assert
+            assertTrue(rejected.isCompletedExceptionally());
+            ExecutionException failure = assertThrows(ExecutionException.class, rejected::get);
+            assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+            assertEquals(1, service.getRejectedCount());
+
+            release.countDown();
+            assertEquals(BigDecimal.ONE, running.get(5, TimeUnit.SECONDS));
+            assertEquals(BigDecimal.ONE, queued.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar cotações que esperaram demais na fila")
+    void shouldShedQuotesThatWaitedTooLong() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AsyncQuoteConfig config = AsyncQuoteConfig.builder()
+                .threadCount(1)
+                .queueCapacity(4)
+                .maxQueueTime(Duration.ofMillis(20))
+                .build();
+        try (AsyncShippingService service = new AsyncShippingService(blockingService(release), config)) {
+
+            // Act
+            CompletableFuture<BigDecimal> running = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, ORDER);
+            CompletableFuture<BigDecimal> stale = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, ORDER);
+            Thread.sleep(50);
+            release.countDown();
+
+            // Assert
+            assertEquals(BigDecimal.ONE, running.get(5, TimeUnit.SECONDS));
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> stale.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(RejectedExecutionException.class, failure.getCause());
+            assertEquals(1, service.getShedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve repassar a falha da estratégia no futuro")
+    void shouldPropagateStrategyFailure() {
+        // Arrange
+        try (AsyncShippingService service = new AsyncShippingService(new ShippingService(ShippingStrategyFactory.getRegistry()))) {
+            Order invalid = new Order(Double.NaN, 10.0, 5.0, 8.0, null, null);
+
+            // Act
+            CompletableFuture<BigDecimal> future = service.calculateShippingCostAsync(ShippingType.HYPER_SPEED, invalid);
+
+            // Assert
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(ArithmeticException.class, failure.getCause());
+        }
+    }
+
+    private static ShippingService blockingService(CountDownLatch release) {
+        ShippingStrategy blocking = order -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return BigDecimal.ONE;
+        };
+        EnumMap<ShippingType, ShippingStrategy> strategies = new EnumMap<>(ShippingType.class);
+        for (ShippingType type : ShippingType.values()) {
+            strategies.put(type, blocking);
+        }
+        return new ShippingService(ShippingStrategyRegistry.of(strategies));
+    }
+
+    private static void awaitQueueSize(AsyncShippingService service, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getQueueSize() != size && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
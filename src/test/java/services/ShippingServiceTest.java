@@ -1,16 +1,32 @@
 package services;
 
+import factory.ShippingStrategyFactory;
+import factory.ShippingStrategyRegistry;
+import models.GeoPoint;
 import models.Order;
+import notification.AsyncNotifier;
+import notification.InMemoryNotificationSink;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import rates.RateProvider;
+import stores.StoreIndex;
 import strategy.EconomySaverStrategy;
 import strategy.HyperSpeedStrategy;
 import strategy.ShippingStrategy;
+import strategy.ShippingType;
 import strategy.StorePickupStrategy;
+import zones.ZonePricing;
+import zones.ZoneResolver;
 
+import java.io.IOException;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -48,7 +64,7 @@ class ShippingServiceTest {
 
         // Assert
         // EconomySaver: $5.00 + (15 - 10) * $0.50 = $7.50
-        assertEquals(BigDecimal.valueOf(7.50), cost);
+        assertEquals(new BigDecimal("7.50"), cost);
     }
 
     @Test
@@ -63,7 +79,7 @@ class ShippingServiceTest {
 
         // Assert
         // HyperSpeed: $12.00 * peso (peso real > volumétrico)
-        assertEquals(BigDecimal.valueOf(180.00), cost);
+        assertEquals(new BigDecimal("180.00"), cost);
     }
 
     @Test
@@ -77,7 +93,7 @@ class ShippingServiceTest {
         BigDecimal cost = service.calculateShippingCost(testOrder);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, cost);
+        assertEquals(new BigDecimal("0.00"), cost);
     }
 
     @Test
@@ -89,7 +105,7 @@ class ShippingServiceTest {
 
         // Act & Assert - Primeira estratégia
         BigDecimal economyCost = service.calculateShippingCost(testOrder);
-        assertEquals(BigDecimal.valueOf(7.50), economyCost);
+        assertEquals(new BigDecimal("7.50"), economyCost);
 
         // Troca de estratégia (simulando nova instância do serviço)
         ShippingStrategy hyperStrategy = new HyperSpeedStrategy();
@@ -97,7 +113,7 @@ class ShippingServiceTest {
 
         // Act & Assert - Segunda estratégia
         BigDecimal hyperCost = service.calculateShippingCost(testOrder);
-        assertEquals(BigDecimal.valueOf(180.00), hyperCost);
+        assertEquals(new BigDecimal("180.00"), hyperCost);
     }
 
     @Test
@@ -124,8 +140,8 @@ class ShippingServiceTest {
         BigDecimal heavyCost = service.calculateShippingCost(heavyOrder);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), lightCost);  // $5.00 (sem adicional)
-        assertEquals(BigDecimal.valueOf(15.00), heavyCost); // $5.00 + (30-10)*$0.50 = $15.00
+        assertEquals(new BigDecimal("5.00"), lightCost);  // $5.00 (sem adicional)
+        assertEquals(new BigDecimal("15.00"), heavyCost); // $5.00 + (30-10)*$0.50 = $15.00
         assertTrue(heavyCost.compareTo(lightCost) > 0);
     }
 
@@ -153,8 +169,8 @@ class ShippingServiceTest {
         BigDecimal hugeCost = service.calculateShippingCost(hugeOrder);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), tinyCost);     // $5.00 (base)
-        assertEquals(BigDecimal.valueOf(500.00), hugeCost);   // $5.00 + (1000-10)*$0.50 = $500.00
+        assertEquals(new BigDecimal("5.00"), tinyCost);     // $5.00 (base)
+        assertEquals(new BigDecimal("500.00"), hugeCost);   // $5.00 + (1000-10)*$0.50 = $500.00
     }
 
     @Test
@@ -172,7 +188,205 @@ class ShippingServiceTest {
         // Assert - Todos devem ser iguais
         assertEquals(cost1, cost2);
         assertEquals(cost2, cost3);
-        assertEquals(BigDecimal.valueOf(180.00), cost1);
+        assertEquals(new BigDecimal("180.00"), cost1);
     }
-}
 
+    @Test
+    @DisplayName("Deve calcular lote sequencial preservando a ordem dos pedidos")
+    void shouldCalculateSmallBatchInOrder() {
+        // Arrange
+        ShippingService service = new ShippingService(new EconomySaverStrategy());
+        List<Order> orders = List.of(
+            new Order(5.0, 10.0, 10.0, 10.0, BigDecimal.valueOf(50.00), LocalDateTime.now()),
+            testOrder,
+            new Order(30.0, 20.0, 20.0, 20.0, BigDecimal.valueOf(300.00), LocalDateTime.now())
+        );
+
+        // Act
+        List<BigDecimal> costs = service.calculateShippingCosts(orders);
+
+        // Assert
+        assertEquals(3, costs.size());
+        assertEquals(new BigDecimal("5.00"), costs.get(0));
+        assertEquals(new BigDecimal("7.50"), costs.get(1));
+        assertEquals(new BigDecimal("15.00"), costs.get(2));
+    }
+
+    @Test
+    @DisplayName("Deve dividir lotes grandes no ForkJoinPool mantendo a ordem de entrada")
+    void shouldCalculateLargeBatchInParallelInOrder() {
+        // Arrange - limite baixo para forçar a divisão em várias sub-tarefas
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ShippingService service = new ShippingService(new EconomySaverStrategy(), pool, 8);
+
+        Order[] orders = new Order[1000];
+        for (int i = 0; i < orders.length; i++) {
+            orders[i] = new Order((double) i, 10.0, 10.0, 10.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+        }
+
+        // Act
+        BigDecimal[] costs = service.calculateShippingCosts(orders);
+        pool.shutdown();
+
+        // Assert
+        assertEquals(orders.length, costs.length);
+        for (int i = 0; i < orders.length; i++) {
+            assertEquals(service.calculateShippingCost(orders[i]), costs[i], "Pedido na posição " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia para lote vazio")
+    void shouldReturnEmptyResultForEmptyBatch() {
+        // Arrange
+        ShippingService service = new ShippingService(new HyperSpeedStrategy());
+
+        // Act
+        List<BigDecimal> costs = service.calculateShippingCosts(new ArrayList<>());
+
+        // Assert
+        assertTrue(costs.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite sequencial não positivo")
+    void shouldRejectNonPositiveThreshold() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new ShippingService(new EconomySaverStrategy(), ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    @DisplayName("Deve despachar o cálculo pelo tipo de frete usando uma única instância do serviço")
+    void shouldDispatchByShippingType() {
+        // Arrange
+        ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry());
+
+        // Act
+        BigDecimal economyCost = service.calculateShippingCost(ShippingType.ECONOMY_SAVER, testOrder);
+        BigDecimal hyperCost = service.calculateShippingCost(ShippingType.HYPER_SPEED, testOrder);
+        BigDecimal[] batch = service.calculateShippingCosts(ShippingType.ECONOMY_SAVER, new Order[]{testOrder});
+
+        // Assert
+        assertEquals(new BigDecimal("7.50"), economyCost);
+        assertEquals(new BigDecimal("180.00"), hyperCost);
+        assertEquals(new BigDecimal("7.50"), batch[0]);
+    }
+
+    @Test
+    @DisplayName("Deve exigir o tipo de frete quando não há estratégia padrão")
+    void shouldRequireShippingTypeWithoutDefaultStrategy() {
+        // Arrange
+        ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> service.calculateShippingCost(testOrder));
+    }
+
+    @Test
+    @DisplayName("Deve cotar todas as opções de frete em uma única chamada")
+    void shouldQuoteAllOptions() {
+        // Arrange
+        ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry());
+
+        // Act
+        ShippingQuotes quotes = service.quoteAllOptions(testOrder);
+
+        // Assert
+        assertEquals(new BigDecimal("7.50"), quotes.getCost(ShippingType.ECONOMY_SAVER));
+        assertEquals(new BigDecimal("180.00"), quotes.getCost(ShippingType.HYPER_SPEED));
+        assertEquals(0, quotes.getCostMinor(ShippingType.STORE_PICKUP));
+        assertEquals(ShippingType.STORE_PICKUP, quotes.getCheapest());
+        assertEquals(ShippingType.values().length, quotes.asMap().size());
+    }
+
+    @Test
+    @DisplayName("Deve marcar a retirada como indisponível sem perder as demais opções")
+    void shouldQuoteAllOptionsWhenPickupIsUnavailable() throws IOException {
+        // Arrange
+        AsyncNotifier notifier = new AsyncNotifier(new InMemoryNotificationSink());
+        StoreIndex stores = StoreIndex.parse(new StringReader("SP-PAULISTA,Loja Paulista,-23.5614,-46.6559,30\n"));
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.STORE_PICKUP, new StorePickupStrategy(notifier, stores, 1));
+        ShippingService service = new ShippingService(ShippingStrategyRegistry.of(strategies));
+        Order heavy = new Order(40.0, 10.0, 10.0, 10.0, BigDecimal.TEN, LocalDateTime.now(),
+                null, null, new GeoPoint(-23.55, -46.65));
+
+        // Act
+        ShippingQuotes sequential = service.quoteAllOptions(heavy);
+        ShippingQuotes parallel = service.quoteAllOptions(heavy, true);
+        notifier.close();
+
+        // Assert
+        assertFalse(sequential.isAvailable(ShippingType.STORE_PICKUP));
+        assertNull(sequential.getCost(ShippingType.STORE_PICKUP));
+        assertEquals(ShippingQuotes.UNAVAILABLE, sequential.getCostMinor(ShippingType.STORE_PICKUP));
+        assertEquals(new BigDecimal("20.00"), sequential.getCost(ShippingType.ECONOMY_SAVER));
+        assertEquals(ShippingType.ECONOMY_SAVER, sequential.getCheapest());
+        assertEquals(2, sequential.asMap().size());
+        assertEquals(sequential.asMap(), parallel.asMap());
+    }
+
+    @Test
+    @DisplayName("Deve cotar todas as opções sem avisar o cliente da retirada")
+    void shouldNotNotifyPickupWhenQuotingAllOptions() {
+        // Arrange
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(sink);
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.STORE_PICKUP, new StorePickupStrategy(notifier));
+        ShippingService service = new ShippingService(ShippingStrategyRegistry.of(strategies));
+
+        // Act
+        service.quoteAllOptions(testOrder);
+        service.quoteAllOptions(testOrder, true);
+        service.calculateShippingCost(ShippingType.STORE_PICKUP, testOrder);
+        notifier.close(); // aguarda a entrega das notificações pendentes
+
+        // Assert
+        assertEquals(1, sink.getMessages().size());
+    }
+
+    @Test
+    @DisplayName("Deve produzir a mesma cotação com avaliação paralela")
+    void shouldQuoteAllOptionsInParallel() {
+        // Arrange
+        ShippingService service = new ShippingService(ShippingStrategyFactory.getRegistry());
+        Order bulky = new Order(1.0, 20.0, 20.0, 20.0, BigDecimal.valueOf(50.00), LocalDateTime.now());
+
+        // Act
+        ShippingQuotes sequential = service.quoteAllOptions(bulky);
+        ShippingQuotes parallel = service.quoteAllOptions(bulky, true);
+
+        // Assert
+        assertEquals(sequential.asMap(), parallel.asMap());
+        assertEquals(new BigDecimal("690.65"), parallel.getCost(ShippingType.HYPER_SPEED));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as zonas por CEP ao cotar todas as opções")
+    void shouldQuoteAllOptionsWithZones() throws IOException {
+        // Arrange
+        ZoneResolver resolver = ZoneResolver.parse(new StringReader("""
+                01000-000,05999-999,20000-000,28999-999,2
+                """));
+        EnumMap<ShippingType, ShippingStrategy> strategies = ShippingStrategyFactory.getRegistry().asMap();
+        strategies.put(ShippingType.ECONOMY_SAVER,
+                new EconomySaverStrategy(RateProvider.shared(), new ZonePricing(resolver, 1.0, 1.2, 1.5)));
+        strategies.put(ShippingType.HYPER_SPEED,
+                new HyperSpeedStrategy(RateProvider.shared(), new ZonePricing(resolver, 1.0, 1.1, 1.3)));
+        ShippingService service = new ShippingService(ShippingStrategyRegistry.of(strategies));
+        Order interstate = new Order(15.0, 10.0, 10.0, 10.0, BigDecimal.TEN, LocalDateTime.now(), "01310-100", "20040-020");
+
+        // Act
+        ShippingQuotes sequential = service.quoteAllOptions(interstate);
+        ShippingQuotes parallel = service.quoteAllOptions(interstate, true);
+
+        // Assert
+        for (ShippingType type : ShippingType.values()) {
+            assertEquals(sequential.getCost(type), service.calculateShippingCost(type, interstate));
+        }
+        assertEquals(new BigDecimal("11.25"), sequential.getCost(ShippingType.ECONOMY_SAVER));
+        assertEquals(new BigDecimal("234.00"), sequential.getCost(ShippingType.HYPER_SPEED));
+        assertEquals(sequential.asMap(), parallel.asMap());
+    }
+}
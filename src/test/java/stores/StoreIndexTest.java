@@ -0,0 +1,163 @@
+package stores;
+
+import models.GeoPoint;
+import models.Order;
+import notification.AsyncNotifier;
+import notification.InMemoryNotificationSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.ShippingUnavailableException;
+import strategy.StorePickupStrategy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a busca das lojas de retirada mais próximas.
+ */
+@DisplayName("Store Index Tests")
+class StoreIndexTest {
+
+    private static final String STORES = """
+            id,name,latitude,longitude,maxWeight
+            # São Paulo
+            SP-PAULISTA,Loja Paulista,-23.5614,-46.6559,30
+            SP-PINHEIROS,Loja Pinheiros,-23.5672,-46.6919,
+            # Rio de Janeiro
+            RJ-CENTRO,Loja Centro,-22.9035,-43.1780,50
+            """;
+
+    private static final GeoPoint CONSOLACAO = new GeoPoint(-23.5535, -46.6590);
+
+    @Test
+    @DisplayName("Deve retornar as lojas mais próximas em ordem de distância")
+    void shouldReturnNearestStoresByDistance() throws IOException {
+        // Arrange
+        StoreIndex index = StoreIndex.parse(new StringReader(STORES));
+
+        // Act
+        List<StoreMatch> matches = index.nearest(CONSOLACAO, 2);
+
+        // Assert
+        assertEquals(3, index.size());
+        assertEquals(List.of("SP-PAULISTA", "SP-PINHEIROS"), matches.stream().map(match -> match.store().id()).toList());
+        assertEquals(0.95, matches.get(0).distanceKm(), 0.05);
+        assertTrue(matches.get(0).distanceKm() < matches.get(1).distanceKm());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar lojas que não aceitam o peso do pacote")
+    void shouldSkipStoresThatDoNotAcceptParcelWeight() throws IOException {
+        // Arrange
+        StoreIndex index = StoreIndex.parse(new StringReader(STORES));
+
+        // Act
+        List<StoreMatch> heavy = index.nearest(CONSOLACAO, 3, 40.0);
+        List<StoreMatch> tooHeavy = index.nearest(CONSOLACAO, 3, Double.MAX_VALUE);
+        List<StoreMatch> rio = index.nearest(CONSOLACAO, 3, store -> store.id().startsWith("RJ"));
+
+        // Assert
+        assertEquals(List.of("SP-PINHEIROS", "RJ-CENTRO"), heavy.stream().map(match -> match.store().id()).toList());
+        assertEquals(List.of("SP-PINHEIROS"), tooHeavy.stream().map(match -> match.store().id()).toList());
+        assertEquals(List.of("RJ-CENTRO"), rio.stream().map(match -> match.store().id()).toList());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar as mesmas lojas que uma busca exaustiva")
+    void shouldMatchBruteForceSearch() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(17);
+        List<Store> stores = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            GeoPoint location = new GeoPoint(random.nextDouble(-90, 90), random.nextDouble(-180, 180));
+            stores.add(new Store("S" + i, "Loja " + i, location, random.nextDouble(0, 100)));
+        }
+        StoreIndex index = StoreIndex.of(stores);
+
+        for (int query = 0; query < 200; query++) {
+            GeoPoint point = new GeoPoint(random.nextDouble(-90, 90), random.nextDouble(-180, 180));
+            double weight = random.nextDouble(0, 100);
+
+            // Act
+            List<StoreMatch> matches = index.nearest(point, 5, weight);
+
+            // Assert
+            List<Store> expected = stores.stream()
+                    .filter(store -> store.accepts(weight))
+                    .sorted(Comparator.comparingDouble(store -> haversineKm(point, store.location())))
+                    .limit(5)
+                    .toList();
+            assertEquals(expected, matches.stream().map(StoreMatch::store).toList());
+            for (int i = 0; i < matches.size(); i++) {
+                assertEquals(haversineKm(point, expected.get(i).location()), matches.get(i).distanceKm(), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve indicar a loja mais próxima na notificação de retirada")
+    void shouldNotifyNearestStoreOnPickup() throws IOException {
+        // Arrange
+        InMemoryNotificationSink sink = new InMemoryNotificationSink();
+        AsyncNotifier notifier = new AsyncNotifier(sink);
+        StorePickupStrategy strategy = new StorePickupStrategy(notifier, StoreIndex.parse(new StringReader(STORES)), 2);
+        Order order = new Order(10.0, 15.0, 15.0, 15.0, BigDecimal.valueOf(100.00), LocalDateTime.now(),
+                null, null, CONSOLACAO);
+        Order heavyOrder = new Order(Double.MAX_VALUE, 15.0, 15.0, 15.0, BigDecimal.valueOf(100.00), LocalDateTime.now(),
+                null, null, new GeoPoint(-22.9, -43.2));
+        Order unlocated = new Order(10.0, 15.0, 15.0, 15.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+
+        // Act
+        BigDecimal cost = strategy.calculateShippingCost(order);
+        List<StoreMatch> nearest = strategy.nearestStores(order);
+        notifier.close();
+
+        // Assert
+        assertEquals(new BigDecimal("0.00"), cost);
+        assertEquals(2, nearest.size());
+        assertTrue(sink.getMessages().get(0).contains("Loja Paulista"));
+        assertEquals(List.of(), strategy.nearestStores(unlocated));
+        assertEquals("SP-PINHEIROS", strategy.nearestStores(heavyOrder).get(0).store().id());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a retirada sem localização quando nenhuma loja aceitar o peso")
+    void shouldRejectPickupWithoutLocationWhenNoStoreAcceptsWeight() throws IOException {
+        // Arrange
+        AsyncNotifier notifier = new AsyncNotifier(new InMemoryNotificationSink());
+        StoreIndex index = StoreIndex.parse(new StringReader("""
+                SP-PAULISTA,Loja Paulista,-23.5614,-46.6559,30
+                RJ-CENTRO,Loja Centro,-22.9035,-43.1780,50
+                """));
+        StorePickupStrategy strategy = new StorePickupStrategy(notifier, index, 2);
+        Order heavy = new Order(60.0, 15.0, 15.0, 15.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+        Order light = new Order(40.0, 15.0, 15.0, 15.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+
+        // Act & Assert
+        assertThrows(ShippingUnavailableException.class, () -> strategy.calculateShippingCostMinor(heavy.getParcel()));
+        assertThrows(ShippingUnavailableException.class, () -> strategy.calculateShippingCostMinor(heavy));
+        assertThrows(ShippingUnavailableException.class, () -> strategy.calculateShippingCostMinor(new Order(
+                60.0, 15.0, 15.0, 15.0, BigDecimal.valueOf(100.00), LocalDateTime.now(), null, null, CONSOLACAO)));
+        assertEquals(0, strategy.calculateShippingCostMinor(light.getParcel()));
+        assertEquals(0, strategy.calculateShippingCostMinor(light));
+        assertTrue(index.anyAccepts(50.0));
+        assertFalse(index.anyAccepts(50.5));
+        notifier.close();
+    }
+
+    private static double haversineKm(GeoPoint a, GeoPoint b) {
+        double dLatitude = Math.toRadians(b.latitude() - a.latitude());
+        double dLongitude = Math.toRadians(b.longitude() - a.longitude());
+        double h = Math.pow(Math.sin(dLatitude / 2), 2)
+                + Math.cos(Math.toRadians(a.latitude())) * Math.cos(Math.toRadians(b.latitude())) * Math.pow(Math.sin(dLongitude / 2), 2);
+        return 2 * StoreIndex.EARTH_RADIUS_KM * Math.asin(Math.sqrt(h));
+    }
+}
@@ -0,0 +1,105 @@
+package strategy;
+
+import cache.QuoteCache;
+import cache.QuoteCacheConfig;
+import models.Order;
+import rates.RateProvider;
+import rates.RateTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o decorador de cache de estratégias.
+ */
+@DisplayName("Caching Shipping Strategy Tests")
+class CachingShippingStrategyTest {
+
+    private AtomicInteger calls;
+    private CachingShippingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        calls = new AtomicInteger();
+        HyperSpeedStrategy hyperSpeed = new HyperSpeedStrategy();
+        ShippingStrategy counting = order -> {
+            calls.incrementAndGet();
+            return hyperSpeed.calculateShippingCost(order);
+        };
+        strategy = new CachingShippingStrategy(
+            ShippingType.HYPER_SPEED,
+            counting,
+            new QuoteCache(QuoteCacheConfig.builder().maximumSize(100).build())
+        );
+    }
+
+    @Test
+    @DisplayName("Deve calcular apenas uma vez para pedidos com as mesmas medidas")
+    void shouldCalculateOnceForRepeatedParcels() {
+        // Arrange
+        Order first = new Order(10.0, 5.0, 5.0, 5.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+        Order second = new Order(10.0, 5.0, 5.0, 5.0, BigDecimal.valueOf(250.00), LocalDateTime.now());
+
+        // Act
+        BigDecimal cost1 = strategy.calculateShippingCost(first);
+        BigDecimal cost2 = strategy.calculateShippingCost(second);
+
+        // Assert
+        assertEquals(new BigDecimal("120.00"), cost1);
+        assertEquals(cost1, cost2);
+        assertEquals(1, calls.get());
+        assertEquals(1, strategy.getCache().stats().hits());
+    }
+
+    @Test
+    @DisplayName("Deve calcular novamente para medidas diferentes")
+    void shouldCalculateAgainForDifferentParcels() {
+        // Arrange
+        Order light = new Order(10.0, 5.0, 5.0, 5.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+        Order heavy = new Order(20.0, 5.0, 5.0, 5.0, BigDecimal.valueOf(100.00), LocalDateTime.now());
+
+        // Act
+        BigDecimal lightCost = strategy.calculateShippingCost(light);
+        BigDecimal heavyCost = strategy.calculateShippingCost(heavy);
+
+        // Assert
+        assertEquals(new BigDecimal("120.00"), lightCost);
+        assertEquals(new BigDecimal("240.00"), heavyCost);
+        assertEquals(2, calls.get());
+        assertEquals(2, strategy.getCache().stats().misses());
+    }
+
+    @Test
+    @DisplayName("Deve cotar com a tabela nova depois de uma recarga das tarifas")
+    void shouldNotServeCachedCostsAfterRateReload() throws IOException {
+        // Arrange
+        RateProvider provider = new RateProvider(RateTable.defaults());
+        CachingShippingStrategy economy = new CachingShippingStrategy(ShippingType.ECONOMY_SAVER,
+            new EconomySaverStrategy(provider), new QuoteCache(QuoteCacheConfig.builder().build()), provider);
+        Order order = new Order(15.0, 10.0, 10.0, 10.0, null, null);
+        RateTable promotion = RateTable.parse(new StringReader("""
+            ECONOMY_SAVER  bracket  0   3.00  0.00
+            HYPER_SPEED    divisor  139
+            HYPER_SPEED    bracket  0   0.00  12.00
+            """));
+
+        // Act
+        BigDecimal before = economy.calculateShippingCost(order);
+        economy.calculateShippingCost(order);
+        provider.publish(promotion);
+        BigDecimal after = economy.calculateShippingCost(order);
+
+        // Assert
+        assertEquals(new BigDecimal("7.50"), before);
+        assertEquals(new BigDecimal("3.00"), after);
+        assertEquals(1, economy.getCache().stats().hits());
+    }
+}
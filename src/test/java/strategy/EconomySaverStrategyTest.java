@@ -1,6 +1,8 @@
 package strategy;
 
+import models.ImmutableParcel;
 import models.Order;
+import models.OrderBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -44,7 +46,7 @@ class EconomySaverStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(order);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), cost);
+        assertEquals(new BigDecimal("5.00"), cost);
     }
 
     @Test
@@ -64,7 +66,7 @@ class EconomySaverStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(order);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), cost);
+        assertEquals(new BigDecimal("5.00"), cost);
     }
 
     @Test
@@ -85,7 +87,7 @@ class EconomySaverStrategyTest {
 
         // Assert
         // Custo base: $5.00 + (20 - 10) * $0.50 = $5.00 + $5.00 = $10.00
-        assertEquals(BigDecimal.valueOf(10.00), cost);
+        assertEquals(new BigDecimal("10.00"), cost);
     }
 
     @Test
@@ -106,7 +108,7 @@ class EconomySaverStrategyTest {
 
         // Assert
         // Custo base: $5.00 + (50 - 10) * $0.50 = $5.00 + $20.00 = $25.00
-        assertEquals(BigDecimal.valueOf(25.00), cost);
+        assertEquals(new BigDecimal("25.00"), cost);
     }
 
     @Test
@@ -127,7 +129,7 @@ class EconomySaverStrategyTest {
 
         // Assert
         // Custo base: $5.00 + (15.5 - 10) * $0.50 = $5.00 + $2.75 = $7.75
-        assertEquals(BigDecimal.valueOf(7.75), cost);
+        assertEquals(new BigDecimal("7.75"), cost);
     }
 
     @Test
@@ -147,7 +149,7 @@ class EconomySaverStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(order);
 
         // Assert
-        assertEquals(BigDecimal.valueOf(5.00), cost);
+        assertEquals(new BigDecimal("5.00"), cost);
     }
 
     @Test
@@ -168,7 +170,40 @@ class EconomySaverStrategyTest {
 
         // Assert
         // Custo base: $5.00 + (11 - 10) * $0.50 = $5.00 + $0.50 = $5.50
-        assertEquals(BigDecimal.valueOf(5.50), cost);
+        assertEquals(new BigDecimal("5.50"), cost);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o mesmo valor em centavos pelo caminho primitivo")
+    void shouldMatchMinorUnitsPath() {
+        // Arrange
+        Order order = new Order(15.5, 10.0, 10.0, 10.0, BigDecimal.valueOf(75.00), LocalDateTime.now());
+
+        // Act
+        long minorUnits = strategy.calculateShippingCostMinor(order);
+
+        // Assert
+        assertEquals(775, minorUnits);
+        assertEquals(2, strategy.calculateShippingCost(order).scale());
     }
-}
 
+    @Test
+    @DisplayName("Deve cotar um lote fora do heap com o mesmo valor de cada pedido")
+    void shouldCalculateBatchLikeSingleOrders() {
+        // Arrange
+        OrderBatch batch = new OrderBatch(5);
+        double[] weights = {0.0, 10.0, 10.01, 15.5, 123.456};
+        for (double weight : weights) {
+            batch.add(weight, 10.0, 10.0, 10.0);
+        }
+
+        // Act
+        strategy.calculateShippingCostsMinor(batch);
+
+        // Assert
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(strategy.calculateShippingCostMinor(new ImmutableParcel(weights[i], 10.0, 10.0, 10.0)), batch.costMinor(i));
+        }
+        assertEquals(775, batch.costMinor(3));
+    }
+}
@@ -0,0 +1,88 @@
+package strategy;
+
+import models.ImmutableParcel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rates.RateProvider;
+import rates.RateTable;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o kernel em lote do HyperSpeed, que deve reproduzir exatamente o cálculo por pedido.
+ */
+@DisplayName("HyperSpeed Batch Kernel Tests")
+class HyperSpeedBatchKernelTest {
+
+    private static final double BASE_RATE = RateTable.defaults().get(ShippingType.HYPER_SPEED).getBracket(0).ratePerUnit();
+    private static final double DIVISOR = RateTable.defaults().get(ShippingType.HYPER_SPEED).getDivisor();
+
+    private final HyperSpeedStrategy strategy = new HyperSpeedStrategy(new RateProvider(RateTable.defaults()));
+
+    @Test
+    @DisplayName("Deve usar a Vector API quando o módulo estiver disponível")
+    void shouldUseVectorApiWhenModuleIsPresent() {
+        // O build de testes inicia a JVM com --add-modules jdk.incubator.vector
+        assertTrue(HyperSpeedBatchKernel.isVectorAvailable());
+    }
+
+    @Test
+    @DisplayName("Deve produzir os mesmos centavos nos caminhos vetorial, escalar e por pedido")
+    void shouldMatchPerOrderPathBitForBit() {
+        // Arrange - tamanho ímpar para exercitar a cauda escalar
+        int size = 10_007;
+        SplittableRandom random = new SplittableRandom(7);
+        double[] weights = new double[size];
+        double[] heights = new double[size];
+        double[] widths = new double[size];
+        double[] lengths = new double[size];
+        for (int i = 0; i < size; i++) {
+            weights[i] = random.nextDouble(0, 80);
+            heights[i] = random.nextDouble(0.1, 60);
+            widths[i] = random.nextDouble(0.1, 60);
+            lengths[i] = random.nextDouble(0.1, 60);
+        }
+        // Pesos que caem perto de meio centavo depois de multiplicados pela taxa
+        weights[0] = 0.125;
+        heights[0] = widths[0] = lengths[0] = 0;
+        weights[1] = 10.00125;
+        heights[1] = widths[1] = lengths[1] = 0;
+        long[] vector = new long[size];
+        long[] scalar = new long[size];
+
+        // Act
+        HyperSpeedBatchKernel.calculateVector(BASE_RATE, DIVISOR, weights, heights, widths, lengths, vector);
+        HyperSpeedBatchKernel.calculateScalar(BASE_RATE, DIVISOR, weights, heights, widths, lengths, scalar);
+
+        // Assert
+        for (int i = 0; i < size; i++) {
+            long expected = strategy.calculateShippingCostMinor(new ImmutableParcel(weights[i], heights[i], widths[i], lengths[i]));
+            assertEquals(expected, scalar[i], "escalar, linha " + i);
+            assertEquals(expected, vector[i], "vetorial, linha " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tratar valores negativos e inválidos como o caminho por pedido")
+    void shouldHandleOutOfRangeValuesLikeScalarPath() {
+        // Arrange
+        double[] weights = {-3.0, 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0};
+        double[] ones = {1, 1, 1, 1, 1, 1, 1, 1, 1};
+        long[] costs = new long[weights.length];
+        double[] invalid = weights.clone();
+        invalid[2] = Double.NaN;
+
+        // Act
+        strategy.calculateShippingCostsMinor(weights, ones, ones, ones, costs);
+
+        // Assert
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(strategy.calculateShippingCostMinor(new ImmutableParcel(weights[i], 1, 1, 1)), costs[i]);
+        }
+        assertThrows(ArithmeticException.class, () -> strategy.calculateShippingCostsMinor(invalid, ones, ones, ones, costs));
+        assertThrows(IllegalArgumentException.class,
+                () -> HyperSpeedBatchKernel.calculate(BASE_RATE, DIVISOR, new double[1], ones, ones, ones, new long[2]));
+    }
+}
@@ -1,6 +1,8 @@
 package strategy;
 
+import models.ImmutableParcel;
 import models.Order;
+import models.OrderBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -47,7 +49,7 @@ class HyperSpeedStrategyTest {
 
         // Assert
         // Custo = $12.00 * 10 = $120.00 (peso real é maior)
-        assertEquals(BigDecimal.valueOf(120.00), cost);
+        assertEquals(new BigDecimal("120.00"), cost);
     }
 
     @Test
@@ -92,7 +94,7 @@ class HyperSpeedStrategyTest {
 
         // Assert
         // Custo = $12.00 * 2 = $24.00 (peso real é maior)
-        assertEquals(BigDecimal.valueOf(24.00), cost);
+        assertEquals(new BigDecimal("24.00"), cost);
     }
 
     @Test
@@ -161,7 +163,7 @@ class HyperSpeedStrategyTest {
 
         // Assert
         // Custo = $12.00 * 1 = $12.00 (peso real é maior)
-        assertEquals(BigDecimal.valueOf(12.00), cost);
+        assertEquals(new BigDecimal("12.00"), cost);
     }
 
     @Test
@@ -209,5 +211,41 @@ class HyperSpeedStrategyTest {
         assertTrue(cost.compareTo(BigDecimal.valueOf(86.00)) > 0);
         assertTrue(cost.compareTo(BigDecimal.valueOf(87.00)) < 0);
     }
-}
 
+    @Test
+    @DisplayName("Deve calcular pelo pacote primitivo o mesmo valor do pedido")
+    void shouldCalculateFromPrimitiveParcel() {
+        // Arrange
+        ImmutableParcel parcel = new ImmutableParcel(1.0, 20.0, 20.0, 20.0);
+        Order order = new Order(1.0, 20.0, 20.0, 20.0, BigDecimal.valueOf(50.00), LocalDateTime.now());
+
+        // Act
+        long fromParcel = strategy.calculateShippingCostMinor(parcel);
+
+        // Assert
+        // Custo = $12.00 * 8000 / 139 = $690.647... -> 69065 centavos
+        assertEquals(69065, fromParcel);
+        assertEquals(Money.toBigDecimal(fromParcel), strategy.calculateShippingCost(order));
+    }
+
+    @Test
+    @DisplayName("Deve cotar um lote fora do heap com o mesmo valor de cada pedido")
+    void shouldCalculateBatchLikeSingleOrders() {
+        // Arrange
+        OrderBatch batch = new OrderBatch(4);
+        double[][] parcels = {{1.0, 20.0, 20.0, 20.0}, {12.0, 10.0, 5.0, 8.0}, {0.3, 1.1, 2.7, 3.9}, {50.0, 0.0, 0.0, 0.0}};
+        for (double[] p : parcels) {
+            batch.add(p[0], p[1], p[2], p[3]);
+        }
+
+        // Act
+        strategy.calculateShippingCostsMinor(batch);
+
+        // Assert
+        for (int i = 0; i < parcels.length; i++) {
+            double[] p = parcels[i];
+            assertEquals(strategy.calculateShippingCostMinor(new ImmutableParcel(p[0], p[1], p[2], p[3])), batch.costMinor(i));
+        }
+        assertEquals(69065, batch.costMinor(0));
+    }
+}
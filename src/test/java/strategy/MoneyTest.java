@@ -0,0 +1,84 @@
+package strategy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o tipo monetário em ponto fixo.
+ *
+ * Verifica o arredondamento explícito para unidades menores e a conversão
+ * para {@link BigDecimal} com escala consistente.
+ */
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Deve converter centavos para BigDecimal sempre com duas casas")
+    void shouldProduceConsistentScale() {
+        assertEquals(new BigDecimal("5.00"), Money.toBigDecimal(500));
+        assertEquals(new BigDecimal("7.75"), Money.ofMinor(775).toBigDecimal());
+        assertEquals(new BigDecimal("0.00"), Money.ZERO.toBigDecimal());
+    }
+
+    @Test
+    @DisplayName("Deve converter BigDecimal para centavos, e não para unidades inteiras")
+    void shouldConvertBigDecimalToMinorUnits() {
+        assertEquals(12000, Money.toMinor(new BigDecimal("120")));
+        assertEquals(500, Money.toMinor(new BigDecimal("5.00")));
+        assertEquals(776, Money.toMinor(new BigDecimal("7.755")));
+        assertEquals(-13, Money.toMinor(new BigDecimal("-0.125")));
+        assertEquals(775, Money.toMinor(Money.toBigDecimal(775)));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o modo de arredondamento informado")
+    void shouldApplyRoundingModes() {
+        assertEquals(13, Money.toMinor(0.125, RoundingMode.HALF_UP));
+        assertEquals(12, Money.toMinor(0.125, RoundingMode.HALF_EVEN));
+        assertEquals(12, Money.toMinor(0.125, RoundingMode.HALF_DOWN));
+        assertEquals(13, Money.toMinor(0.121, RoundingMode.UP));
+        assertEquals(12, Money.toMinor(0.129, RoundingMode.DOWN));
+        assertEquals(-13, Money.toMinor(-0.125, RoundingMode.HALF_UP));
+        assertEquals(-13, Money.toMinor(-0.121, RoundingMode.FLOOR));
+        assertEquals(-12, Money.toMinor(-0.129, RoundingMode.CEILING));
+    }
+
+    @Test
+    @DisplayName("Deve falhar quando o arredondamento é necessário mas não permitido")
+    void shouldFailWhenRoundingIsUnnecessary() {
+        assertEquals(250, Money.toMinor(2.5, RoundingMode.UNNECESSARY));
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(2.501, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    @DisplayName("Deve suportar unidades menores configuráveis")
+    void shouldSupportConfigurableScale() {
+        Money money = Money.of(1.23456, 4, RoundingMode.HALF_UP);
+
+        assertEquals(12346, money.getMinorUnits());
+        assertEquals(new BigDecimal("1.2346"), money.toBigDecimal());
+        assertThrows(IllegalArgumentException.class, () -> Money.ofMinor(1, 10));
+    }
+
+    @Test
+    @DisplayName("Deve somar e multiplicar mantendo a escala")
+    void shouldAddAndMultiply() {
+        Money base = Money.ofMinor(500);
+
+        assertEquals(Money.ofMinor(775), base.plus(Money.ofMinor(275)));
+        assertEquals(Money.ofMinor(250), base.times(0.5, RoundingMode.HALF_UP));
+        assertThrows(IllegalArgumentException.class, () -> base.plus(Money.ofMinor(1, 3)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar valores que não cabem em um long")
+    void shouldRejectOverflow() {
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(1e18, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.toMinor(Double.NaN, RoundingMode.HALF_UP));
+    }
+}
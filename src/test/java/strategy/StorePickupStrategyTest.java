@@ -1,12 +1,13 @@
 package strategy;
 
 import models.Order;
+import notification.AsyncNotifier;
+import notification.InMemoryNotificationSink;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.io.ByteArrayOutputStream;
-import java.io.PrintStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -17,19 +18,20 @@ import static org.junit.jupiter.api.Assertions.*;
  *
  * Regra de negócio:
  * - Custo de frete: $0.00 (gratuito)
- * - Sistema notifica cliente quando pedido estiver pronto
+ * - Sistema notifica cliente quando pedido estiver pronto (de forma assíncrona)
  */
 @DisplayName("Store Pickup Strategy Tests")
 class StorePickupStrategyTest {
 
     private StorePickupStrategy strategy;
-    private final ByteArrayOutputStream outputStreamCaptor = new ByteArrayOutputStream();
-    private final PrintStream originalOut = System.out;
+    private InMemoryNotificationSink sink;
+    private AsyncNotifier notifier;
 
     @BeforeEach
     void setUp() {
-        strategy = new StorePickupStrategy();
-        System.setOut(new PrintStream(outputStreamCaptor));
+        sink = new InMemoryNotificationSink();
+        notifier = new AsyncNotifier(sink);
+        strategy = new StorePickupStrategy(notifier);
     }
 
     @Test
@@ -49,12 +51,13 @@ class StorePickupStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(order);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, cost);
+        assertEquals(new BigDecimal("0.00"), cost);
+        assertEquals(2, cost.scale());
     }
 
     @Test
-    @DisplayName("Deve imprimir mensagem de notificação ao cliente")
-    void shouldPrintNotificationMessage() {
+    @DisplayName("Deve enviar mensagem de notificação ao cliente")
+    void shouldSendNotificationMessage() {
         // Arrange
         Order order = new Order(
             5.0,
@@ -67,10 +70,11 @@ class StorePickupStrategyTest {
 
         // Act
         strategy.calculateShippingCost(order);
+        notifier.close(); // aguarda a entrega das notificações pendentes
 
         // Assert
-        String output = outputStreamCaptor.toString().trim();
-        assertTrue(output.contains("Avisando o cliente quando o pedido ficar pronto para retirada na loja"));
+        assertEquals(1, sink.getMessages().size());
+        assertTrue(sink.getMessages().get(0).contains("Avisando o cliente quando o pedido ficar pronto para retirada na loja"));
     }
 
     @Test
@@ -90,7 +94,7 @@ class StorePickupStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(heavyOrder);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, cost);
+        assertEquals(new BigDecimal("0.00"), cost);
     }
 
     @Test
@@ -110,7 +114,7 @@ class StorePickupStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(largeOrder);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, cost);
+        assertEquals(new BigDecimal("0.00"), cost);
     }
 
     @Test
@@ -130,7 +134,7 @@ class StorePickupStrategyTest {
         BigDecimal cost = strategy.calculateShippingCost(expensiveOrder);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, cost);
+        assertEquals(new BigDecimal("0.00"), cost);
     }
 
     @Test
@@ -147,19 +151,19 @@ class StorePickupStrategyTest {
         BigDecimal cost3 = strategy.calculateShippingCost(order3);
 
         // Assert
-        assertEquals(BigDecimal.ZERO, cost1);
-        assertEquals(BigDecimal.ZERO, cost2);
-        assertEquals(BigDecimal.ZERO, cost3);
+        assertEquals(new BigDecimal("0.00"), cost1);
+        assertEquals(new BigDecimal("0.00"), cost2);
+        assertEquals(new BigDecimal("0.00"), cost3);
 
-        // Verifica que a mensagem foi impressa 3 vezes
-        String output = outputStreamCaptor.toString();
-        int occurrences = output.split("Avisando o cliente", -1).length - 1;
+        // Verifica que a mensagem foi enviada 3 vezes
+        notifier.close();
+        long occurrences = sink.getMessages().stream().filter(m -> m.contains("Avisando o cliente")).count();
         assertEquals(3, occurrences);
     }
 
-    @org.junit.jupiter.api.AfterEach
+    @AfterEach
     void tearDown() {
-        System.setOut(originalOut);
+        notifier.close();
     }
 }
 
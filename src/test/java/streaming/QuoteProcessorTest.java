@@ -0,0 +1,258 @@
+package streaming;
+
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+import strategy.ShippingStrategy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para o processador reativo de cotações.
+ */
+@DisplayName("Quote Processor Tests")
+class QuoteProcessorTest {
+
+    @Test
+    @DisplayName("Deve cotar o fluxo de pedidos preservando a ordem")
+    void shouldQuoteStreamInOrder() throws InterruptedException {
+        // Arrange
+        HyperSpeedStrategy strategy = new HyperSpeedStrategy();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        QuoteProcessor processor = new QuoteProcessor(strategy, executor, 32);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        List<Order> orders = new ArrayList<>();
+
+        // Act
+        try (SubmissionPublisher<Order> source = new SubmissionPublisher<>(executor, 16)) {
+            source.subscribe(processor);
+            for (int i = 0; i < 5_000; i++) {
+                Order order = i % 1000 == 7
+                        ? new Order(Double.NaN, 10.0, 5.0, 8.0, null, null)
+                        : new Order(1.0 + i % 40, 10.0, 5.0, 8.0, null, null, i % 3 == 0 ? "01310-100" : null, null);
+                orders.add(order);
+                source.submit(order);
+            }
+        }
+
+        // Assert
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertEquals(orders.size(), subscriber.results.size());
+        for (int i = 0; i < orders.size(); i++) {
+            QuoteResult result = subscriber.results.get(i);
+            assertSame(orders.get(i), result.order());
+            if (i % 1000 == 7) {
+                assertFalse(result.isSuccess());
+            } else {
+                assertEquals(strategy.calculateShippingCostMinor(orders.get(i)), result.costMinor());
+            }
+        }
+        assertNull(subscriber.error);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a demanda pedida conforme o consumo do assinante")
+    void shouldBoundUpstreamDemandBySubscriberConsumption() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        QuoteProcessor processor = new QuoteProcessor(new EconomySaverStrategy(), executor, 4);
+        CollectingSubscriber subscriber = new CollectingSubscriber(10);
+        processor.subscribe(subscriber);
+        CountingPublisher source = new CountingPublisher();
+
+        // Act
+        source.subscribe(processor);
+        source.emitAvailable(processor);
+        Thread.sleep(200);
+        source.emitAvailable(processor);
+        Thread.sleep(200);
+
+        // Assert - os 10 entregues mais no máximo 2 lotes aguardando
+        assertEquals(10, subscriber.results.size());
+        assertEquals(10 + 2 * 4, source.requested.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve recusar um segundo assinante")
+    void shouldRejectSecondSubscriber() throws InterruptedException {
+        // Arrange
+        QuoteProcessor processor = new QuoteProcessor(new EconomySaverStrategy());
+        CollectingSubscriber first = new CollectingSubscriber(1);
+        CollectingSubscriber second = new CollectingSubscriber(1);
+
+        // Act
+        processor.subscribe(first);
+        processor.subscribe(second);
+
+        // Assert
+        assertTrue(second.completed.await(1, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, second.error);
+        assertEquals(1, first.completed.getCount());
+    }
+
+    @Test
+    @DisplayName("Deve repassar o erro do publicador de pedidos")
+    void shouldPropagateUpstreamError() throws InterruptedException {
+        // Arrange
+        QuoteProcessor processor = new QuoteProcessor(new EconomySaverStrategy());
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+        SubmissionPublisher<Order> source = new SubmissionPublisher<>();
+        source.subscribe(processor);
+
+        // Act
+        source.submit(new Order(12.0, 10.0, 5.0, 8.0, null, null));
+        source.closeExceptionally(new IllegalStateException("feed caiu"));
+
+        // Assert
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertEquals("feed caiu", subscriber.error.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve cotar pedido a pedido quando a estratégia não declarar que cota só pelas medidas")
+    void shouldQuotePerOrderUnlessStrategyOptsIn() throws InterruptedException {
+        // Arrange - pelo caminho em lote o preço do pedido se perderia e o custo seria 99
+        ShippingStrategy byPrice = order -> order.getPrice() == null ? BigDecimal.valueOf(99) : BigDecimal.ONE;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        QuoteProcessor processor = new QuoteProcessor(byPrice, executor, 16);
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        processor.subscribe(subscriber);
+
+        // Act
+        try (SubmissionPublisher<Order> source = new SubmissionPublisher<>(executor, 64)) {
+            source.subscribe(processor);
+            for (int i = 0; i < 500; i++) {
+                source.submit(new Order(12.0, 10.0, 5.0, 8.0, BigDecimal.TEN, null));
+            }
+        }
+
+        // Assert
+        assertTrue(subscriber.completed.await(10, TimeUnit.SECONDS));
+        assertFalse(byPrice.pricesByParcelOnly());
+        assertTrue(new HyperSpeedStrategy().pricesByParcelOnly());
+        assertEquals(500, subscriber.results.size());
+        assertTrue(subscriber.results.stream().allMatch(result -> result.costMinor() == 100));
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve entregar o erro de demanda inválida pela tarefa de drenagem")
+    void shouldSignalInvalidDemandFromDrain() throws InterruptedException {
+        // Arrange
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "quote-drain"));
+        QuoteProcessor processor = new QuoteProcessor(new EconomySaverStrategy(), executor, 4);
+        CountDownLatch signalled = new CountDownLatch(1);
+        AtomicReference<String> errorThread = new AtomicReference<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // Act
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(0);
+            }
+
+            @Override
+            public void onNext(QuoteResult item) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                errorThread.set(Thread.currentThread().getName());
+                error.set(throwable);
+                signalled.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                signalled.countDown();
+            }
+        });
+
+        // Assert
+        assertTrue(signalled.await(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, error.get());
+        assertEquals("quote-drain", errorThread.get());
+        executor.shutdown();
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<QuoteResult> {
+        private final long demand;
+        private final List<QuoteResult> results = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Throwable error;
+
+        private CollectingSubscriber(long demand) {
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(demand);
+        }
+
+        @Override
+        public void onNext(QuoteResult item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+
+    /**
+     * Publicador que entrega exatamente a demanda pedida e registra o total pedido.
+     */
+    private static final class CountingPublisher implements Flow.Publisher<Order> {
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong delivered = new AtomicLong();
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Order> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+
+        private void emitAvailable(Flow.Subscriber<? super Order> subscriber) {
+            while (delivered.get() < requested.get()) {
+                delivered.incrementAndGet();
+                subscriber.onNext(new Order(12.0, 10.0, 5.0, 8.0, null, null));
+            }
+        }
+    }
+}
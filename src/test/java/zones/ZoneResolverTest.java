@@ -0,0 +1,115 @@
+package zones;
+
+import models.Order;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import rates.RateProvider;
+import rates.RateTable;
+import strategy.EconomySaverStrategy;
+import strategy.HyperSpeedStrategy;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes para a resolução de zonas por faixas de CEP e seu uso no preço.
+ */
+@DisplayName("Zone Resolver Tests")
+class ZoneResolverTest {
+
+    private static final String TABLE = """
+            originStart,originEnd,destinationStart,destinationEnd,zone
+            # São Paulo capital
+            01000-000,05999-999,01000-000,05999-999,0
+            01000-000,05999-999,06000-000,19999-999,1
+            01000-000,05999-999,20000-000,28999-999,2
+            # Rio de Janeiro capital
+            20000-000,23799-999,20000-000,23799-999,0
+            20000-000,23799-999,01000-000,05999-999,2
+            """;
+
+    @Test
+    @DisplayName("Deve resolver a zona pelos CEPs de origem e destino")
+    void shouldResolveZoneByPostalCodes() throws IOException {
+        // Arrange
+        ZoneResolver resolver = ZoneResolver.parse(new StringReader(TABLE));
+
+        // Act & Assert
+        assertEquals(5, resolver.size());
+        assertEquals(0, resolver.resolve("01310-100", "04538-133"));
+        assertEquals(1, resolver.resolve("01310100", "13083-970"));
+        assertEquals(2, resolver.resolve("01310-100", "20040-020"));
+        assertEquals(2, resolver.resolve("20040-020", "01310-100"));
+        assertEquals(ZoneResolver.UNKNOWN_ZONE, resolver.resolve("20040-020", "13083-970"));
+        assertEquals(ZoneResolver.UNKNOWN_ZONE, resolver.resolve("30140-071", "01310-100"));
+        assertEquals(ZoneResolver.UNKNOWN_ZONE, resolver.resolve("ABC", "01310-100"));
+        assertEquals(ZoneResolver.UNKNOWN_ZONE, resolver.resolve(null, "01310-100"));
+    }
+
+    @Test
+    @DisplayName("Deve resolver corretamente com centenas de milhares de faixas")
+    void shouldResolveLargeTables() {
+        // Arrange - 500 origens x 600 destinos = 300 mil faixas, com lacunas entre elas
+        List<ZoneRange> ranges = new ArrayList<>();
+        for (int origin = 0; origin < 500; origin++) {
+            for (int destination = 0; destination < 600; destination++) {
+                ranges.add(new ZoneRange(origin * 1000L, origin * 1000L + 899,
+                        destination * 100L, destination * 100L + 49, (origin + destination) % 8));
+            }
+        }
+        ZoneResolver resolver = ZoneResolver.compile(ranges);
+        SplittableRandom random = new SplittableRandom(3);
+
+        // Act & Assert
+        for (int i = 0; i < 100_000; i++) {
+            long origin = random.nextLong(0, 500_000);
+            long destination = random.nextLong(0, 60_000);
+            boolean covered = origin % 1000 <= 899 && destination % 100 <= 49;
+            int expected = covered ? (int) ((origin / 1000 + destination / 100) % 8) : ZoneResolver.UNKNOWN_ZONE;
+            assertEquals(expected, resolver.resolve(origin, destination));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar faixas sobrepostas")
+    void shouldRejectOverlappingRanges() {
+        assertThrows(IllegalArgumentException.class, () -> ZoneResolver.compile(List.of(
+                new ZoneRange(0, 99, 0, 99, 0), new ZoneRange(50, 150, 0, 99, 1))));
+        assertThrows(IllegalArgumentException.class, () -> ZoneResolver.compile(List.of(
+                new ZoneRange(0, 99, 0, 99, 0), new ZoneRange(0, 99, 99, 199, 1))));
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> ZoneResolver.parse(new StringReader("0,99,0,99")));
+        assertTrue(error.getMessage().startsWith("Linha 1"));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar o multiplicador da zona no preço das estratégias")
+    void shouldApplyZoneMultiplierToStrategies() throws IOException {
+        // Arrange
+        ZoneResolver resolver = ZoneResolver.parse(new StringReader(TABLE));
+        RateProvider rates = new RateProvider(RateTable.defaults());
+        EconomySaverStrategy economy = new EconomySaverStrategy(rates, new ZonePricing(resolver, 1.0, 1.2, 1.5));
+        HyperSpeedStrategy hyperSpeed = new HyperSpeedStrategy(rates, new ZonePricing(resolver, 1.0, 1.1, 1.3));
+        Order local = order("01310-100", "04538-133");
+        Order interstate = order("01310-100", "20040-020");
+        Order withoutPostalCodes = new Order(15.0, 10.0, 10.0, 10.0, BigDecimal.TEN, null);
+        Order outsideArea = order("30140-071", "01310-100");
+
+        // Act & Assert - a 15 lb, Economy custa $7.50 e HyperSpeed $180.00 (12 x 15) antes da zona
+        assertEquals(new BigDecimal("7.50"), economy.calculateShippingCost(local));
+        assertEquals(new BigDecimal("11.25"), economy.calculateShippingCost(interstate));
+        assertEquals(new BigDecimal("7.50"), economy.calculateShippingCost(withoutPostalCodes));
+        assertEquals(23400, hyperSpeed.calculateShippingCostMinor(interstate));
+        assertThrows(IllegalArgumentException.class, () -> economy.calculateShippingCost(outsideArea));
+    }
+
+    private static Order order(String origin, String destination) {
+        return new Order(15.0, 10.0, 10.0, 10.0, BigDecimal.TEN, null, origin, destination);
+    }
+}